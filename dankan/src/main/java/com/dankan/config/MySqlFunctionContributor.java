@@ -0,0 +1,24 @@
+package com.dankan.config;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL, QueryDSL 에서 function('이름', ...) 으로 사용할 MySQL 함수 등록
+ * spring.jpa.properties.hibernate.metadata_builder_contributor 로 지정
+ */
+public class MySqlFunctionContributor implements MetadataBuilderContributor {
+
+    @Override
+    public void contribute(MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction("bitand", new SQLFunctionTemplate(StandardBasicTypes.LONG, "(?1 & ?2)"));
+        // (위도1, 경도1, 위도2, 경도2) 사이 거리(m)
+        metadataBuilder.applySqlFunction("distance_sphere", new SQLFunctionTemplate(StandardBasicTypes.DOUBLE,
+                "ST_Distance_Sphere(point(?2, ?1), point(?4, ?3))"));
+        // FULLTEXT(ngram) 관련도. 0 이면 일치하지 않음
+        metadataBuilder.applySqlFunction("match_against", new SQLFunctionTemplate(StandardBasicTypes.DOUBLE,
+                "MATCH (?1) AGAINST (?2 IN BOOLEAN MODE)"));
+    }
+}
@@ -89,8 +89,12 @@ public class SecurityConfig {
                 .antMatchers("/report/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_USER")
                 .antMatchers("/user/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_USER")
                 .antMatchers("/admin/**").hasAnyAuthority("ROLE_ADMIN")
+                .antMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .antMatchers("/actuator/**").hasAnyAuthority("ROLE_ADMIN")
                 .antMatchers("/univ/**").hasAnyAuthority("ROLE_USER", "ROLE_ADMIN")
                 .antMatchers("/review/**").hasAnyAuthority("ROLE_USER", "ROLE_ADMIN")
+                .antMatchers("/search/**").hasAnyAuthority("ROLE_USER", "ROLE_ADMIN")
+                .antMatchers("/region/**").hasAnyAuthority("ROLE_USER", "ROLE_ADMIN")
                 .anyRequest().denyAll()
                 .and().build();
     }
@@ -4,16 +4,22 @@ import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.s3.AmazonS3;
 import com.dankan.repository.*;
+import com.dankan.service.backfill.BackfillService;
+import com.dankan.service.backfill.BackfillServiceImpl;
 import com.dankan.service.chatting.ChattingService;
 import com.dankan.service.chatting.ChattingServiceImpl;
 import com.dankan.service.chatting.DynamoDBService;
 import com.dankan.service.chatting.DynamoDBServiceImpl;
+import com.dankan.service.post.PostAsyncLoader;
+import com.dankan.service.post.PostDetailCache;
+import com.dankan.service.post.PostListingAssembler;
 import com.dankan.service.post.PostService;
 import com.dankan.service.post.PostServiceImpl;
 import com.dankan.service.report.ReportService;
 import com.dankan.service.report.ReportServiceImpl;
 import com.dankan.service.review.ReviewService;
 import com.dankan.service.review.ReviewServiceImpl;
+import com.dankan.service.review.ReviewStatsUpdater;
 import com.dankan.service.image.ImageService;
 import com.dankan.service.image.ImageServiceImpl;
 import com.dankan.repository.TokenRepository;
@@ -21,6 +27,19 @@ import com.dankan.repository.UnivRepository;
 import com.dankan.repository.UserRepository;
 import com.dankan.service.email.EmailService;
 import com.dankan.service.email.EmailServiceImpl;
+import com.dankan.service.heart.HeartService;
+import com.dankan.service.heart.HeartServiceImpl;
+import com.dankan.service.heart.HeartedPostCache;
+import com.dankan.service.listing.AddressRoomResolver;
+import com.dankan.service.listing.FilterResultCache;
+import com.dankan.service.listing.ListingIndex;
+import com.dankan.service.listing.PostListingViewUpdater;
+import com.dankan.service.recent.RecentWatchService;
+import com.dankan.service.recent.RecentWatchServiceImpl;
+import com.dankan.service.region.RegionService;
+import com.dankan.service.region.RegionServiceImpl;
+import com.dankan.service.search.AutocompleteService;
+import com.dankan.service.search.AutocompleteServiceImpl;
 import com.dankan.service.s3.S3UploadService;
 import com.dankan.service.s3.S3UploaderServiceImpl;
 import com.dankan.service.sms.SmsService;
@@ -29,12 +48,20 @@ import com.dankan.service.token.TokenService;
 import com.dankan.service.token.TokenServiceImpl;
 import com.dankan.service.univ.UnivService;
 import com.dankan.service.univ.UnivServiceImpl;
+import com.dankan.service.user.UserProfileCache;
 import com.dankan.service.user.UserService;
 import com.dankan.service.user.UserServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class SpringConfig {
@@ -56,6 +83,16 @@ public class SpringConfig {
     private final DateLogRepository dateLogRepository;
     private final OptionsRepository optionsRepository;
     private final ImageRepository imageRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final RegionRepository regionRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final PostListingViewRepository postListingViewRepository;
+    private final ReviewAggregateRepository reviewAggregateRepository;
+    private final AddressRoomRepository addressRoomRepository;
+    private final ReviewHistogramRepository reviewHistogramRepository;
+    private final ReviewRankBucketRepository reviewRankBucketRepository;
 
     public SpringConfig(final UserRepository userRepository, final AmazonS3 amazonS3Client, final TokenRepository tokenRepository
                         , final PostRepository postRepository
@@ -68,7 +105,17 @@ public class SpringConfig {
                         , final OptionsRepository optionsRepository
                         , final ImageRepository imageRepository
                         , final AmazonDynamoDB amazonDynamoDB
-                        , final DynamoDBMapper dynamoDBMapper){
+                        , final DynamoDBMapper dynamoDBMapper
+                        , final PlatformTransactionManager transactionManager
+                        , final RegionRepository regionRepository
+                        , final StringRedisTemplate stringRedisTemplate
+                        , final MeterRegistry meterRegistry
+                        , final RedisMessageListenerContainer redisMessageListenerContainer
+                        , final PostListingViewRepository postListingViewRepository
+                        , final ReviewAggregateRepository reviewAggregateRepository
+                        , final AddressRoomRepository addressRoomRepository
+                        , final ReviewHistogramRepository reviewHistogramRepository
+                        , final ReviewRankBucketRepository reviewRankBucketRepository){
         this.userRepository = userRepository;
         this.amazonS3Client = amazonS3Client;
         this.tokenRepository = tokenRepository;
@@ -87,11 +134,26 @@ public class SpringConfig {
         this.dateLogRepository = dateLogRepository;
         this.optionsRepository = optionsRepository;
         this.imageRepository = imageRepository;
+        this.transactionManager = transactionManager;
+        this.regionRepository = regionRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.postListingViewRepository = postListingViewRepository;
+        this.reviewAggregateRepository = reviewAggregateRepository;
+        this.addressRoomRepository = addressRoomRepository;
+        this.reviewHistogramRepository = reviewHistogramRepository;
+        this.reviewRankBucketRepository = reviewRankBucketRepository;
     }
 
     @Bean
     public UserService userService() {
-        return new UserServiceImpl(userRepository,tokenRepository, dateLogRepository);
+        return new UserServiceImpl(userRepository,tokenRepository, dateLogRepository,userProfileCache());
+    }
+
+    @Bean
+    public UserProfileCache userProfileCache() {
+        return new UserProfileCache(stringRedisTemplate,userRepository,redisMessageListenerContainer,meterRegistry);
     }
 
     @Bean
@@ -104,15 +166,89 @@ public class SpringConfig {
         return new TokenServiceImpl(tokenRepository, userRepository);
     }
 
+    @Bean
+    public PostListingAssembler postListingAssembler() {
+        return new PostListingAssembler(postListingViewRepository,roomRepository,optionsRepository,imageRepository,heartService());
+    }
+
+    @Bean
+    public PostListingViewUpdater postListingViewUpdater() {
+        return new PostListingViewUpdater(postListingViewRepository,postRepository,optionsRepository,imageRepository);
+    }
+
+    @Bean
+    public AddressRoomResolver addressRoomResolver() {
+        return new AddressRoomResolver(addressRoomRepository,imageRepository);
+    }
+
+    @Bean
+    public ListingIndex listingIndex() {
+        return new ListingIndex(roomRepository,postRepository,optionsRepository,stringRedisTemplate
+                ,redisMessageListenerContainer,filterResultCache());
+    }
+
+    @Bean
+    public FilterResultCache filterResultCache() {
+        return new FilterResultCache(stringRedisTemplate,meterRegistry);
+    }
+
+    @Bean
+    public AutocompleteService autocompleteService() {
+        return new AutocompleteServiceImpl(roomRepository,reviewRepository);
+    }
+
+    @Bean
+    public RegionService regionService() {
+        return new RegionServiceImpl(regionRepository,transactionManager);
+    }
+
+    @Bean
+    public RecentWatchService recentWatchService() {
+        return new RecentWatchServiceImpl(stringRedisTemplate,recentWatchRepository,transactionManager);
+    }
+
+    @Bean
+    public HeartedPostCache heartedPostCache() {
+        return new HeartedPostCache(stringRedisTemplate,redisMessageListenerContainer,meterRegistry);
+    }
+
+    @Bean
+    public HeartService heartService() {
+        return new HeartServiceImpl(stringRedisTemplate,postHeartRepository,dateLogRepository,heartedPostCache(),transactionManager);
+    }
+
+    // Executor 를 빈으로 등록하면 기본 applicationTaskExecutor 가 빠지므로 로더 안에서만 쓴다.
+    // DB 커넥션 풀(기본 10)보다 작게 잡고, 가득 차면 호출 스레드에서 실행한다.
+    @Bean
+    public PostAsyncLoader postAsyncLoader() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("post-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        return new PostAsyncLoader(postRepository,roomRepository,optionsRepository,imageRepository,postListingViewRepository,executor);
+    }
+
+    @Bean
+    public PostDetailCache postDetailCache() {
+        return new PostDetailCache(stringRedisTemplate,redisMessageListenerContainer,meterRegistry);
+    }
+
     @Bean
     public PostService postService() {
-        return new PostServiceImpl(postRepository,roomRepository,postHeartRepository
-                ,dateLogRepository,recentWatchRepository,optionsRepository,imageRepository,userRepository);
+        return new PostServiceImpl(postRepository,roomRepository,heartService()
+                ,dateLogRepository,recentWatchService(),optionsRepository,userRepository
+                ,postListingAssembler(),listingIndex(),autocompleteService(),regionService(),filterResultCache(),postDetailCache(),postAsyncLoader()
+                ,postListingViewRepository,postListingViewUpdater(),addressRoomResolver());
     }
 
     @Bean
     public ImageService roomService() {
-        return new ImageServiceImpl(postRepository,imageRepository,reviewRepository);
+        return new ImageServiceImpl(postRepository,imageRepository,reviewRepository,postDetailCache()
+                ,postListingViewUpdater(),addressRoomResolver());
     }
 
     @Bean
@@ -123,7 +259,14 @@ public class SpringConfig {
 
     @Bean
     public ReviewService reviewService() {
-        return new ReviewServiceImpl(userRepository, reviewRepository, roomRepository,dateLogRepository,imageRepository);
+        return new ReviewServiceImpl(userRepository, reviewRepository,dateLogRepository,imageRepository
+                ,autocompleteService(),regionService(),addressRoomResolver(),reviewAggregateRepository,userProfileCache()
+                ,reviewHistogramRepository,reviewRankBucketRepository,reviewStatsUpdater());
+    }
+
+    @Bean
+    public ReviewStatsUpdater reviewStatsUpdater() {
+        return new ReviewStatsUpdater(reviewAggregateRepository,reviewHistogramRepository,reviewRankBucketRepository);
     }
 
     @Bean
@@ -150,4 +293,11 @@ public class SpringConfig {
     public ChattingService chattingService() {
         return new ChattingServiceImpl(userRepository);
     }
+
+    @Bean
+    public BackfillService backfillService() {
+        return new BackfillServiceImpl(roomRepository,optionsRepository,reviewRepository,regionService()
+                ,postListingViewUpdater(),postListingViewRepository,reviewAggregateRepository,addressRoomResolver()
+                ,reviewHistogramRepository,reviewRankBucketRepository,transactionManager);
+    }
 }
@@ -5,6 +5,7 @@ import com.dankan.dto.response.chatting.ChattingLogResponseDto;
 import com.dankan.dto.response.login.TokenResponseDto;
 import com.dankan.dto.response.report.ReportResponseDto;
 import com.dankan.dto.response.user.UserResponseDto;
+import com.dankan.service.backfill.BackfillService;
 import com.dankan.service.chatting.ChattingService;
 import com.dankan.service.chatting.DynamoDBService;
 import com.dankan.service.report.ReportService;
@@ -22,6 +23,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -40,6 +42,7 @@ public class AdminController {
     private final ReportService reportService;
     private final ChattingService chattingService;
     private final DynamoDBService dynamoDBService;
+    private final BackfillService backfillService;
 
     @Operation(summary = "특정 사용자 정보 api", description = "특정 사용자 정보 조회")
     @ApiResponses(
@@ -170,4 +173,76 @@ public class AdminController {
 
         return ResponseEntity.ok(list);
     }
+
+    @Operation(summary = "매물 옵션 비트마스크 백필 api", description = "options 테이블 값으로 room 옵션 비트마스크 컬럼을 채운다")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "백필 완료, 처리한 매물 수 반환"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            }
+    )
+    @PostMapping("/backfill/room-option-mask")
+    public ResponseEntity<Long> backfillRoomOptionMask() {
+        return ResponseEntity.ok(backfillService.backfillRoomOptionMask());
+    }
+
+    @Operation(summary = "매물 geohash 백필 api", description = "room 위경도로 geohash 컬럼을 채운다")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "백필 완료, 처리한 매물 수 반환"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            }
+    )
+    @PostMapping("/backfill/room-geohash")
+    public ResponseEntity<Long> backfillRoomGeohash() {
+        return ResponseEntity.ok(backfillService.backfillRoomGeohash());
+    }
+
+    @Operation(summary = "행정구역 코드 백필 api", description = "room, review 주소로 행정구역 코드 컬럼을 채운다")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "백필 완료, 처리한 매물, 후기 수 반환"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            }
+    )
+    @PostMapping("/backfill/region-code")
+    public ResponseEntity<Long> backfillRegionCode() {
+        return ResponseEntity.ok(backfillService.backfillRegionCode());
+    }
+
+    @Operation(summary = "게시물 목록 읽기 모델 백필 api", description = "거래 가능한 매물로 post_listing_view 를 다시 만들고 원본이 없는 행을 지운다")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "백필 완료, 처리한 매물 수 반환"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            }
+    )
+    @PostMapping("/backfill/post-listing-view")
+    public ResponseEntity<Long> backfillPostListingView() {
+        return ResponseEntity.ok(backfillService.backfillPostListingView());
+    }
+
+    @Operation(summary = "주소별 후기 집계 백필 api", description = "review 테이블로 review_aggregate 와 별점 분포를 다시 만든다")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "백필 완료, 집계한 주소 수 반환"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            }
+    )
+    @PostMapping("/backfill/review-aggregate")
+    public ResponseEntity<Long> backfillReviewAggregate() {
+        return ResponseEntity.ok(backfillService.backfillReviewAggregate());
+    }
+
+    @Operation(summary = "주소별 대표 매물 백필 api", description = "room 테이블로 address_room 을 채운다")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "백필 완료, 처리한 주소 수 반환"),
+                    @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            }
+    )
+    @PostMapping("/backfill/address-room")
+    public ResponseEntity<Long> backfillAddressRoom() {
+        return ResponseEntity.ok(backfillService.backfillAddressRoom());
+    }
 }
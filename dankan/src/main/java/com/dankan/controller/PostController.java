@@ -2,6 +2,7 @@ package com.dankan.controller;
 
 import com.dankan.dto.request.image.ImageEditRequestDto;
 import com.dankan.dto.request.post.*;
+import com.dankan.dto.response.page.CursorPageResponseDto;
 import com.dankan.dto.request.image.ImageRequestDto;
 import com.dankan.dto.response.post.*;
 import com.dankan.dto.response.image.ImageResponseDto;
@@ -10,6 +11,7 @@ import com.dankan.repository.PostRepository;
 import com.dankan.service.post.PostService;
 import com.dankan.service.image.ImageService;
 import com.dankan.service.s3.S3UploadService;
+import com.dankan.vo.FieldSet;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -40,19 +43,30 @@ public class PostController {
             @ApiResponse(responseCode = "200",description = "매물 번호로 조회 성공 ")
     })
     @GetMapping
-    public ResponseEntity<PostResponseDto> getPostByRoomId(@RequestParam("roomId") Long roomId) {
-        PostResponseDto responseDto = postService.getPostByRoomId(roomId);
+    public ResponseEntity<PostResponseDto> getPostByRoomId(@RequestParam("roomId") Long roomId,
+                                                           @RequestParam(value = "fields",required = false) String fields) {
+        PostResponseDto responseDto = postService.getPostByRoomId(roomId,fields);
         return ResponseEntity.ok(responseDto);
     }
 
+    @ApiOperation("게시물 여러 개 조회 API")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",description = "게시물 여러 개 조회 성공 ")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<PostResponseDto>> getPostBatch(@RequestBody PostBatchRequestDto postBatchRequestDto) {
+        List<PostResponseDto> responseDtoList = postService.findPostBatch(postBatchRequestDto);
+        return ResponseEntity.ok(responseDtoList);
+    }
+
     @ApiOperation("찜한 매물 조회 API")
     @ApiResponses({
             @ApiResponse(responseCode = "200",description = "찜한 매물 조회 성공 ")
     })
     @GetMapping("/heart")
-    public ResponseEntity<List<PostResponseDto>> getHeartPost(@RequestParam("pages") Integer pages) {
-        List<PostResponseDto> responseDtoList = postService.findHeartPost(pages);
-        return ResponseEntity.ok(responseDtoList);
+    public ResponseEntity<CursorPageResponseDto<PostResponseDto>> getHeartPost(@RequestParam(value = "cursor",required = false) String cursor) {
+        CursorPageResponseDto<PostResponseDto> responseDto = postService.findHeartPost(cursor);
+        return ResponseEntity.ok(responseDto);
     }
 
     @ApiOperation("최근 본 매물 N개 조회 API")
@@ -60,9 +74,9 @@ public class PostController {
             @ApiResponse(responseCode = "200",description = "최근 본 매물 조회 성공")
     })
     @GetMapping("/recent/watch")
-    public ResponseEntity<List<PostResponseDto>> getRecentWatchPost(@RequestParam("pages") Integer pages) {
-        List<PostResponseDto> responseDtoList = postService.findRecentWatchPost(pages);
-        return ResponseEntity.ok(responseDtoList);
+    public ResponseEntity<CursorPageResponseDto<PostResponseDto>> getRecentWatchPost(@RequestParam(value = "cursor",required = false) String cursor) {
+        CursorPageResponseDto<PostResponseDto> responseDto = postService.findRecentWatchPost(cursor);
+        return ResponseEntity.ok(responseDto);
     }
 
     /*@ApiOperation("매매 게시물 최신순 조회 API")
@@ -80,9 +94,9 @@ public class PostController {
             @ApiResponse(responseCode = "200",description = "등록한 매매 게시물 조회 성공 ")
     })
     @GetMapping("/my-room")
-    public ResponseEntity<List<PostResponseDto>> getMyPost(@RequestParam("pages") Integer pages) {
-        List<PostResponseDto> responseDtoList = postService.findMyPost(pages);
-        return ResponseEntity.ok(responseDtoList);
+    public ResponseEntity<CursorPageResponseDto<PostResponseDto>> getMyPost(@RequestParam(value = "cursor",required = false) String cursor) {
+        CursorPageResponseDto<PostResponseDto> responseDto = postService.findMyPost(cursor);
+        return ResponseEntity.ok(responseDto);
     }
 
     @ApiOperation("매매 게시물 상세 조회 API")
@@ -90,9 +104,11 @@ public class PostController {
             @ApiResponse(responseCode = "200",description = "매매 게시물 상세 조회 성공 ")
     })
     @GetMapping("/detail")
-    public ResponseEntity<PostDetailResponseDto> getPostDetail(@RequestParam("postId") Long postId) {
-        PostDetailResponseDto responseDto = postService.findPostDetail(postId);
-        return ResponseEntity.ok(responseDto);
+    public ResponseEntity<MappingJacksonValue> getPostDetail(@RequestParam("postId") Long postId,
+                                                             @RequestParam(value = "fields",required = false) String fields) {
+        FieldSet fieldSet = FieldSet.parse(fields,PostDetailResponseDto.class);
+        PostDetailResponseDto responseDto = postService.findPostDetail(postId,fieldSet);
+        return ResponseEntity.ok(fieldSet.toJson(responseDto));
     }
 
     @ApiOperation("매매 게시물 필터 조회 API")
@@ -100,9 +116,39 @@ public class PostController {
             @ApiResponse(responseCode = "200",description = "매매 게시물 필터 조회 성공")
     })
     @PostMapping("/filter")
-    public ResponseEntity<List<PostFilterResponseDto>> doPostFilter(@RequestBody PostFilterRequestDto postFilterRequestDto) {
-        List<PostFilterResponseDto> responseDtoList = postService.getPostByFilter(postFilterRequestDto);
-        return ResponseEntity.ok(responseDtoList);
+    public ResponseEntity<CursorPageResponseDto<PostFilterResponseDto>> doPostFilter(@RequestBody PostFilterRequestDto postFilterRequestDto) {
+        CursorPageResponseDto<PostFilterResponseDto> responseDto = postService.getPostByFilter(postFilterRequestDto);
+        return ResponseEntity.ok(responseDto);
+    }
+
+    @ApiOperation("반경 내 매매 게시물 필터 조회 API")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",description = "반경 내 매매 게시물 필터 조회 성공")
+    })
+    @PostMapping("/filter/radius")
+    public ResponseEntity<CursorPageResponseDto<PostFilterResponseDto>> doPostRadiusFilter(@RequestBody PostRadiusRequestDto postRadiusRequestDto) {
+        CursorPageResponseDto<PostFilterResponseDto> responseDto = postService.getPostByRadius(postRadiusRequestDto);
+        return ResponseEntity.ok(responseDto);
+    }
+
+    @ApiOperation("필터 조건별 매물 수 조회 API")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",description = "필터 조건별 매물 수 조회 성공")
+    })
+    @PostMapping("/filter/facet")
+    public ResponseEntity<PostFacetResponseDto> getFacetCount(@RequestBody PostFacetRequestDto postFacetRequestDto) {
+        PostFacetResponseDto responseDto = postService.getFacetCount(postFacetRequestDto);
+        return ResponseEntity.ok(responseDto);
+    }
+
+    @ApiOperation("지도 영역 내 매매 게시물 필터 조회 API")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",description = "지도 영역 내 매매 게시물 필터 조회 성공")
+    })
+    @PostMapping("/filter/viewport")
+    public ResponseEntity<CursorPageResponseDto<PostFilterResponseDto>> doPostViewportFilter(@RequestBody PostViewportRequestDto postViewportRequestDto) {
+        CursorPageResponseDto<PostFilterResponseDto> responseDto = postService.getPostByViewport(postViewportRequestDto);
+        return ResponseEntity.ok(responseDto);
     }
 
     @ApiOperation("매매 게시물 등록 API")
@@ -191,9 +237,9 @@ public class PostController {
             @ApiResponse(responseCode = "200",description = "거래완료 게시물 조회 성공")
     })
     @GetMapping("/trade-end/list")
-    public ResponseEntity<List<PostResponseDto>> getTradeEndPost(@RequestParam Integer pages) {
-        List<PostResponseDto> responseDtoList = postService.getTradeEndPost(pages);
-        return ResponseEntity.ok(responseDtoList);
+    public ResponseEntity<CursorPageResponseDto<PostResponseDto>> getTradeEndPost(@RequestParam(required = false) String cursor) {
+        CursorPageResponseDto<PostResponseDto> responseDto = postService.getTradeEndPost(cursor);
+        return ResponseEntity.ok(responseDto);
     }
 
     @ApiOperation("주소로 최근 매물 조회")
@@ -201,9 +247,9 @@ public class PostController {
             @ApiResponse(responseCode = "200",description = "주소로 최근 매물 조회 성공")
     })
     @GetMapping("/recent/address")
-    public ResponseEntity<List<PostResponseDto>> getRecentPostByAddress(@RequestParam Integer pages,
-                                                                        @RequestParam String address) {
-        List<PostResponseDto> responseDtoList = postService.findRecentPostByAddress(pages, address);
-        return ResponseEntity.ok(responseDtoList);
+    public ResponseEntity<CursorPageResponseDto<PostResponseDto>> getRecentPostByAddress(@RequestParam(required = false) String cursor,
+                                                                                         @RequestParam String address) {
+        CursorPageResponseDto<PostResponseDto> responseDto = postService.findRecentPostByAddress(cursor, address);
+        return ResponseEntity.ok(responseDto);
     }
 }
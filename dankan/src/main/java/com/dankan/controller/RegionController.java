@@ -0,0 +1,32 @@
+package com.dankan.controller;
+
+import com.dankan.dto.response.region.RegionResponseDto;
+import com.dankan.service.region.RegionService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin
+@RestController
+@RequestMapping("/region")
+@Api(tags = {"행정구역 관련 api"})
+@RequiredArgsConstructor
+public class RegionController {
+    private final RegionService regionService;
+
+    @ApiOperation("하위 행정구역 조회 API")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",description = "하위 행정구역 조회 성공")
+    })
+    @GetMapping("/children")
+    public ResponseEntity<List<RegionResponseDto>> getChildren(@RequestParam(value = "parentCode",required = false) Long parentCode) {
+        List<RegionResponseDto> responseDtoList = regionService.findChildren(parentCode);
+        return ResponseEntity.ok(responseDtoList);
+    }
+}
@@ -2,12 +2,14 @@ package com.dankan.controller;
 
 import com.dankan.dto.request.image.ImageRequestDto;
 import com.dankan.dto.response.image.ImageResponseDto;
+import com.dankan.dto.response.page.CursorPageResponseDto;
 import com.dankan.dto.response.review.ReviewDetailResponseDto;
 import com.dankan.dto.response.review.ReviewRateResponseDto;
 import com.dankan.dto.response.review.ReviewResponseDto;
 import com.dankan.dto.request.review.ReviewDetailRequestDto;
 import com.dankan.dto.request.review.ReviewRequestDto;
 import com.dankan.dto.response.review.ReviewSearchResponse;
+import com.dankan.dto.response.review.ReviewStatsResponseDto;
 import com.dankan.repository.ImageRepository;
 import com.dankan.service.image.ImageService;
 import com.dankan.service.review.ReviewService;
@@ -44,9 +46,20 @@ public class ReviewController {
             @ApiResponse(responseCode = "200",description = "매물 후기 상세 조회 성공 ")
     })
     @GetMapping("/recent")
-    public ResponseEntity<List<ReviewResponseDto>> getReviews(@RequestParam("pages") Integer pages) {
-        List<ReviewResponseDto> responseDtoList = reviewService.findRecentReview(pages);
-        return ResponseEntity.ok(responseDtoList);
+    public ResponseEntity<CursorPageResponseDto<ReviewResponseDto>> getReviews(@RequestParam(value = "cursor",required = false) String cursor) {
+        CursorPageResponseDto<ReviewResponseDto> responseDto = reviewService.findRecentReview(cursor);
+        return ResponseEntity.ok(responseDto);
+    }
+
+    @ApiOperation("동별 매물 후기 조회 API")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",description = "동별 매물 후기 조회 성공")
+    })
+    @GetMapping("/dong")
+    public ResponseEntity<CursorPageResponseDto<ReviewResponseDto>> getReviewsByDong(@RequestParam("dongCode") Long dongCode,
+                                                                                     @RequestParam(value = "cursor",required = false) String cursor) {
+        CursorPageResponseDto<ReviewResponseDto> responseDto = reviewService.findReviewByDong(dongCode,cursor);
+        return ResponseEntity.ok(responseDto);
     }
 
     @ApiOperation("매물 후기 별점순 조회 API")
@@ -54,9 +67,11 @@ public class ReviewController {
             @ApiResponse(responseCode = "200",description = "매물 후기 별점순 조회 성공 ")
     })
     @GetMapping("/star")
-    public ResponseEntity<List<ReviewSearchResponse>> getReviewsByStar(@RequestParam("pages") Integer pages) {
-        List<ReviewSearchResponse> responseDtoList = reviewService.findReviewByStar(pages);
-        return ResponseEntity.ok(responseDtoList);
+    public ResponseEntity<CursorPageResponseDto<ReviewSearchResponse>> getReviewsByStar(@RequestParam(value = "cursor",required = false) String cursor,
+                                                                                        @RequestParam(value = "guCode",required = false) Long guCode,
+                                                                                        @RequestParam(value = "dongCode",required = false) Long dongCode) {
+        CursorPageResponseDto<ReviewSearchResponse> responseDto = reviewService.findReviewByStar(cursor,guCode,dongCode);
+        return ResponseEntity.ok(responseDto);
     }
 
     @ApiOperation("매물 리뷰 평점 조회 API")
@@ -69,14 +84,25 @@ public class ReviewController {
         return ResponseEntity.ok(responseDto);
     }
 
+    @ApiOperation("매물 리뷰 별점 분포 조회 API")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",description = "주소, 동의 세부 별점 분포와 동 안의 백분위 조회 성공")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<ReviewStatsResponseDto> getReviewStats(@RequestParam("address") String address) {
+        ReviewStatsResponseDto responseDto = reviewService.findReviewStats(address);
+        return ResponseEntity.ok(responseDto);
+    }
+
     @ApiOperation("매물 상세 리뷰 조회 API")
     @ApiResponses({
             @ApiResponse(responseCode = "200",description = "매물 상세 리뷰 조회 API")
     })
     @GetMapping("/detail")
-    public ResponseEntity<List<ReviewDetailResponseDto>> getReviewDetail(@RequestParam String address,@RequestParam Integer pages) {
-        List<ReviewDetailResponseDto> responseDtoList = reviewService.findReviewDetail(address,pages);
-        return ResponseEntity.ok(responseDtoList);
+    public ResponseEntity<CursorPageResponseDto<ReviewDetailResponseDto>> getReviewDetail(@RequestParam String address,
+                                                                                          @RequestParam(required = false) String cursor) {
+        CursorPageResponseDto<ReviewDetailResponseDto> responseDto = reviewService.findReviewDetail(address,cursor);
+        return ResponseEntity.ok(responseDto);
     }
 
     @ApiOperation("매물 후기 등록 API")
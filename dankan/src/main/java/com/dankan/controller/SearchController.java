@@ -0,0 +1,33 @@
+package com.dankan.controller;
+
+import com.dankan.dto.response.search.AddressSuggestResponseDto;
+import com.dankan.service.search.AutocompleteService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin
+@RestController
+@RequestMapping("/search")
+@Api(tags = {"검색 관련 api"})
+@RequiredArgsConstructor
+public class SearchController {
+    private final AutocompleteService autocompleteService;
+
+    @ApiOperation("주소, 건물명 자동완성 API")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",description = "자동완성 조회 성공")
+    })
+    @GetMapping("/address")
+    public ResponseEntity<List<AddressSuggestResponseDto>> suggestAddress(@RequestParam("keyword") String keyword
+            ,@RequestParam(value = "size",required = false) Integer size) {
+        List<AddressSuggestResponseDto> responseDtoList = autocompleteService.suggestAddress(keyword,size);
+        return ResponseEntity.ok(responseDtoList);
+    }
+}
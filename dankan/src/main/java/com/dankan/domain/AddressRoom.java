@@ -0,0 +1,34 @@
+package com.dankan.domain;
+
+import io.swagger.annotations.ApiModel;
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 주소 -> 대표 매물, 대표 이미지. 주소 키(AddressParser.toKey) 하나당 한 행이다.
+ * 같은 주소의 첫 매물을 대표로 쓰고, 매물 등록과 대표 매물의 이미지 변경 트랜잭션 안에서 AddressRoomResolver 가 같이 고친다.
+ */
+@ApiModel(value = "주소별 대표 매물 엔티티")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "address_room", indexes = {
+        @Index(name = "idx_address_room_room_id", columnList = "room_id")
+})
+public class AddressRoom {
+
+    @Id
+    @Column(name = "address_key",length = 100,columnDefinition = "varchar")
+    private String addressKey;
+
+    @Column(name = "room_id",nullable = false,columnDefinition = "bigint")
+    private Long roomId;
+
+    // 대표 이미지, 이미지 등록 전이면 null
+    @Column(name = "img_url",columnDefinition = "varchar")
+    private String imgUrl;
+}
@@ -13,7 +13,9 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "images")
+@Table(name = "images", indexes = {
+        @Index(name = "idx_images_id_image_type", columnList = "id, image_type")
+})
 public class Image {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
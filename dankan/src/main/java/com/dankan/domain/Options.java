@@ -18,7 +18,9 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "options")
+@Table(name = "options", indexes = {
+        @Index(name = "idx_options_code_key_value_room_id", columnList = "code_key, value, room_id")
+})
 @IdClass(OptionsId.class)
 public class Options {
     @Id
@@ -18,7 +18,9 @@ import java.util.Date;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_user_id_created_at", columnList = "user_id, created_at")
+})
 public class Post {
 
     @Id
@@ -2,7 +2,6 @@ package com.dankan.domain;
 
 import io.swagger.annotations.ApiModel;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
@@ -15,7 +14,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "post_heart")
+@Table(name = "post_heart", indexes = {
+        @Index(name = "idx_post_heart_user_id_created_at", columnList = "user_id, created_at")
+})
 public class PostHeart {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -31,7 +32,6 @@ public class PostHeart {
     @Column(name = "date_id", columnDefinition = "int")
     private Long dateId;
 
-    @CreationTimestamp
     @Column(name = "created_at",columnDefinition = "datetime")
     private LocalDateTime createdAt;
 
@@ -0,0 +1,119 @@
+package com.dankan.domain;
+
+import com.dankan.enum_converter.DealTypeEnum;
+import com.dankan.enum_converter.PriceTypeEnum;
+import com.dankan.enum_converter.StructureTypeEnum;
+import io.swagger.annotations.ApiModel;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록 조회용 읽기 모델. 거래 가능한 매물의 살아있는 게시물 하나당 한 행이다.
+ * post, room, options, images 를 바꾸는 트랜잭션 안에서 PostListingViewUpdater 가 같이 고친다.
+ */
+@ApiModel(value = "게시물 목록 읽기 모델")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "post_listing_view", indexes = {
+        @Index(name = "uk_post_listing_view_room_id", columnList = "room_id", unique = true),
+        @Index(name = "idx_post_listing_view_room_created_at", columnList = "room_created_at")
+})
+public class PostListingView {
+
+    @Id
+    @Column(name = "post_id", columnDefinition = "int")
+    private Long postId;
+
+    @Column(name = "room_id",nullable = false,columnDefinition = "bigint")
+    private Long roomId;
+
+    @Column(name = "user_id",nullable = false,columnDefinition = "bigint")
+    private Long userId;
+
+    @Column(name = "univ",nullable = false,length = 16,columnDefinition = "varchar")
+    private String univ;
+
+    // 옵션 코드를 풀어 둔 이름
+    @Column(name = "deal_type",nullable = false,length = 16,columnDefinition = "varchar")
+    private String dealType;
+
+    @Column(name = "price_type",nullable = false,length = 16,columnDefinition = "varchar")
+    private String priceType;
+
+    @Column(name = "structure",nullable = false,length = 16,columnDefinition = "varchar")
+    private String structure;
+
+    @Column(name = "price",nullable = false,columnDefinition = "int")
+    private Long price;
+
+    @Column(name = "deposit",nullable = false,columnDefinition = "int")
+    private Long deposit;
+
+    @Column(name = "address",nullable = false,length = 100,columnDefinition = "varchar")
+    private String address;
+
+    @Column(name = "floor",nullable = false,columnDefinition = "int")
+    private Long floor;
+
+    @Column(name = "room_size",nullable = false,columnDefinition = "double")
+    private Double roomSize;
+
+    @Column(name = "real_room_size",nullable = false,columnDefinition = "double")
+    private Double realRoomSize;
+
+    // 대표 이미지, 이미지 등록 전이면 null
+    @Column(name = "img_url",columnDefinition = "varchar")
+    private String imgUrl;
+
+    @Column(name = "post_created_at",nullable = false)
+    private LocalDateTime postCreatedAt;
+
+    @Column(name = "room_created_at",nullable = false)
+    private LocalDateTime roomCreatedAt;
+
+    public static PostListingView of(Post post, Room room, List<Options> optionsList, String imgUrl) {
+        String dealType = "";
+        String priceType = "";
+        String structure = "";
+
+        for (Options options : optionsList) {
+            if (options.getCodeKey().contains("DealType")) {
+                dealType = DealTypeEnum.getDealTypeName(options.getValue());
+            }
+
+            if (options.getCodeKey().contains("PriceType")) {
+                priceType = PriceTypeEnum.getPriceTypeName(options.getValue());
+            }
+
+            if (options.getCodeKey().contains("Structure")) {
+                structure = StructureTypeEnum.getStructureTypeName(options.getValue());
+            }
+        }
+
+        return PostListingView.builder()
+                .postId(post.getPostId())
+                .roomId(room.getRoomId())
+                .userId(post.getUserId())
+                .univ(room.getUniv())
+                .dealType(dealType)
+                .priceType(priceType)
+                .structure(structure)
+                .price(room.getRoomCost().getPrice())
+                .deposit(room.getRoomCost().getDeposit())
+                .address(room.getRoomAddress().getAddress())
+                .floor(room.getRoomStructure().getFloor())
+                .roomSize(room.getRoomStructure().getRoomSize())
+                .realRoomSize(room.getRoomStructure().getRealRoomSize())
+                .imgUrl(imgUrl)
+                .postCreatedAt(post.getCreatedAt())
+                .roomCreatedAt(room.getCreatedAt())
+                .build();
+    }
+}
@@ -2,7 +2,6 @@ package com.dankan.domain;
 
 import io.swagger.annotations.ApiModel;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
@@ -16,7 +15,9 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
-@Table(name = "recent_watch_post")
+@Table(name = "recent_watch_post", indexes = {
+        @Index(name = "idx_recent_watch_post_user_id_updated_at", columnList = "user_id, updated_at")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -33,13 +34,15 @@ public class RecentWatchPost {
     @Column(name = "post_id",nullable = false,columnDefinition = "int")
     private Long postId;
 
-    @CreationTimestamp
+    // 마지막으로 본 시각. Redis 에서 반영할 때 본 시각을 그대로 넣는다.
+    @Column(name = "updated_at",nullable = false,columnDefinition = "datetime")
     private LocalDateTime updatedAt;
 
-    public static RecentWatchPost of(Long userId, Long postId) {
+    public static RecentWatchPost of(Long userId, Long postId, LocalDateTime updatedAt) {
         return RecentWatchPost.builder()
                 .userId(userId)
                 .postId(postId)
+                .updatedAt(updatedAt)
                 .build();
     }
 }
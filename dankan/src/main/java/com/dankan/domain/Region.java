@@ -0,0 +1,34 @@
+package com.dankan.domain;
+
+import io.swagger.annotations.ApiModel;
+import lombok.*;
+
+import javax.persistence.*;
+
+@ApiModel(value = "행정구역 엔티티")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "region", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_region_parent_level_name", columnNames = {"parent_id", "region_level", "name"})
+})
+public class Region {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "region_id", columnDefinition = "int")
+    private Long regionId;
+
+    // 상위 구역 id, 최상위(도, 특별시, 광역시)는 0
+    @Column(name = "parent_id",nullable = false,columnDefinition = "int")
+    private Long parentId;
+
+    @Column(name = "region_level",nullable = false,columnDefinition = "tinyint")
+    private Long regionLevel;
+
+    @Column(name = "name",nullable = false,length = 32,columnDefinition = "varchar")
+    private String name;
+}
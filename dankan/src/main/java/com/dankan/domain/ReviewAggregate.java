@@ -0,0 +1,76 @@
+package com.dankan.domain;
+
+import io.swagger.annotations.ApiModel;
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 주소별 후기 집계. 살아있는 후기의 개수와 항목별 별점 합을 들고 있다.
+ * 후기 작성, 삭제 트랜잭션 안에서 upsert 로 더하고 빼며, 백필로 review 테이블에서 다시 만들 수 있다.
+ * 별점순 목록은 (avg_rate_milli, review_count, address) 인덱스를 커서로 읽는다.
+ * rate_bucket 은 동별 평균 별점 분포(review_rank_bucket)에 반영된 칸이다.
+ */
+@ApiModel(value = "주소별 후기 집계 엔티티")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "review_aggregate", indexes = {
+        @Index(name = "idx_review_aggregate_rank", columnList = "avg_rate_milli desc, review_count desc, address"),
+        @Index(name = "idx_review_aggregate_gu_code_rank", columnList = "gu_code, avg_rate_milli desc, review_count desc, address"),
+        @Index(name = "idx_review_aggregate_dong_code_rank", columnList = "dong_code, avg_rate_milli desc, review_count desc, address")
+})
+public class ReviewAggregate {
+
+    @Id
+    @Column(name = "address",length = 100,columnDefinition = "varchar")
+    private String address;
+
+    @Column(name = "review_count",nullable = false,columnDefinition = "int")
+    private Long reviewCount;
+
+    @Column(name = "total_rate_sum",nullable = false,columnDefinition = "double")
+    private Double totalRateSum;
+
+    @Column(name = "clean_rate_sum",nullable = false,columnDefinition = "bigint")
+    private Long cleanRateSum;
+
+    @Column(name = "noise_rate_sum",nullable = false,columnDefinition = "bigint")
+    private Long noiseRateSum;
+
+    @Column(name = "access_rate_sum",nullable = false,columnDefinition = "bigint")
+    private Long accessRateSum;
+
+    @Column(name = "host_rate_sum",nullable = false,columnDefinition = "bigint")
+    private Long hostRateSum;
+
+    @Column(name = "facility_rate_sum",nullable = false,columnDefinition = "bigint")
+    private Long facilityRateSum;
+
+    // 평균 별점 * 1000 (정렬 키), 합과 같은 문장에서 다시 계산한다.
+    @Column(name = "avg_rate_milli",nullable = false,columnDefinition = "int")
+    private Long avgRateMilli;
+
+    // 행정구역 범위 조회용, 같은 주소면 같은 값
+    @Column(name = "gu_code",columnDefinition = "int")
+    private Long guCode;
+
+    @Column(name = "dong_code",columnDefinition = "int")
+    private Long dongCode;
+
+    // review_rank_bucket 에 올라가 있는 칸, 동이 없으면 null
+    @Column(name = "rate_bucket",columnDefinition = "int")
+    private Long rateBucket;
+
+    // 소수 첫째 자리로 반올림한 평균
+    public static Double average(Number sum, Long count) {
+        if (count == null || count <= 0) {
+            return 0.0;
+        }
+
+        return Math.round(sum.doubleValue() / count * 10) / 10.0;
+    }
+}
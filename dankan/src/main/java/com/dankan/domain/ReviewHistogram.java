@@ -0,0 +1,67 @@
+package com.dankan.domain;
+
+import com.dankan.domain.embedded.ReviewHistogramId;
+import io.swagger.annotations.ApiModel;
+import lombok.*;
+
+import javax.persistence.*;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 세부 별점 분포. (범위, 범위 키, 항목) 하나당 한 행이며 별점 1~5 의 후기 수를 들고 있다.
+ * 범위는 주소(ADDRESS, 키는 주소)와 동(DONG, 키는 dong_code)이다.
+ * 후기 작성, 삭제 트랜잭션 안에서 ReviewStatsUpdater 가 upsert 로 더하고 뺀다.
+ */
+@ApiModel(value = "세부 별점 분포 엔티티")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "review_histogram")
+@IdClass(ReviewHistogramId.class)
+public class ReviewHistogram {
+    public static final String SCOPE_ADDRESS = "ADDRESS";
+    public static final String SCOPE_DONG = "DONG";
+    public static final int MIN_RATE = 1;
+    public static final int MAX_RATE = 5;
+
+    @Id
+    @Column(name = "scope_type",length = 8,columnDefinition = "varchar")
+    private String scopeType;
+
+    @Id
+    @Column(name = "scope_key",length = 100,columnDefinition = "varchar")
+    private String scopeKey;
+
+    @Id
+    @Column(name = "item",length = 16,columnDefinition = "varchar")
+    private String item;
+
+    @Column(name = "count_1",nullable = false,columnDefinition = "int")
+    private Long count1;
+
+    @Column(name = "count_2",nullable = false,columnDefinition = "int")
+    private Long count2;
+
+    @Column(name = "count_3",nullable = false,columnDefinition = "int")
+    private Long count3;
+
+    @Column(name = "count_4",nullable = false,columnDefinition = "int")
+    private Long count4;
+
+    @Column(name = "count_5",nullable = false,columnDefinition = "int")
+    private Long count5;
+
+    // 별점 1~5 순서의 후기 수
+    public List<Long> getCounts() {
+        return Arrays.asList(count1, count2, count3, count4, count5);
+    }
+
+    // 범위를 벗어난 별점은 가까운 끝 칸에 넣는다.
+    public static int toBucket(Long rate) {
+        return (int) Math.max(MIN_RATE, Math.min(MAX_RATE, rate));
+    }
+}
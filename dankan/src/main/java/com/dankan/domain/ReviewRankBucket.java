@@ -0,0 +1,39 @@
+package com.dankan.domain;
+
+import com.dankan.domain.embedded.ReviewRankBucketId;
+import io.swagger.annotations.ApiModel;
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 동별 평균 별점 분포. (dong_code, 평균 별점 0.1 단위 칸) 하나당 한 행이며 그 칸에 속한 주소 수를 들고 있다.
+ * 주소의 동 내 백분위는 이 칸들만 더해서 구하므로 주소, 후기 수와 관계없이 최대 41 행을 읽는다.
+ */
+@ApiModel(value = "동별 평균 별점 분포 엔티티")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "review_rank_bucket")
+@IdClass(ReviewRankBucketId.class)
+public class ReviewRankBucket {
+
+    @Id
+    @Column(name = "dong_code",columnDefinition = "int")
+    private Long dongCode;
+
+    // avg_rate_milli / 100 (평균 1.0 -> 10, 5.0 -> 50)
+    @Id
+    @Column(name = "rate_bucket",columnDefinition = "int")
+    private Long rateBucket;
+
+    @Column(name = "address_count",nullable = false,columnDefinition = "int")
+    private Long addressCount;
+
+    public static Long toRateBucket(Long avgRateMilli) {
+        return avgRateMilli / 100;
+    }
+}
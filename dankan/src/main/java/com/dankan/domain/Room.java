@@ -1,5 +1,6 @@
 package com.dankan.domain;
 
+import com.dankan.domain.embedded.RegionCode;
 import com.dankan.domain.embedded.RoomAddress;
 import com.dankan.domain.embedded.RoomCost;
 import com.dankan.domain.embedded.RoomDiscussion;
@@ -8,6 +9,9 @@ import com.dankan.dto.request.post.PostRoomRequestDto;
 import com.dankan.enum_converter.*;
 import com.dankan.enum_converter.PriceTypeEnum;
 import com.dankan.enum_converter.RoomTypeEnum;
+import com.dankan.util.AddressParser;
+import com.dankan.util.GeoUtil;
+import com.dankan.vo.AddressParts;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.*;
@@ -25,7 +29,12 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "room")
+@Table(name = "room", indexes = {
+        @Index(name = "idx_room_univ_is_tradeable_created_at", columnList = "univ, is_tradeable, created_at"),
+        @Index(name = "idx_room_univ_geohash", columnList = "univ, geohash"),
+        @Index(name = "idx_room_univ_gu_code", columnList = "univ, gu_code"),
+        @Index(name = "idx_room_univ_dong_code", columnList = "univ, dong_code")
+})
 public class Room {
 
     @Id
@@ -53,17 +62,35 @@ public class Room {
     @Embedded
     private RoomAddress roomAddress;
 
+    // 행정구역 코드, 지역 조건은 문자열 대신 이 값으로 비교한다.
+    @Embedded
+    private RegionCode regionCode;
+
     @Column(name = "is_tradeable",nullable = false,columnDefinition = "bit")
     private Boolean isTradeable;
 
     @Column(name = "univ",nullable = false,length = 16,columnDefinition = "varchar")
     private String univ;
 
+    // 옵션 비트마스크 (enum ordinal 기준), options 테이블의 Option, ManagementType, EtcOption 과 같은 값
+    @Column(name = "option_mask",nullable = false,columnDefinition = "int")
+    private long optionMask;
+
+    @Column(name = "management_mask",nullable = false,columnDefinition = "int")
+    private long managementMask;
+
+    @Column(name = "etc_option_mask",nullable = false,columnDefinition = "int")
+    private long etcOptionMask;
+
+    // 위경도 geohash, 지도 검색의 prefix 조건에 사용
+    @Column(name = "geohash",length = GeoUtil.GEOHASH_LENGTH,columnDefinition = "varchar")
+    private String geohash;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
     public static Room of(PostRoomRequestDto postRoomRequestDto,User user) {
-        String[] addressParts = postRoomRequestDto.getAddress().split(" ");
+        AddressParts addressParts = AddressParser.parse(postRoomRequestDto.getAddress());
 
         RoomCost cost = RoomCost.builder()
                 .deposit(postRoomRequestDto.getDeposit())
@@ -86,11 +113,11 @@ public class Room {
 
 
         RoomAddress address = RoomAddress.builder()
-                .doo(addressParts[0])
-                .si(addressParts[1])
-                .gu(addressParts[2])
-                .dong(addressParts[3])
-                .buildingName(addressParts[4])
+                .doo(addressParts.getDoo())
+                .si(addressParts.getSi())
+                .gu(addressParts.getGu())
+                .dong(addressParts.getDong())
+                .buildingName(addressParts.getBuildingName())
                 .latitude(postRoomRequestDto.getLatitude())
                 .longitude(postRoomRequestDto.getLongitude())
                 .address(postRoomRequestDto.getAddress())
@@ -106,6 +133,30 @@ public class Room {
                 .roomAddress(address)
                 .isTradeable(true)
                 .univ(user.getUnivEmail())
+                .optionMask(OptionTypeEnum.getOptionTypeMask(postRoomRequestDto.getOptions()))
+                .managementMask(ManagementTypeEnum.getManagementTypeMask(postRoomRequestDto.getManagementType()))
+                .etcOptionMask(EtcOptionTypeEnum.getEtcOptionTypeMask(postRoomRequestDto.getEtcOptions()))
+                .geohash(GeoUtil.encode(postRoomRequestDto.getLatitude(),postRoomRequestDto.getLongitude(),GeoUtil.GEOHASH_LENGTH))
                 .build();
     }
+
+    public void updateGeohash() {
+        this.geohash = GeoUtil.encode(roomAddress.getLatitude(),roomAddress.getLongitude(),GeoUtil.GEOHASH_LENGTH);
+    }
+
+    public void setOptionMasks(List<Options> optionsList) {
+        for (Options options : optionsList) {
+            if (options.getCodeKey().equals("Option")) {
+                this.optionMask = OptionTypeEnum.getOptionTypeMaskByValues(options.getValue());
+            }
+
+            if (options.getCodeKey().equals("ManagementType")) {
+                this.managementMask = ManagementTypeEnum.getManagementTypeMaskByValues(options.getValue());
+            }
+
+            if (options.getCodeKey().equals("EtcOption")) {
+                this.etcOptionMask = EtcOptionTypeEnum.getEtcOptionTypeMaskByValues(options.getValue());
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.dankan.domain;
 
+import com.dankan.domain.embedded.RegionCode;
 import com.dankan.domain.embedded.ResidencePeriod;
 import com.dankan.dto.request.review.ReviewRequestDto;
 import com.dankan.enum_converter.SatisfyEnum;
@@ -22,7 +23,11 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_address_created_at", columnList = "address, created_at"),
+        @Index(name = "idx_review_deleted_at_created_at", columnList = "deleted_at, created_at"),
+        @Index(name = "idx_review_dong_code_created_at", columnList = "dong_code, created_at")
+})
 public class RoomReview {
 
     @Id
@@ -60,6 +65,9 @@ public class RoomReview {
     @Column(name = "address_detail",length = 50,columnDefinition = "varchar")
     private String addressDetail;
 
+    @Embedded
+    private RegionCode regionCode;
+
     @Column(name = "total_rate",nullable = false,columnDefinition = "double")
     private Double totalRate;
 
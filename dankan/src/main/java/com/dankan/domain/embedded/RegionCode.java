@@ -0,0 +1,29 @@
+package com.dankan.domain.embedded;
+
+import lombok.*;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+/**
+ * 주소의 행정구역 단계별 region id. 해당 단계가 없는 주소는 null
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Embeddable
+public class RegionCode {
+    @Column(name = "doo_code",columnDefinition = "int")
+    private Long dooCode;
+
+    @Column(name = "si_code",columnDefinition = "int")
+    private Long siCode;
+
+    @Column(name = "gu_code",columnDefinition = "int")
+    private Long guCode;
+
+    @Column(name = "dong_code",columnDefinition = "int")
+    private Long dongCode;
+}
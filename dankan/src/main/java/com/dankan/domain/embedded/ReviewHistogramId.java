@@ -0,0 +1,18 @@
+package com.dankan.domain.embedded;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ReviewHistogramId implements Serializable {
+    private String scopeType;
+    private String scopeKey;
+    private String item;
+}
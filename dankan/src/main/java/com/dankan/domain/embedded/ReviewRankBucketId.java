@@ -0,0 +1,17 @@
+package com.dankan.domain.embedded;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ReviewRankBucketId implements Serializable {
+    private Long dongCode;
+    private Long rateBucket;
+}
@@ -0,0 +1,19 @@
+package com.dankan.dto.request.post;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시물 여러 개 조회. post id 와 room id 를 섞어 보낼 수 있고 보낸 순서대로 돌려준다. (post id 먼저)
+ * fields 를 주면 해당 필드만 채운다.
+ */
+@Setter
+@Getter
+public class PostBatchRequestDto {
+    private List<Long> postIds = new ArrayList<>();
+    private List<Long> roomIds = new ArrayList<>();
+    private String fields;
+}
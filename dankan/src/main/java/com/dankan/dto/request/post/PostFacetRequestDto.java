@@ -0,0 +1,13 @@
+package com.dankan.dto.request.post;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 필터 조건별 매물 수 조회. priceBuckets 는 월세 구간 시작값 목록 (없으면 기본 구간)
+ */
+@Getter
+public class PostFacetRequestDto extends PostFilterRequestDto {
+    private List<Long> priceBuckets;
+}
@@ -8,6 +8,11 @@ import java.util.List;
 public class PostFilterRequestDto {
     private String univ;
     private String address;
+    // 행정구역 코드 (/region/children 의 regionCode)
+    private Long dooCode;
+    private Long siCode;
+    private Long guCode;
+    private Long dongCode;
     private String dealType;
     private List<String> roomType;
     private String priceType;
@@ -30,4 +35,5 @@ public class PostFilterRequestDto {
     private Boolean canDeal;
     private String lowCostOrder;
     private String heartOrder;
+    private String cursor;
 }
@@ -0,0 +1,13 @@
+package com.dankan.dto.request.post;
+
+import lombok.Getter;
+
+/**
+ * 중심점에서 radius(m) 이내 매물 필터 조회
+ */
+@Getter
+public class PostRadiusRequestDto extends PostFilterRequestDto {
+    private Double latitude;
+    private Double longitude;
+    private Double radius;
+}
@@ -0,0 +1,14 @@
+package com.dankan.dto.request.post;
+
+import lombok.Getter;
+
+/**
+ * 지도 화면 영역 안의 매물 필터 조회
+ */
+@Getter
+public class PostViewportRequestDto extends PostFilterRequestDto {
+    private Double minLatitude;
+    private Double maxLatitude;
+    private Double minLongitude;
+    private Double maxLongitude;
+}
@@ -0,0 +1,30 @@
+package com.dankan.dto.response.page;
+
+import com.dankan.vo.PageCursor;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    private String nextCursor;
+    private Boolean hasNext;
+
+    public static <T> CursorPageResponseDto<T> of(List<T> content, PageCursor nextCursor) {
+        return ofEncoded(content, nextCursor == null ? null : nextCursor.encode());
+    }
+
+    // PageCursor 가 아닌 커서(RatingCursor 등)는 인코딩한 문자열로 넘긴다.
+    public static <T> CursorPageResponseDto<T> ofEncoded(List<T> content, String nextCursor) {
+        return CursorPageResponseDto.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
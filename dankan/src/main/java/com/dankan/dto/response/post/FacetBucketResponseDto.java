@@ -0,0 +1,29 @@
+package com.dankan.dto.response.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 구간 패싯. min ~ max 를 그대로 필터 조건으로 쓸 수 있다. (max 가 null 이면 상한 없음)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetBucketResponseDto {
+    private Long value;
+    private Long min;
+    private Long max;
+    private Long count;
+
+    public static FacetBucketResponseDto of(Long value, Long min, Long max, Long count) {
+        return FacetBucketResponseDto.builder()
+                .value(value)
+                .min(min)
+                .max(max)
+                .count(count)
+                .build();
+    }
+}
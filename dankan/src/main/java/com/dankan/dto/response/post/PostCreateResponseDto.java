@@ -4,6 +4,7 @@ import com.dankan.domain.Options;
 import com.dankan.domain.Post;
 import com.dankan.domain.Room;
 import com.dankan.enum_converter.*;
+import com.dankan.util.BitMaskUtil;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -88,8 +89,8 @@ public class PostCreateResponseDto {
             }
 
             if (option.getCodeKey().equals("Option")) {
-                for (int i = 0;i<option.getValue().length();i++) {
-                    options += OptionTypeEnum.getOptionTypeName(String.valueOf(option.getValue().charAt(i)))+" ";
+                for (String optionValue : BitMaskUtil.splitValues(option.getValue())) {
+                    options += OptionTypeEnum.getOptionTypeName(optionValue)+" ";
                 }
             }
 
@@ -2,9 +2,11 @@ package com.dankan.dto.response.post;
 
 import com.dankan.domain.Options;
 import com.dankan.domain.Post;
-import com.dankan.domain.PostHeart;
 import com.dankan.domain.Room;
 import com.dankan.enum_converter.*;
+import com.dankan.util.BitMaskUtil;
+import com.dankan.vo.FieldSet;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.*;
 
 import javax.swing.text.html.Option;
@@ -16,8 +18,13 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
+@JsonFilter(FieldSet.FILTER_ID)
 public class PostDetailResponseDto {
+    // 옵션(options 테이블)에서 만드는 필드
+    public static final String[] OPTION_FIELDS = {"dealType", "roomType", "priceType", "structure",
+            "managementType", "options", "etcOptions"};
+
     // post 응답
     private Long postId;
     private LocalDateTime updatedAt;
@@ -57,8 +64,7 @@ public class PostDetailResponseDto {
     private Double latitude;
     private Double longitude;
 
-    public static PostDetailResponseDto of(Post post, Room room, PostHeart postHeart, String imgUrls, List<Options> optionsList) {
-        Boolean isHearted = false;
+    public static PostDetailResponseDto of(Post post, Room room, Boolean isHearted, String imgUrls, List<Options> optionsList) {
         String dealType = "";
         String roomType = "";
         String priceType = "";
@@ -67,10 +73,6 @@ public class PostDetailResponseDto {
         String options = "";
         String etcOptions = "";
 
-        if (postHeart!=null) {
-            isHearted = true;
-        }
-
         for (Options option : optionsList) {
             if (option.getCodeKey().equals("RoomType")) {
                 roomType = RoomTypeEnum.getRoomTypeName(option.getValue());
@@ -95,8 +97,8 @@ public class PostDetailResponseDto {
             }
 
             if (option.getCodeKey().equals("Option")) {
-                for (int i = 0;i<option.getValue().length();i++) {
-                    options += OptionTypeEnum.getOptionTypeName(String.valueOf(option.getValue().charAt(i)))+" ";
+                for (String optionValue : BitMaskUtil.splitValues(option.getValue())) {
+                    options += OptionTypeEnum.getOptionTypeName(optionValue)+" ";
                 }
             }
 
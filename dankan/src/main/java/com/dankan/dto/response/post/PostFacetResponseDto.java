@@ -0,0 +1,71 @@
+package com.dankan.dto.response.post;
+
+import com.dankan.enum_converter.DealTypeEnum;
+import com.dankan.enum_converter.RoomTypeEnum;
+import com.dankan.enum_converter.StructureTypeEnum;
+import com.dankan.service.listing.ListingFacetCount;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostFacetResponseDto {
+    private Long totalCount;
+    private Map<String, Long> dealType;
+    private Map<String, Long> roomType;
+    private Map<String, Long> roomStructure;
+    private List<FacetBucketResponseDto> price;
+    private List<FacetBucketResponseDto> floor;
+
+    public static PostFacetResponseDto of(ListingFacetCount facetCount) {
+        Map<String, Long> dealType = new LinkedHashMap<>();
+        Map<String, Long> roomType = new LinkedHashMap<>();
+        Map<String, Long> roomStructure = new LinkedHashMap<>();
+
+        for (DealTypeEnum type : DealTypeEnum.values()) {
+            dealType.put(type.name(), facetCount.getDealTypeCounts()[Integer.parseInt(type.getValue())]);
+        }
+
+        for (RoomTypeEnum type : RoomTypeEnum.values()) {
+            roomType.put(type.name(), facetCount.getRoomTypeCounts()[Integer.parseInt(type.getValue())]);
+        }
+
+        for (StructureTypeEnum type : StructureTypeEnum.values()) {
+            roomStructure.put(type.name(), facetCount.getStructureTypeCounts()[Integer.parseInt(type.getValue())]);
+        }
+
+        List<FacetBucketResponseDto> price = new ArrayList<>();
+        long[] priceEdges = facetCount.getPriceEdges();
+
+        for (int i = 0; i < priceEdges.length; i++) {
+            Long max = i + 1 < priceEdges.length ? priceEdges[i + 1] - 1 : null;
+            price.add(FacetBucketResponseDto.of((long) i, priceEdges[i], max, facetCount.getPriceCounts()[i]));
+        }
+
+        List<FacetBucketResponseDto> floor = new ArrayList<>();
+
+        for (int i = 0; i < ListingFacetCount.FLOOR_RANGES.length; i++) {
+            long[] range = ListingFacetCount.FLOOR_RANGES[i];
+            Long max = range[1] == Long.MAX_VALUE ? null : range[1];
+            floor.add(FacetBucketResponseDto.of((long) i, range[0], max, facetCount.getFloorCounts()[i]));
+        }
+
+        return PostFacetResponseDto.builder()
+                .totalCount(facetCount.getTotalCount())
+                .dealType(dealType)
+                .roomType(roomType)
+                .roomStructure(roomStructure)
+                .price(price)
+                .floor(floor)
+                .build();
+    }
+}
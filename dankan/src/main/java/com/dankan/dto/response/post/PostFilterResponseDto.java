@@ -2,7 +2,7 @@ package com.dankan.dto.response.post;
 
 import com.dankan.domain.Options;
 import com.dankan.domain.Post;
-import com.dankan.domain.PostHeart;
+import com.dankan.domain.PostListingView;
 import com.dankan.domain.Room;
 import com.dankan.enum_converter.DealTypeEnum;
 import com.dankan.enum_converter.PriceTypeEnum;
@@ -32,8 +32,7 @@ public class PostFilterResponseDto {
     private String imgUrl;
     private LocalDateTime createdAt;
 
-    public static PostFilterResponseDto of(Post post, Room room, PostHeart postHeart, String imgUrl, List<Options> optionsList) {
-        Boolean isHearted = postHeart!=null;
+    public static PostFilterResponseDto of(Post post, Room room, Boolean isHearted, String imgUrl, List<Options> optionsList) {
         String dealType = "";
         String priceType = "";
         String structure = "";
@@ -69,4 +68,22 @@ public class PostFilterResponseDto {
                 .createdAt(post.getCreatedAt())
                 .build();
     }
+
+    public static PostFilterResponseDto of(PostListingView view, Boolean isHearted) {
+        return PostFilterResponseDto.builder()
+                .postId(view.getPostId())
+                .dealType(view.getDealType())
+                .priceType(view.getPriceType())
+                .structure(view.getStructure())
+                .isHearted(isHearted)
+                .price(view.getPrice())
+                .deposit(view.getDeposit())
+                .address(view.getAddress())
+                .floor(view.getFloor())
+                .roomSize(view.getRoomSize())
+                .roomRealSize(view.getRealRoomSize())
+                .imgUrl(view.getImgUrl())
+                .createdAt(view.getPostCreatedAt())
+                .build();
+    }
 }
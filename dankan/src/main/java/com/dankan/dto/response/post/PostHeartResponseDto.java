@@ -12,11 +12,15 @@ import java.util.UUID;
 public class PostHeartResponseDto {
     private Long postId;
     private Long userId;
+    private Boolean isHearted;
+    private Long heartCount;
 
-    public static PostHeartResponseDto of(Long postId, Long userId) {
+    public static PostHeartResponseDto of(Long postId, Long userId, Boolean isHearted, Long heartCount) {
         return PostHeartResponseDto.builder()
                 .postId(postId)
                 .userId(userId)
+                .isHearted(isHearted)
+                .heartCount(heartCount)
                 .build();
     }
 }
@@ -2,7 +2,7 @@ package com.dankan.dto.response.post;
 
 import com.dankan.domain.Options;
 import com.dankan.domain.Post;
-import com.dankan.domain.PostHeart;
+import com.dankan.domain.PostListingView;
 import com.dankan.domain.Room;
 import com.dankan.enum_converter.DealTypeEnum;
 import com.dankan.enum_converter.PriceTypeEnum;
@@ -19,6 +19,9 @@ import java.util.List;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class PostResponseDto {
+    // 옵션(options 테이블)에서 만드는 필드
+    public static final String[] OPTION_FIELDS = {"dealType", "priceType", "structure"};
+
     private Long postId;
     private String dealType;
     private Boolean isHearted;
@@ -33,8 +36,7 @@ public class PostResponseDto {
     private String imgUrl;
     private String univ;
 
-    public static PostResponseDto of(Post post, Room room, PostHeart postHeart, String imgUrl, List<Options> optionsList) {
-        Boolean isHearted = postHeart!=null;
+    public static PostResponseDto of(Post post, Room room, Boolean isHearted, String imgUrl, List<Options> optionsList) {
         String dealType = "";
         String priceType = "";
         String structure = "";
@@ -104,4 +106,23 @@ public class PostResponseDto {
                 .univ(room.getUniv())
                 .build();
     }
+
+    // 목록 읽기 모델 한 행으로 만든다. 찜 여부를 보여주지 않는 목록이면 isHearted 는 null
+    public static PostResponseDto of(PostListingView view, Boolean isHearted) {
+        return PostResponseDto.builder()
+                .postId(view.getPostId())
+                .dealType(view.getDealType())
+                .priceType(view.getPriceType())
+                .structure(view.getStructure())
+                .isHearted(isHearted)
+                .price(view.getPrice())
+                .deposit(view.getDeposit())
+                .address(view.getAddress())
+                .floor(view.getFloor())
+                .roomSize(view.getRoomSize())
+                .roomRealSize(view.getRealRoomSize())
+                .imgUrl(view.getImgUrl())
+                .univ(view.getUniv())
+                .build();
+    }
 }
@@ -0,0 +1,25 @@
+package com.dankan.dto.response.region;
+
+import com.dankan.domain.Region;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegionResponseDto {
+    private Long regionCode;
+    private Long regionLevel;
+    private String name;
+
+    public static RegionResponseDto of(Region region) {
+        return RegionResponseDto.builder()
+                .regionCode(region.getRegionId())
+                .regionLevel(region.getRegionLevel())
+                .name(region.getName())
+                .build();
+    }
+}
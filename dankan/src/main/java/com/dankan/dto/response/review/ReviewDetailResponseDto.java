@@ -2,7 +2,7 @@ package com.dankan.dto.response.review;
 
 import com.dankan.domain.Image;
 import com.dankan.domain.RoomReview;
-import com.dankan.domain.User;
+import com.dankan.vo.UserProfile;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -26,7 +26,7 @@ public class ReviewDetailResponseDto {
     private String imgUrl;
     private String roomType;
 
-    public static ReviewDetailResponseDto of(User user, RoomReview roomReview, List<Image> imageList) {
+    public static ReviewDetailResponseDto of(UserProfile profile, RoomReview roomReview, List<Image> imageList) {
         String imgUrls = "";
 
         for (Image img : imageList) {
@@ -34,7 +34,7 @@ public class ReviewDetailResponseDto {
         }
 
         return ReviewDetailResponseDto.builder()
-                .nickname(user.getNickname())
+                .nickname(profile.getNickname())
                 .totalRate(roomReview.getTotalRate())
                 .startedAt(roomReview.getResidencePeriod().getStartedAt())
                 .endAt(roomReview.getResidencePeriod().getEndAt())
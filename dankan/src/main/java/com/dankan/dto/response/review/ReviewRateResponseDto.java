@@ -2,6 +2,7 @@ package com.dankan.dto.response.review;
 
 import com.dankan.domain.Options;
 import com.dankan.domain.Room;
+import com.dankan.domain.ReviewAggregate;
 import com.dankan.domain.RoomReview;
 import com.dankan.enum_converter.RoomTypeEnum;
 import com.dankan.enum_converter.SatisfyEnum;
@@ -68,4 +69,20 @@ public class ReviewRateResponseDto {
                 .imgUrl(imgUrl)
                 .build();
     }
+
+    public static ReviewRateResponseDto of(ReviewAggregate reviewAggregate,String imgUrl) {
+        Long reviewCount = reviewAggregate.getReviewCount();
+
+        return ReviewRateResponseDto.builder()
+                .address(reviewAggregate.getAddress())
+                .reviewCount(reviewCount)
+                .avgTotalRate(ReviewAggregate.average(reviewAggregate.getTotalRateSum(),reviewCount))
+                .avgCleanRate(ReviewAggregate.average(reviewAggregate.getCleanRateSum(),reviewCount))
+                .avgNoiseRate(ReviewAggregate.average(reviewAggregate.getNoiseRateSum(),reviewCount))
+                .avgAccessRate(ReviewAggregate.average(reviewAggregate.getAccessRateSum(),reviewCount))
+                .avgHostRate(ReviewAggregate.average(reviewAggregate.getHostRateSum(),reviewCount))
+                .avgFacilityRate(ReviewAggregate.average(reviewAggregate.getFacilityRateSum(),reviewCount))
+                .imgUrl(imgUrl)
+                .build();
+    }
 }
@@ -3,6 +3,7 @@ package com.dankan.dto.response.review;
 import com.dankan.domain.*;
 import com.dankan.enum_converter.RoomTypeEnum;
 import com.dankan.enum_converter.SatisfyEnum;
+import com.dankan.vo.UserProfile;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
@@ -29,25 +30,12 @@ public class ReviewResponseDto {
     private String address;
     private String imgUrl;
 
-    public static ReviewResponseDto of(User user,RoomReview roomReview) {
+    public static ReviewResponseDto of(UserProfile profile, RoomReview roomReview, String imgUrls) {
         return ReviewResponseDto.builder()
                 .reviewId(roomReview.getReviewId())
                 .createdAt(roomReview.getCreatedAt())
                 .totalRate(roomReview.getTotalRate())
-                .nickName(user.getNickname())
-                .content(roomReview.getContent())
-                .startedAt(roomReview.getResidencePeriod().getStartedAt())
-                .endAt(roomReview.getResidencePeriod().getEndAt())
-                .address(roomReview.getAddress())
-                .build();
-    }
-
-    public static ReviewResponseDto of(User user, RoomReview roomReview, String imgUrls) {
-        return ReviewResponseDto.builder()
-                .reviewId(roomReview.getReviewId())
-                .createdAt(roomReview.getCreatedAt())
-                .totalRate(roomReview.getTotalRate())
-                .nickName(user.getNickname())
+                .nickName(profile.getNickname())
                 .content(roomReview.getContent())
                 .startedAt(roomReview.getResidencePeriod().getStartedAt())
                 .endAt(roomReview.getResidencePeriod().getEndAt())
@@ -1,5 +1,6 @@
 package com.dankan.dto.response.review;
 
+import com.dankan.domain.ReviewAggregate;
 import com.dankan.domain.RoomReview;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
@@ -36,4 +37,13 @@ public class ReviewSearchResponse {
                 .imgUrl(imgUrl)
                 .build();
     }
+
+    public static ReviewSearchResponse of(ReviewAggregate reviewAggregate,String imgUrl) {
+        return ReviewSearchResponse.builder()
+                .address(reviewAggregate.getAddress())
+                .avgTotalRate(ReviewAggregate.average(reviewAggregate.getTotalRateSum(),reviewAggregate.getReviewCount()))
+                .detailReviewCount(reviewAggregate.getReviewCount())
+                .imgUrl(imgUrl)
+                .build();
+    }
 }
@@ -0,0 +1,72 @@
+package com.dankan.dto.response.review;
+
+import com.dankan.domain.ReviewAggregate;
+import com.dankan.domain.ReviewHistogram;
+import com.dankan.enum_converter.ReviewRateItemEnum;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReviewStatsResponseDto {
+    private String address;
+    private Long reviewCount;
+    private Double avgTotalRate;
+    // 항목 -> 별점 1~5 순서의 후기 수
+    private Map<String, List<Long>> histogram;
+    private Long dongCode;
+    private Map<String, List<Long>> dongHistogram;
+    // 동 안에서 평균 별점이 이 주소보다 낮은 주소 비율(%), 같은 칸은 절반으로 센다.
+    private Double percentileRank;
+    private Long dongAddressCount;
+
+    public static ReviewStatsResponseDto of(ReviewAggregate reviewAggregate,
+                                            List<ReviewHistogram> histogramList,
+                                            List<ReviewHistogram> dongHistogramList,
+                                            Double percentileRank,
+                                            Long dongAddressCount) {
+        Long reviewCount = reviewAggregate.getReviewCount();
+        ReviewStatsResponseDtoBuilder builder = ReviewStatsResponseDto.builder()
+                .address(reviewAggregate.getAddress())
+                .reviewCount(reviewCount)
+                .avgTotalRate(ReviewAggregate.average(reviewAggregate.getTotalRateSum(),reviewCount))
+                .histogram(toHistogram(histogramList));
+
+        if (reviewAggregate.getDongCode() == null) {
+            return builder.build();
+        }
+
+        builder.dongCode(reviewAggregate.getDongCode())
+                .dongHistogram(toHistogram(dongHistogramList));
+
+        if (percentileRank != null) {
+            builder.percentileRank(percentileRank)
+                    .dongAddressCount(dongAddressCount);
+        }
+
+        return builder.build();
+    }
+
+    // 후기가 없는 항목도 0 으로 채운다.
+    private static Map<String, List<Long>> toHistogram(List<ReviewHistogram> histogramList) {
+        Map<String, List<Long>> histogram = new LinkedHashMap<>();
+
+        for (ReviewRateItemEnum item : ReviewRateItemEnum.values()) {
+            histogram.put(item.getValue(), Arrays.asList(0L, 0L, 0L, 0L, 0L));
+        }
+
+        for (ReviewHistogram reviewHistogram : histogramList) {
+            if (histogram.containsKey(reviewHistogram.getItem())) {
+                histogram.put(reviewHistogram.getItem(), reviewHistogram.getCounts());
+            }
+        }
+
+        return histogram;
+    }
+}
@@ -0,0 +1,24 @@
+package com.dankan.dto.response.search;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AddressSuggestResponseDto {
+    private String keyword;
+    private String type;
+    private Integer listingCount;
+    private Integer reviewCount;
+
+    public static AddressSuggestResponseDto of(String keyword, String type, Integer listingCount, Integer reviewCount) {
+        return AddressSuggestResponseDto.builder()
+                .keyword(keyword)
+                .type(type)
+                .listingCount(listingCount)
+                .reviewCount(reviewCount)
+                .build();
+    }
+}
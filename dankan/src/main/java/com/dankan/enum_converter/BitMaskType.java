@@ -0,0 +1,17 @@
+package com.dankan.enum_converter;
+
+/**
+ * 비트마스크로 저장하는 옵션 enum. ordinal 번째 비트를 쓴다.
+ */
+public interface BitMaskType {
+    String name();
+
+    int ordinal();
+
+    // options 테이블에 저장되는 코드
+    String getValue();
+
+    default long getMask() {
+        return 1L << ordinal();
+    }
+}
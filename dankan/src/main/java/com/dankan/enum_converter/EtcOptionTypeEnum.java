@@ -2,10 +2,11 @@ package com.dankan.enum_converter;
 
 import com.dankan.exception.type.InvalidEtcOptionTypeException;
 import com.dankan.exception.type.InvalidOptionTypeException;
+import com.dankan.util.BitMaskUtil;
 import lombok.Getter;
 
 @Getter
-public enum EtcOptionTypeEnum {
+public enum EtcOptionTypeEnum implements BitMaskType {
     주차가능("0"),
     반려동물("1"),
     여성전용("2"),
@@ -34,4 +35,14 @@ public enum EtcOptionTypeEnum {
         }
         throw new InvalidEtcOptionTypeException(inputValue);
     }
+
+    // 공백으로 구분된 이름 목록 -> 비트마스크 ex) "주차가능 반려동물"
+    public static long getEtcOptionTypeMask(String inputTypes) {
+        return BitMaskUtil.toMask(EtcOptionTypeEnum.class, inputTypes, InvalidEtcOptionTypeException::new);
+    }
+
+    // 저장된 코드 문자열 -> 비트마스크 ex) "13"
+    public static long getEtcOptionTypeMaskByValues(String inputValues) {
+        return BitMaskUtil.toMaskByValues(EtcOptionTypeEnum.class, inputValues, InvalidEtcOptionTypeException::new);
+    }
 }
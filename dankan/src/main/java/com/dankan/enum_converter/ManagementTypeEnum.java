@@ -2,10 +2,11 @@ package com.dankan.enum_converter;
 
 import com.dankan.exception.type.InvalidEtcOptionTypeException;
 import com.dankan.exception.type.InvalidManagementTypeException;
+import com.dankan.util.BitMaskUtil;
 import lombok.Getter;
 
 @Getter
-public enum ManagementTypeEnum {
+public enum ManagementTypeEnum implements BitMaskType {
     전기세("0"),
     가스비("1"),
     수도세("2"),
@@ -35,4 +36,14 @@ public enum ManagementTypeEnum {
         }
         throw new InvalidManagementTypeException(inputValue);
     }
+
+    // 공백으로 구분된 이름 목록 -> 비트마스크 ex) "전기세 수도세"
+    public static long getManagementTypeMask(String inputTypes) {
+        return BitMaskUtil.toMask(ManagementTypeEnum.class, inputTypes, InvalidManagementTypeException::new);
+    }
+
+    // 저장된 코드 문자열 -> 비트마스크 ex) "024"
+    public static long getManagementTypeMaskByValues(String inputValues) {
+        return BitMaskUtil.toMaskByValues(ManagementTypeEnum.class, inputValues, InvalidManagementTypeException::new);
+    }
 }
@@ -2,10 +2,11 @@ package com.dankan.enum_converter;
 
 import com.dankan.exception.type.InvalidOptionTypeException;
 import com.dankan.exception.type.InvalidPriceTypeException;
+import com.dankan.util.BitMaskUtil;
 import lombok.Getter;
 
 @Getter
-public enum OptionTypeEnum {
+public enum OptionTypeEnum implements BitMaskType {
     에어컨("0"),
     냉장고("1"),
     세탁기("2"),
@@ -42,4 +43,19 @@ public enum OptionTypeEnum {
         }
         throw new InvalidOptionTypeException(String.valueOf(inputValue));
     }
+
+    // 공백으로 구분된 이름 목록 -> 비트마스크 ex) "에어컨 냉장고"
+    public static long getOptionTypeMask(String inputTypes) {
+        return BitMaskUtil.toMask(OptionTypeEnum.class, inputTypes, InvalidOptionTypeException::new);
+    }
+
+    // 저장된 코드 문자열 -> 비트마스크 ex) "01-1"
+    public static long getOptionTypeMaskByValues(String inputValues) {
+        return BitMaskUtil.toMaskByValues(OptionTypeEnum.class, inputValues, InvalidOptionTypeException::new);
+    }
+
+    // 풀옵션 = 에어컨, 냉장고, 세탁기, 가스레인지
+    public static long getFullOptionMask() {
+        return 에어컨.getMask() | 냉장고.getMask() | 세탁기.getMask() | 가스레인지.getMask();
+    }
 }
@@ -0,0 +1,20 @@
+package com.dankan.enum_converter;
+
+import lombok.Getter;
+
+/**
+ * 행정구역 단계. region.region_level 값
+ */
+@Getter
+public enum RegionLevelEnum {
+    DOO(1L),
+    SI(2L),
+    GU(3L),
+    DONG(4L);
+
+    private final Long value;
+
+    RegionLevelEnum(Long value) {
+        this.value = value;
+    }
+}
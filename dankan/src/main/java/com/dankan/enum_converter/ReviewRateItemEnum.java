@@ -0,0 +1,37 @@
+package com.dankan.enum_converter;
+
+import com.dankan.domain.RoomReview;
+import lombok.Getter;
+
+/**
+ * 후기 세부 별점 항목. review_histogram.item 값
+ */
+@Getter
+public enum ReviewRateItemEnum {
+    CLEAN("clean"),
+    NOISE("noise"),
+    ACCESS("access"),
+    HOST("host"),
+    FACILITY("facility");
+
+    private final String value;
+
+    ReviewRateItemEnum(String value) {
+        this.value = value;
+    }
+
+    public Long getRate(RoomReview roomReview) {
+        switch (this) {
+            case CLEAN:
+                return roomReview.getCleanRate();
+            case NOISE:
+                return roomReview.getNoiseRate();
+            case ACCESS:
+                return roomReview.getAccessRate();
+            case HOST:
+                return roomReview.getHostRate();
+            default:
+                return roomReview.getFacilityRate();
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.dankan.exception;
 
 import com.dankan.exception.chatting.ChattingRoomDataNotExistException;
+import com.dankan.exception.field.InvalidFieldException;
+import com.dankan.exception.geo.InvalidGeoBoundsException;
+import com.dankan.exception.heart.HeartUnavailableException;
 import com.dankan.exception.options.OptionNotFoundException;
+import com.dankan.exception.page.InvalidCursorException;
 import com.dankan.exception.post.PostNotFoundException;
+import com.dankan.exception.post.PostBatchSizeExceededException;
 import com.dankan.exception.report.PostReportNotFoundException;
 import com.dankan.exception.report.ReviewReportNotFoundException;
 import com.dankan.exception.review.ReviewDuplicatedException;
@@ -158,4 +163,34 @@ public class ApiExceptionHandler {
         ApiErrorResponse response = new ApiErrorResponse("ERROR-0023", "review already exists - address : + " +ex.getMessage());
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiErrorResponse> handleException(InvalidCursorException ex) {
+        ApiErrorResponse response = new ApiErrorResponse("ERROR-0024", "Invalid cursor : " + ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidGeoBoundsException.class)
+    public ResponseEntity<ApiErrorResponse> handleException(InvalidGeoBoundsException ex) {
+        ApiErrorResponse response = new ApiErrorResponse("ERROR-0025", "Invalid location range : " + ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(PostBatchSizeExceededException.class)
+    public ResponseEntity<ApiErrorResponse> handleException(PostBatchSizeExceededException ex) {
+        ApiErrorResponse response = new ApiErrorResponse("ERROR-0026", "Too many posts requested : " + ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidFieldException.class)
+    public ResponseEntity<ApiErrorResponse> handleException(InvalidFieldException ex) {
+        ApiErrorResponse response = new ApiErrorResponse("ERROR-0027", "Unknown response field : " + ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(HeartUnavailableException.class)
+    public ResponseEntity<ApiErrorResponse> handleException(HeartUnavailableException ex) {
+        ApiErrorResponse response = new ApiErrorResponse("ERROR-0028", "Heart is temporarily unavailable : post id is " + ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
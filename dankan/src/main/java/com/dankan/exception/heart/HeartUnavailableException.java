@@ -0,0 +1,18 @@
+package com.dankan.exception.heart;
+
+import com.dankan.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class HeartUnavailableException extends RuntimeException {
+    private String message;
+    private ErrorCode code;
+
+    public HeartUnavailableException(String postId) {
+        super(postId);
+        this.message = postId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dankan.exception.page;
+
+import com.dankan.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+    private String message;
+    private ErrorCode code;
+
+    public InvalidCursorException(String cursor) {
+        super(cursor);
+        this.message = cursor;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dankan.exception.post;
+
+import com.dankan.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class PostBatchSizeExceededException extends RuntimeException {
+    private String message;
+    private ErrorCode code;
+
+    public PostBatchSizeExceededException(String size) {
+        super(size);
+        this.message = size;
+    }
+}
@@ -0,0 +1,30 @@
+package com.dankan.repository;
+
+import com.dankan.domain.AddressRoom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AddressRoomRepository extends JpaRepository<AddressRoom, String> {
+    @Query("select a from AddressRoom a where a.addressKey in :addressKeys")
+    List<AddressRoom> findByAddressKeyIn(@Param("addressKeys") Collection<String> addressKeys);
+
+    // 이미 대표 매물이 있는 주소면 그대로 둔다. (동시 등록에도 한 문장으로 처리)
+    @Modifying
+    @Query(value = "insert into address_room (address_key, room_id, img_url) values (:addressKey, :roomId, :imgUrl) "
+            +"on duplicate key update room_id = room_id",nativeQuery = true)
+    int insertIfAbsent(@Param("addressKey") String addressKey,
+                       @Param("roomId") Long roomId,
+                       @Param("imgUrl") String imgUrl);
+
+    // 대표 매물이 아니면 바뀌는 행이 없다.
+    @Modifying
+    @Query("update AddressRoom a set a.imgUrl = :imgUrl where a.roomId = :roomId")
+    int updateImgUrl(@Param("roomId") Long roomId, @Param("imgUrl") String imgUrl);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +20,12 @@ public interface ImageRepository extends JpaRepository<Image,Long> {
                                   @Param("imageUrl") String imageUrl,
                                   @Param("imageType") Long imageType);
 
-    @Query("select i from Image i where i.id = :id "+
-          "and i.imageType = :imageType")
-    Optional<Image> findMainImage(@Param("id") Long id,@Param("imageType") Long imageType);
+    @Query("select i from Image i where i.id in :ids "+
+          "and i.imageType = :imageType order by i.imageId")
+    List<Image> findMainImages(@Param("ids") Collection<Long> ids,@Param("imageType") Long imageType);
+
+    // 후기 이미지처럼 한 대상에 여러 장이 붙는 경우 대상 묶음의 이미지를 한 번에 읽는다.
+    @Query("select i from Image i where i.id in :ids "+
+          "and i.imageType = :imageType order by i.id, i.imageId")
+    List<Image> findByIdInAndImageType(@Param("ids") Collection<Long> ids,@Param("imageType") Long imageType);
 }
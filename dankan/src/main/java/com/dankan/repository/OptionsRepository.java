@@ -7,12 +7,14 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OptionsRepository extends JpaRepository<Options, OptionsId> {
     List<Options> findByRoomId(Long roomId);
+    List<Options> findByRoomIdIn(Collection<Long> roomIds);
 
     @Query(value = "select o from Options o where o.roomId=:roomId "+
             "and o.codeKey = :codeKey")
@@ -3,8 +3,12 @@ package com.dankan.repository;
 import com.dankan.domain.PostHeart;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,5 +16,17 @@ import java.util.UUID;
 public interface PostHeartRepository extends JpaRepository<PostHeart, Long> {
     PostHeart findByUserIdAndPostId(Long userId, Long postId);
     List<PostHeart> findByPostId(Long postId);
+    List<PostHeart> findByUserIdAndPostIdIn(Long userId, Collection<Long> postIds);
     List<PostHeart> findByUserId(Long userId, Pageable pageable);
+    List<PostHeart> findAllByUserId(Long userId);
+    List<PostHeart> findByUserIdInAndPostIdIn(Collection<Long> userIds, Collection<Long> postIds);
+    long countByPostId(Long postId);
+
+    @Query("select ph from PostHeart ph where ph.userId = :userId and "
+          +"(ph.createdAt < :createdAt or (ph.createdAt = :createdAt and ph.postId < :id)) "
+          +"order by ph.createdAt desc, ph.postId desc")
+    List<PostHeart> findByUserIdAfter(@Param("userId") Long userId,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
 }
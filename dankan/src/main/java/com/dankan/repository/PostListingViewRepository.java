@@ -0,0 +1,58 @@
+package com.dankan.repository;
+
+import com.dankan.domain.PostListingView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PostListingViewRepository extends JpaRepository<PostListingView, Long> {
+    @Query("select v from PostListingView v where v.roomId in :roomIds")
+    List<PostListingView> findByRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
+
+    @Query("select v from PostListingView v where v.postId in :postIds")
+    List<PostListingView> findByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 이미지 변경 시 PostListingViewUpdater.refreshImage 로 함께 고쳐진다.
+    @Query("select v.imgUrl from PostListingView v where v.roomId = :roomId")
+    Optional<String> findImgUrlByRoomId(@Param("roomId") Long roomId);
+
+    @Query(value = "select * from post_listing_view v where v.address like %:address% and "
+            +"(v.room_created_at < :createdAt or (v.room_created_at = :createdAt and v.room_id < :roomId)) "
+            +"order by v.room_created_at desc, v.room_id desc limit :size",nativeQuery = true)
+    List<PostListingView> findByAddressAfter(@Param("address") String address,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("roomId") Long roomId,
+                                             @Param("size") Integer size);
+
+    // keyword 는 FullTextUtil.toPhrase 로 변환한 값
+    @Query(value = "select * from post_listing_view v where match(v.address) against (:keyword in boolean mode) and "
+            +"(v.room_created_at < :createdAt or (v.room_created_at = :createdAt and v.room_id < :roomId)) "
+            +"order by v.room_created_at desc, v.room_id desc limit :size",nativeQuery = true)
+    List<PostListingView> findByAddressMatchAfter(@Param("keyword") String keyword,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("roomId") Long roomId,
+                                                  @Param("size") Integer size);
+
+    @Modifying
+    @Query("update PostListingView v set v.imgUrl = :imgUrl where v.roomId = :roomId")
+    int updateImgUrl(@Param("roomId") Long roomId, @Param("imgUrl") String imgUrl);
+
+    // 살아있는 게시물, 거래 가능한 매물이 없는 행을 size 개까지 지운다. (백필)
+    @Modifying
+    @Query(value = "delete from post_listing_view where not exists (select 1 from post p join room r on r.room_id = p.room_id "
+            +"where p.post_id = post_listing_view.post_id and p.room_id = post_listing_view.room_id "
+            +"and p.deleted_at is null and r.is_tradeable = 1) limit :size",nativeQuery = true)
+    int deleteStale(@Param("size") Integer size);
+
+    @Modifying
+    @Query("delete from PostListingView v where v.roomId = :roomId")
+    int deleteByRoomId(@Param("roomId") Long roomId);
+}
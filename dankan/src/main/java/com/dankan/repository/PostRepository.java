@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,7 +23,18 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("select p from Post p where p.roomId = :roomId and p.deletedAt is null")
     Optional<Post> findByRoomId(@Param("roomId") Long roomId);
 
+    @Query("select p from Post p where p.roomId in :roomIds and p.deletedAt is null")
+    List<Post> findByRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
+
     @Query("select p from Post p where p.userId = :userId and "
         +"p.deletedAt is null")
     List<Post> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select p from Post p where p.userId = :userId and p.deletedAt is null and "
+          +"(p.createdAt < :createdAt or (p.createdAt = :createdAt and p.postId < :id)) "
+          +"order by p.createdAt desc, p.postId desc")
+    List<Post> findByUserIdAfter(@Param("userId") Long userId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
 }
@@ -4,7 +4,6 @@ import com.dankan.domain.Post;
 import com.dankan.domain.RecentWatchPost;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,9 +18,6 @@ import java.util.UUID;
 public interface RecentWatchRepository extends JpaRepository<RecentWatchPost, UUID> {
     List<RecentWatchPost> findAllByUserId(Long userId);
     List<RecentWatchPost> findAllByUserId(Long userId, Pageable pageable);
+    List<RecentWatchPost> findAllByUserIdIn(List<Long> userIds);
     List<RecentWatchPost> findAllByOrderByUpdatedAtDesc();
-
-    @Modifying
-    @Query("update RecentWatchPost rp set rp.updatedAt = :updatedAt where rp.postId = :postId")
-    void updateDate(@Param("updatedAt") LocalDateTime updatedAt, @Param("postId") Long postId);
 }
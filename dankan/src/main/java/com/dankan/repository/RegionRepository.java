@@ -0,0 +1,23 @@
+package com.dankan.repository;
+
+import com.dankan.domain.Region;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RegionRepository extends JpaRepository<Region, Long> {
+    List<Region> findByParentIdOrderByName(Long parentId);
+
+    Optional<Region> findByParentIdAndRegionLevelAndName(Long parentId, Long regionLevel, String name);
+
+    // 동시에 같은 구역을 등록해도 unique 키로 한 행만 남는다.
+    @Modifying
+    @Query(value = "insert ignore into region (parent_id, region_level, name) values (:parentId, :regionLevel, :name)", nativeQuery = true)
+    int insertIgnore(@Param("parentId") Long parentId, @Param("regionLevel") Long regionLevel, @Param("name") String name);
+}
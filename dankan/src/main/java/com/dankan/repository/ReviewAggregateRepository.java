@@ -0,0 +1,111 @@
+package com.dankan.repository;
+
+import com.dankan.domain.ReviewAggregate;
+import com.dankan.vo.ReviewRankState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReviewAggregateRepository extends JpaRepository<ReviewAggregate, String> {
+    // 별점순: 평균 별점, 후기 수 내림차순, 주소 오름차순
+    String RANK_AFTER = "(a.avg_rate_milli < :avgRateMilli or (a.avg_rate_milli = :avgRateMilli and "
+            +"(a.review_count < :reviewCount or (a.review_count = :reviewCount and a.address > :address)))) "
+            +"order by a.avg_rate_milli desc, a.review_count desc, a.address limit :size";
+
+    // 행이 없으면 만들고 있으면 더한다. (동시 작성에도 한 문장으로 처리)
+    // ON DUPLICATE KEY UPDATE 는 앞에서부터 적용되므로 평균은 합을 고친 뒤 계산한다.
+    @Modifying
+    @Query(value = "insert into review_aggregate (address, review_count, total_rate_sum, clean_rate_sum, "
+            +"noise_rate_sum, access_rate_sum, host_rate_sum, facility_rate_sum, avg_rate_milli, gu_code, dong_code) "
+            +"values (:address, 1, :totalRate, :cleanRate, :noiseRate, :accessRate, :hostRate, :facilityRate, "
+            +"round(:totalRate * 1000), :guCode, :dongCode) "
+            +"on duplicate key update review_count = review_count + 1, "
+            +"total_rate_sum = total_rate_sum + :totalRate, clean_rate_sum = clean_rate_sum + :cleanRate, "
+            +"noise_rate_sum = noise_rate_sum + :noiseRate, access_rate_sum = access_rate_sum + :accessRate, "
+            +"host_rate_sum = host_rate_sum + :hostRate, facility_rate_sum = facility_rate_sum + :facilityRate, "
+            +"avg_rate_milli = round(total_rate_sum * 1000 / review_count), "
+            +"gu_code = coalesce(gu_code, :guCode), dong_code = coalesce(dong_code, :dongCode)",nativeQuery = true)
+    int addReview(@Param("address") String address,
+                  @Param("totalRate") Double totalRate,
+                  @Param("cleanRate") Long cleanRate,
+                  @Param("noiseRate") Long noiseRate,
+                  @Param("accessRate") Long accessRate,
+                  @Param("hostRate") Long hostRate,
+                  @Param("facilityRate") Long facilityRate,
+                  @Param("guCode") Long guCode,
+                  @Param("dongCode") Long dongCode);
+
+    @Modifying
+    @Query(value = "update review_aggregate set review_count = review_count - 1, "
+            +"total_rate_sum = total_rate_sum - :totalRate, clean_rate_sum = clean_rate_sum - :cleanRate, "
+            +"noise_rate_sum = noise_rate_sum - :noiseRate, access_rate_sum = access_rate_sum - :accessRate, "
+            +"host_rate_sum = host_rate_sum - :hostRate, facility_rate_sum = facility_rate_sum - :facilityRate, "
+            +"avg_rate_milli = if(review_count > 0, round(total_rate_sum * 1000 / review_count), 0) "
+            +"where address = :address",nativeQuery = true)
+    int removeReview(@Param("address") String address,
+                     @Param("totalRate") Double totalRate,
+                     @Param("cleanRate") Long cleanRate,
+                     @Param("noiseRate") Long noiseRate,
+                     @Param("accessRate") Long accessRate,
+                     @Param("hostRate") Long hostRate,
+                     @Param("facilityRate") Long facilityRate);
+
+    // 후기가 모두 지워진 주소는 집계에서 뺀다.
+    @Modifying
+    @Query(value = "delete from review_aggregate where address = :address and review_count <= 0",nativeQuery = true)
+    int deleteIfEmpty(@Param("address") String address);
+
+    @Query(value = "select * from review_aggregate a where "+RANK_AFTER,nativeQuery = true)
+    List<ReviewAggregate> findRankAfter(@Param("avgRateMilli") Long avgRateMilli,
+                                        @Param("reviewCount") Long reviewCount,
+                                        @Param("address") String address,
+                                        @Param("size") Integer size);
+
+    @Query(value = "select * from review_aggregate a where a.gu_code = :guCode and "+RANK_AFTER,nativeQuery = true)
+    List<ReviewAggregate> findRankByGuCodeAfter(@Param("guCode") Long guCode,
+                                                @Param("avgRateMilli") Long avgRateMilli,
+                                                @Param("reviewCount") Long reviewCount,
+                                                @Param("address") String address,
+                                                @Param("size") Integer size);
+
+    @Query(value = "select * from review_aggregate a where a.dong_code = :dongCode and "+RANK_AFTER,nativeQuery = true)
+    List<ReviewAggregate> findRankByDongCodeAfter(@Param("dongCode") Long dongCode,
+                                                  @Param("avgRateMilli") Long avgRateMilli,
+                                                  @Param("reviewCount") Long reviewCount,
+                                                  @Param("address") String address,
+                                                  @Param("size") Integer size);
+
+    @Modifying
+    @Query(value = "delete from review_aggregate",nativeQuery = true)
+    int deleteAllRows();
+
+    // review 테이블에서 한 번에 다시 집계한다. (백필)
+    @Modifying
+    @Query(value = "insert into review_aggregate (address, review_count, total_rate_sum, clean_rate_sum, "
+            +"noise_rate_sum, access_rate_sum, host_rate_sum, facility_rate_sum, avg_rate_milli, gu_code, dong_code) "
+            +"select r.address, count(*), sum(r.total_rate), sum(r.clean_rate), sum(r.noise_rate), "
+            +"sum(r.access_rate), sum(r.host_rate), sum(r.facility_rate), round(sum(r.total_rate) * 1000 / count(*)), "
+            +"max(r.gu_code), max(r.dong_code) "
+            +"from review r where r.deleted_at is null group by r.address",nativeQuery = true)
+    int insertFromReview();
+
+    // 엔티티 캐시를 거치지 않고 같은 트랜잭션에서 방금 고친 값을 읽는다.
+    @Query("select new com.dankan.vo.ReviewRankState(a.reviewCount, a.avgRateMilli, a.dongCode, a.rateBucket) "
+          +"from ReviewAggregate a where a.address = :address")
+    Optional<ReviewRankState> findRankState(@Param("address") String address);
+
+    @Modifying
+    @Query(value = "update review_aggregate set rate_bucket = :rateBucket where address = :address",nativeQuery = true)
+    int updateRateBucket(@Param("address") String address, @Param("rateBucket") Long rateBucket);
+
+    // 동이 있는 주소만 분포에 올린다. (백필)
+    @Modifying
+    @Query(value = "update review_aggregate set rate_bucket = if(dong_code is null, null, avg_rate_milli div 100)",nativeQuery = true)
+    int resetRateBuckets();
+}
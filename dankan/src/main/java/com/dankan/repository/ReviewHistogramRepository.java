@@ -0,0 +1,62 @@
+package com.dankan.repository;
+
+import com.dankan.domain.ReviewHistogram;
+import com.dankan.domain.embedded.ReviewHistogramId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReviewHistogramRepository extends JpaRepository<ReviewHistogram, ReviewHistogramId> {
+    // 살아있는 후기의 (주소, 동, 항목, 별점 칸)
+    String REVIEW_ITEM_BUCKETS = "(select r.address, r.dong_code, i.item, least(greatest(case i.item "
+            +"when 'clean' then r.clean_rate when 'noise' then r.noise_rate when 'access' then r.access_rate "
+            +"when 'host' then r.host_rate else r.facility_rate end, 1), 5) as bucket "
+            +"from review r cross join (select 'clean' as item union all select 'noise' union all select 'access' "
+            +"union all select 'host' union all select 'facility') i where r.deleted_at is null) b ";
+
+    String BUCKET_COUNTS = "sum(b.bucket = 1), sum(b.bucket = 2), sum(b.bucket = 3), sum(b.bucket = 4), sum(b.bucket = 5) ";
+
+    @Query("select h from ReviewHistogram h where h.scopeType = :scopeType and h.scopeKey = :scopeKey")
+    List<ReviewHistogram> findByScope(@Param("scopeType") String scopeType, @Param("scopeKey") String scopeKey);
+
+    // 행이 없으면 만들고 있으면 칸별로 더한다. 후기 하나는 한 칸에만 1 을 더하거나 뺀다.
+    @Modifying
+    @Query(value = "insert into review_histogram (scope_type, scope_key, item, count_1, count_2, count_3, count_4, count_5) "
+            +"values (:scopeType, :scopeKey, :item, :count1, :count2, :count3, :count4, :count5) "
+            +"on duplicate key update count_1 = count_1 + :count1, count_2 = count_2 + :count2, "
+            +"count_3 = count_3 + :count3, count_4 = count_4 + :count4, count_5 = count_5 + :count5",nativeQuery = true)
+    int addCounts(@Param("scopeType") String scopeType,
+                  @Param("scopeKey") String scopeKey,
+                  @Param("item") String item,
+                  @Param("count1") Long count1,
+                  @Param("count2") Long count2,
+                  @Param("count3") Long count3,
+                  @Param("count4") Long count4,
+                  @Param("count5") Long count5);
+
+    @Modifying
+    @Query("delete from ReviewHistogram h where h.scopeType = :scopeType and h.scopeKey = :scopeKey")
+    int deleteByScope(@Param("scopeType") String scopeType, @Param("scopeKey") String scopeKey);
+
+    @Modifying
+    @Query(value = "delete from review_histogram",nativeQuery = true)
+    int deleteAllRows();
+
+    // review 테이블에서 한 번에 다시 집계한다. (백필)
+    @Modifying
+    @Query(value = "insert into review_histogram (scope_type, scope_key, item, count_1, count_2, count_3, count_4, count_5) "
+            +"select 'ADDRESS', b.address, b.item, "+BUCKET_COUNTS
+            +"from "+REVIEW_ITEM_BUCKETS+"group by b.address, b.item",nativeQuery = true)
+    int insertAddressFromReview();
+
+    @Modifying
+    @Query(value = "insert into review_histogram (scope_type, scope_key, item, count_1, count_2, count_3, count_4, count_5) "
+            +"select 'DONG', cast(b.dong_code as char), b.item, "+BUCKET_COUNTS
+            +"from "+REVIEW_ITEM_BUCKETS+"where b.dong_code is not null group by b.dong_code, b.item",nativeQuery = true)
+    int insertDongFromReview();
+}
@@ -0,0 +1,33 @@
+package com.dankan.repository;
+
+import com.dankan.domain.ReviewRankBucket;
+import com.dankan.domain.embedded.ReviewRankBucketId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReviewRankBucketRepository extends JpaRepository<ReviewRankBucket, ReviewRankBucketId> {
+    @Query("select b from ReviewRankBucket b where b.dongCode = :dongCode and b.addressCount > 0")
+    List<ReviewRankBucket> findByDongCode(@Param("dongCode") Long dongCode);
+
+    @Modifying
+    @Query(value = "insert into review_rank_bucket (dong_code, rate_bucket, address_count) values (:dongCode, :rateBucket, :delta) "
+            +"on duplicate key update address_count = address_count + :delta",nativeQuery = true)
+    int addCount(@Param("dongCode") Long dongCode, @Param("rateBucket") Long rateBucket, @Param("delta") Long delta);
+
+    @Modifying
+    @Query(value = "delete from review_rank_bucket",nativeQuery = true)
+    int deleteAllRows();
+
+    // review_aggregate.rate_bucket 으로 다시 센다. (백필)
+    @Modifying
+    @Query(value = "insert into review_rank_bucket (dong_code, rate_bucket, address_count) "
+            +"select a.dong_code, a.rate_bucket, count(*) from review_aggregate a "
+            +"where a.rate_bucket is not null group by a.dong_code, a.rate_bucket",nativeQuery = true)
+    int insertFromAggregate();
+}
@@ -4,10 +4,12 @@ import com.dankan.domain.RoomReview;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,15 +28,66 @@ public interface ReviewRepository extends JpaRepository<RoomReview, Long> {
     @Query("select r from RoomReview r where r.address = :address and r.deletedAt is null")
     List<RoomReview> findByAddress(@Param("address") String address);
 
+    // 이미 삭제된 후기는 바꾸지 않는다. 바뀐 행 수가 1 일 때만 집계에서 뺀다.
+    @Modifying
+    @Query(value = "update review set deleted_at = curdate() where review_id = :reviewId and user_id = :userId and "
+            +"deleted_at is null",nativeQuery = true)
+    int softDelete(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
+
     @Query("select r from RoomReview r where r.address = :address and r.deletedAt is null")
     List<RoomReview> findByAddress(String address,Pageable pageable);
 
-    @Query(value = "select * from review r where r.address like %:buildingName% and r.deleted_at is null",nativeQuery = true)
-    List<RoomReview> findByBuildingSearch(@Param("buildingName") String buildingName);
+    // 주소의 최근 후기 이미지 id
+    @Query("select r.imageId from RoomReview r where r.address = :address and r.deletedAt is null and "
+          +"r.imageId is not null order by r.reviewId desc")
+    List<Long> findImageIdsByAddress(@Param("address") String address, Pageable pageable);
+
+    // keyword 는 FullTextUtil.toPhrase 로 변환한 값. 후기에는 건물명이 없어 같은 주소의 매물 건물명으로 찾는다.
+    @Query(value = "select * from review rv where rv.address in ("
+            +"select r.address from room r where match(r.building_name) against (:keyword in boolean mode)) and "
+            +"rv.deleted_at is null "
+            +"order by rv.review_id desc limit :size",nativeQuery = true)
+    List<RoomReview> findByBuildingSearch(@Param("keyword") String keyword, @Param("size") Integer size);
 
     @Query(value = "select * from review r where r.address like %:address% and r.deleted_at is null",nativeQuery = true)
     List<RoomReview> findByAddressSearch(@Param("address") String address);
 
+    // keyword 는 FullTextUtil.toPhrase 로 변환한 값, 관련도 순
+    @Query(value = "select * from review r where match(r.address) against (:keyword in boolean mode) and "
+            +"r.deleted_at is null "
+            +"order by match(r.address) against (:keyword in boolean mode) desc, r.review_id desc limit :size",nativeQuery = true)
+    List<RoomReview> searchByAddress(@Param("keyword") String keyword, @Param("size") Integer size);
+
     @Query("select r from RoomReview r where r.deletedAt is null")
     Slice<RoomReview> findActiveReview(Pageable pageable);
+
+    @Query(value = "select * from review r where r.deleted_at is null and r.review_id > :lastReviewId "
+            +"order by r.review_id limit :size",nativeQuery = true)
+    List<RoomReview> findActiveChunk(@Param("lastReviewId") Long lastReviewId,@Param("size") Integer size);
+
+    @Query("select r from RoomReview r where r.deletedAt is null and "
+          +"(r.createdAt < :createdAt or (r.createdAt = :createdAt and r.reviewId < :id)) "
+          +"order by r.createdAt desc, r.reviewId desc")
+    List<RoomReview> findActiveReviewAfter(@Param("createdAt") LocalDate createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    @Query("select r from RoomReview r where r.regionCode.dongCode = :dongCode and r.deletedAt is null and "
+          +"(r.createdAt < :createdAt or (r.createdAt = :createdAt and r.reviewId < :id)) "
+          +"order by r.createdAt desc, r.reviewId desc")
+    List<RoomReview> findByDongCodeAfter(@Param("dongCode") Long dongCode,
+                                         @Param("createdAt") LocalDate createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query(value = "select * from review r where r.review_id > :lastReviewId order by r.review_id limit :size",nativeQuery = true)
+    List<RoomReview> findChunk(@Param("lastReviewId") Long lastReviewId,@Param("size") Integer size);
+
+    @Query("select r from RoomReview r where r.address = :address and r.deletedAt is null and "
+          +"(r.createdAt < :createdAt or (r.createdAt = :createdAt and r.reviewId < :id)) "
+          +"order by r.createdAt desc, r.reviewId desc")
+    List<RoomReview> findByAddressAfter(@Param("address") String address,
+                                        @Param("createdAt") LocalDate createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
 }
@@ -3,11 +3,13 @@ package com.dankan.repository;
 import com.dankan.domain.User;
 import com.dankan.dto.response.user.UserResponseDto;
 import com.dankan.vo.UserInfo;
+import com.dankan.vo.UserProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,4 +43,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query(value = "select new com.dankan.vo.UserInfo(user.nickname, user.profileImg) from User user where user.nickname = :nickname")
     Optional<UserInfo> findName(@Param("nickname") String nickname);
+
+    @Query(value = "select new com.dankan.vo.UserProfile(user.userId, user.nickname, user.profileImg) from User user where user.userId in :ids")
+    List<UserProfile> findProfiles(@Param("ids") Collection<Long> ids);
 }
@@ -2,9 +2,11 @@ package com.dankan.repository.custom;
 
 import com.dankan.domain.Room;
 import com.dankan.dto.request.post.PostFilterRequestDto;
+import com.dankan.vo.GeoBounds;
+import com.dankan.vo.PageCursor;
 
 import java.util.List;
 
 public interface RoomFilterCustomRepository {
-    List<Room> findRoomByFilter(PostFilterRequestDto postFilterRequestDto);
+    List<Room> findRoomByFilter(PostFilterRequestDto postFilterRequestDto, GeoBounds bounds, Long userId, PageCursor cursor, int limit);
 }
@@ -1,19 +1,33 @@
 package com.dankan.repository.custom;
 
+import com.dankan.domain.QOptions;
+import com.dankan.domain.QPost;
+import com.dankan.domain.QPostHeart;
 import com.dankan.domain.QRoom;
 import com.dankan.domain.Room;
 import com.dankan.dto.request.post.PostFilterRequestDto;
+import com.dankan.enum_converter.*;
+import com.dankan.util.FullTextUtil;
+import com.dankan.util.GeoUtil;
+import com.dankan.vo.GeoBounds;
+import com.dankan.vo.PageCursor;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 @Slf4j
 public class RoomFilterCustomRepositoryImpl extends QuerydslRepositorySupport implements RoomFilterCustomRepository {
+    private static final int MAX_GEOHASH_PREFIX = 16;
 
     @Autowired
     private JPAQueryFactory jpaQueryFactory;
@@ -23,17 +37,36 @@ public class RoomFilterCustomRepositoryImpl extends QuerydslRepositorySupport im
     }
 
     @Override
-    public List<Room> findRoomByFilter(PostFilterRequestDto postFilterRequestDto) {
+    public List<Room> findRoomByFilter(PostFilterRequestDto postFilterRequestDto, GeoBounds bounds, Long userId, PageCursor cursor, int limit) {
         QRoom qRoom = QRoom.room;
         BooleanBuilder builder = new BooleanBuilder();
 
         builder.and(qRoom.isTradeable.eq(true));
         builder.and(qRoom.univ.eq(postFilterRequestDto.getUniv()));
 
-        if (postFilterRequestDto.getAddress() != null) {
+        if (FullTextUtil.isSearchable(postFilterRequestDto.getAddress())) {
+            builder.and(Expressions.numberTemplate(Double.class, "function('match_against', {0}, {1})",
+                    qRoom.roomAddress.address, FullTextUtil.toPhrase(postFilterRequestDto.getAddress())).gt(0.0));
+        } else if (postFilterRequestDto.getAddress() != null) {
             builder.and(qRoom.roomAddress.address.contains(postFilterRequestDto.getAddress()));
         }
 
+        if (postFilterRequestDto.getDooCode() != null) {
+            builder.and(qRoom.regionCode.dooCode.eq(postFilterRequestDto.getDooCode()));
+        }
+
+        if (postFilterRequestDto.getSiCode() != null) {
+            builder.and(qRoom.regionCode.siCode.eq(postFilterRequestDto.getSiCode()));
+        }
+
+        if (postFilterRequestDto.getGuCode() != null) {
+            builder.and(qRoom.regionCode.guCode.eq(postFilterRequestDto.getGuCode()));
+        }
+
+        if (postFilterRequestDto.getDongCode() != null) {
+            builder.and(qRoom.regionCode.dongCode.eq(postFilterRequestDto.getDongCode()));
+        }
+
         if (postFilterRequestDto.getUniv() != null) {
             builder.and(qRoom.univ.contains(postFilterRequestDto.getUniv()));
         }
@@ -88,13 +121,208 @@ public class RoomFilterCustomRepositoryImpl extends QuerydslRepositorySupport im
             builder.and(qRoom.elevatorOption.eq(1L));
         }
 
+        builder.and(getOptionCondition(qRoom, postFilterRequestDto));
+
+        if (bounds != null) {
+            builder.and(getGeoCondition(qRoom, bounds));
+        }
+
         if (!builder.hasValue()) {
             return null;
         }
 
+        if (postFilterRequestDto.getLowCostOrder() != null) {
+            return jpaQueryFactory
+                    .selectFrom(qRoom)
+                    .where(builder, getLowCostCursorCondition(qRoom, cursor))
+                    .orderBy(qRoom.roomCost.price.asc(), qRoom.createdAt.desc(), qRoom.roomId.desc())
+                    .limit(limit)
+                    .fetch();
+        }
+
+        if (postFilterRequestDto.getHeartOrder() != null) {
+            return findRoomByHeartOrder(qRoom, builder, userId, cursor, limit);
+        }
+
         return jpaQueryFactory
                 .selectFrom(qRoom)
-                .where(builder)
+                .where(builder, getCursorCondition(qRoom, cursor))
+                .orderBy(qRoom.createdAt.desc(), qRoom.roomId.desc())
+                .limit(limit)
                 .fetch();
     }
+
+    /**
+     * 찜한 매물 먼저 (sortKey 1), 그 다음 나머지 (sortKey 0). 각 구간은 (createdAt, roomId) 내림차순
+     */
+    private List<Room> findRoomByHeartOrder(QRoom qRoom, BooleanBuilder builder, Long userId, PageCursor cursor, int limit) {
+        List<Room> roomList = new ArrayList<>();
+        PageCursor notHeartedCursor = cursor;
+
+        if (cursor.getSortKey() == null || cursor.getSortKey() == 1L) {
+            roomList.addAll(jpaQueryFactory
+                    .selectFrom(qRoom)
+                    .where(builder, isHearted(qRoom, userId), getCursorCondition(qRoom, cursor))
+                    .orderBy(qRoom.createdAt.desc(), qRoom.roomId.desc())
+                    .limit(limit)
+                    .fetch());
+
+            notHeartedCursor = PageCursor.first();
+        }
+
+        if (roomList.size() >= limit) {
+            return roomList;
+        }
+
+        roomList.addAll(jpaQueryFactory
+                .selectFrom(qRoom)
+                .where(builder, isHearted(qRoom, userId).not(), getCursorCondition(qRoom, notHeartedCursor))
+                .orderBy(qRoom.createdAt.desc(), qRoom.roomId.desc())
+                .limit(limit - roomList.size())
+                .fetch());
+
+        return roomList;
+    }
+
+    private BooleanExpression isHearted(QRoom qRoom, Long userId) {
+        QPost qPost = QPost.post;
+        QPostHeart qPostHeart = QPostHeart.postHeart;
+
+        return JPAExpressions.selectOne()
+                .from(qPostHeart, qPost)
+                .where(qPost.roomId.eq(qRoom.roomId)
+                        .and(qPostHeart.postId.eq(qPost.postId))
+                        .and(qPostHeart.userId.eq(userId)))
+                .exists();
+    }
+
+    private BooleanExpression getCursorCondition(QRoom qRoom, PageCursor cursor) {
+        return qRoom.createdAt.lt(cursor.getCreatedAt())
+                .or(qRoom.createdAt.eq(cursor.getCreatedAt()).and(qRoom.roomId.lt(cursor.getId())));
+    }
+
+    // 저가순: price 오름차순, 같은 가격은 (createdAt, roomId) 내림차순
+    private BooleanExpression getLowCostCursorCondition(QRoom qRoom, PageCursor cursor) {
+        if (cursor.getSortKey() == null) {
+            return null;
+        }
+
+        return qRoom.roomCost.price.gt(cursor.getSortKey())
+                .or(qRoom.roomCost.price.eq(cursor.getSortKey()).and(getCursorCondition(qRoom, cursor)));
+    }
+
+    /**
+     * options 테이블(code_key, value, room_id) 조건을 exists 서브쿼리로 만든다.
+     */
+    private BooleanBuilder getOptionCondition(QRoom qRoom, PostFilterRequestDto postFilterRequestDto) {
+        BooleanBuilder builder = new BooleanBuilder();
+        QOptions qOptions = QOptions.options;
+
+        if (postFilterRequestDto.getDealType() != null) {
+            String dealTypeValue = DealTypeEnum.getDealTypeValue(postFilterRequestDto.getDealType());
+            builder.and(hasOption(qRoom, "DealType", qOptions.value.eq(dealTypeValue)));
+        }
+
+        if (postFilterRequestDto.getPriceType() != null) {
+            String priceTypeValue = PriceTypeEnum.getPriceTypeValue(postFilterRequestDto.getPriceType());
+            builder.and(hasOption(qRoom, "PriceType", qOptions.value.eq(priceTypeValue)));
+        }
+
+        if (postFilterRequestDto.getRoomType() != null && postFilterRequestDto.getRoomType().size() > 0) {
+            List<String> roomTypeValues = new ArrayList<>();
+
+            for (String roomType : postFilterRequestDto.getRoomType()) {
+                roomTypeValues.add(RoomTypeEnum.getRoomTypeValue(roomType));
+            }
+
+            builder.and(hasOption(qRoom, "RoomType", qOptions.value.in(roomTypeValues)));
+        }
+
+        if (postFilterRequestDto.getRoomStructure() != null && postFilterRequestDto.getRoomStructure().size() > 0) {
+            List<String> structureValues = new ArrayList<>();
+
+            for (String roomStructure : postFilterRequestDto.getRoomStructure()) {
+                structureValues.add(StructureTypeEnum.getStructureTypeValue(roomStructure));
+            }
+
+            builder.and(hasOption(qRoom, "StructureType", qOptions.value.in(structureValues)));
+        }
+
+        if (postFilterRequestDto.getFullOption() != null) {
+            builder.and(hasMask(qRoom.optionMask, OptionTypeEnum.getFullOptionMask()));
+        }
+
+        long etcOptionMask = 0L;
+
+        for (String etcOption : getEtcOptions(postFilterRequestDto)) {
+            etcOptionMask |= EtcOptionTypeEnum.getEtcOptionTypeMask(etcOption);
+        }
+
+        if (etcOptionMask != 0L) {
+            builder.and(hasMask(qRoom.etcOptionMask, etcOptionMask));
+        }
+
+        return builder;
+    }
+
+    /**
+     * geohash prefix 로 (univ, geohash) 인덱스 범위를 좁히고, 위경도 범위와 거리로 다시 거른다.
+     */
+    private BooleanBuilder getGeoCondition(QRoom qRoom, GeoBounds bounds) {
+        BooleanBuilder builder = new BooleanBuilder();
+        BooleanBuilder prefixBuilder = new BooleanBuilder();
+
+        for (String prefix : GeoUtil.cover(bounds, GeoUtil.GEOHASH_LENGTH, MAX_GEOHASH_PREFIX)) {
+            prefixBuilder.or(qRoom.geohash.startsWith(prefix));
+        }
+
+        builder.and(prefixBuilder);
+        builder.and(qRoom.roomAddress.latitude.between(bounds.getMinLatitude(), bounds.getMaxLatitude()));
+        builder.and(qRoom.roomAddress.longitude.between(bounds.getMinLongitude(), bounds.getMaxLongitude()));
+
+        if (bounds.isCircle()) {
+            builder.and(Expressions.numberTemplate(Double.class, "function('distance_sphere', {0}, {1}, {2}, {3})",
+                    qRoom.roomAddress.latitude, qRoom.roomAddress.longitude,
+                    bounds.getCenterLatitude(), bounds.getCenterLongitude()).loe(bounds.getRadius()));
+        }
+
+        return builder;
+    }
+
+    private BooleanExpression hasMask(NumberPath<Long> maskPath, long mask) {
+        return Expressions.numberTemplate(Long.class, "function('bitand', {0}, {1})", maskPath, mask).eq(mask);
+    }
+
+    private BooleanExpression hasOption(QRoom qRoom, String codeKey, BooleanExpression valueCondition) {
+        QOptions qOptions = QOptions.options;
+
+        return JPAExpressions.selectOne()
+                .from(qOptions)
+                .where(qOptions.codeKey.eq(codeKey)
+                        .and(valueCondition)
+                        .and(qOptions.roomId.eq(qRoom.roomId)))
+                .exists();
+    }
+
+    private List<String> getEtcOptions(PostFilterRequestDto postFilterRequestDto) {
+        List<String> etcOptions = new ArrayList<>();
+
+        if (postFilterRequestDto.getCanPark() != null) {
+            etcOptions.add(postFilterRequestDto.getCanPark());
+        }
+
+        if (postFilterRequestDto.getPet() != null) {
+            etcOptions.add(postFilterRequestDto.getPet());
+        }
+
+        if (postFilterRequestDto.getOnlyWomen() != null) {
+            etcOptions.add(postFilterRequestDto.getOnlyWomen());
+        }
+
+        if (postFilterRequestDto.getLoan() != null) {
+            etcOptions.add(postFilterRequestDto.getLoan());
+        }
+
+        return etcOptions;
+    }
 }
@@ -0,0 +1,10 @@
+package com.dankan.service.backfill;
+
+public interface BackfillService {
+    Long backfillRoomOptionMask();
+    Long backfillRoomGeohash();
+    Long backfillRegionCode();
+    Long backfillPostListingView();
+    Long backfillReviewAggregate();
+    Long backfillAddressRoom();
+}
@@ -0,0 +1,298 @@
+package com.dankan.service.backfill;
+
+import com.dankan.domain.Options;
+import com.dankan.domain.Room;
+import com.dankan.domain.RoomReview;
+import com.dankan.repository.OptionsRepository;
+import com.dankan.repository.PostListingViewRepository;
+import com.dankan.repository.ReviewAggregateRepository;
+import com.dankan.repository.ReviewHistogramRepository;
+import com.dankan.repository.ReviewRankBucketRepository;
+import com.dankan.repository.ReviewRepository;
+import com.dankan.repository.RoomRepository;
+import com.dankan.service.listing.AddressRoomResolver;
+import com.dankan.service.listing.PostListingViewUpdater;
+import com.dankan.service.region.RegionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 컬럼 추가 후 기존 데이터를 채우는 작업. room_id 순으로 CHUNK_SIZE 개씩 나눠 트랜잭션을 건다.
+ */
+@Slf4j
+public class BackfillServiceImpl implements BackfillService {
+    private static final int CHUNK_SIZE = 500;
+
+    private final RoomRepository roomRepository;
+    private final OptionsRepository optionsRepository;
+    private final ReviewRepository reviewRepository;
+    private final RegionService regionService;
+    private final PostListingViewUpdater postListingViewUpdater;
+    private final PostListingViewRepository postListingViewRepository;
+    private final ReviewAggregateRepository reviewAggregateRepository;
+    private final AddressRoomResolver addressRoomResolver;
+    private final ReviewHistogramRepository reviewHistogramRepository;
+    private final ReviewRankBucketRepository reviewRankBucketRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BackfillServiceImpl(RoomRepository roomRepository,
+                               OptionsRepository optionsRepository,
+                               ReviewRepository reviewRepository,
+                               RegionService regionService,
+                               PostListingViewUpdater postListingViewUpdater,
+                               PostListingViewRepository postListingViewRepository,
+                               ReviewAggregateRepository reviewAggregateRepository,
+                               AddressRoomResolver addressRoomResolver,
+                               ReviewHistogramRepository reviewHistogramRepository,
+                               ReviewRankBucketRepository reviewRankBucketRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.roomRepository = roomRepository;
+        this.optionsRepository = optionsRepository;
+        this.reviewRepository = reviewRepository;
+        this.regionService = regionService;
+        this.postListingViewUpdater = postListingViewUpdater;
+        this.postListingViewRepository = postListingViewRepository;
+        this.reviewAggregateRepository = reviewAggregateRepository;
+        this.addressRoomResolver = addressRoomResolver;
+        this.reviewHistogramRepository = reviewHistogramRepository;
+        this.reviewRankBucketRepository = reviewRankBucketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public Long backfillRoomOptionMask() {
+        Long lastRoomId = Long.MIN_VALUE;
+        Long count = 0L;
+
+        while (true) {
+            Long cursor = lastRoomId;
+            List<Room> roomList = transactionTemplate.execute(status -> backfillRoomOptionMask(cursor));
+
+            if (roomList == null || roomList.isEmpty()) {
+                break;
+            }
+
+            count += roomList.size();
+            lastRoomId = roomList.get(roomList.size() - 1).getRoomId();
+        }
+
+        log.info("room option mask backfilled : {}", count);
+
+        return count;
+    }
+
+    private List<Room> backfillRoomOptionMask(Long lastRoomId) {
+        List<Room> roomList = roomRepository.findChunk(lastRoomId, CHUNK_SIZE);
+        List<Long> roomIds = new ArrayList<>();
+
+        for (Room room : roomList) {
+            roomIds.add(room.getRoomId());
+        }
+
+        Map<Long, List<Options>> optionsMap = new HashMap<>();
+
+        for (Options options : optionsRepository.findByRoomIdIn(roomIds)) {
+            optionsMap.computeIfAbsent(options.getRoomId(), key -> new ArrayList<>()).add(options);
+        }
+
+        for (Room room : roomList) {
+            room.setOptionMasks(optionsMap.getOrDefault(room.getRoomId(), Collections.emptyList()));
+        }
+
+        roomRepository.saveAll(roomList);
+
+        return roomList;
+    }
+
+    @Override
+    public Long backfillRoomGeohash() {
+        Long lastRoomId = Long.MIN_VALUE;
+        Long count = 0L;
+
+        while (true) {
+            Long cursor = lastRoomId;
+            List<Room> roomList = transactionTemplate.execute(status -> backfillRoomGeohash(cursor));
+
+            if (roomList == null || roomList.isEmpty()) {
+                break;
+            }
+
+            count += roomList.size();
+            lastRoomId = roomList.get(roomList.size() - 1).getRoomId();
+        }
+
+        log.info("room geohash backfilled : {}", count);
+
+        return count;
+    }
+
+    private List<Room> backfillRoomGeohash(Long lastRoomId) {
+        List<Room> roomList = roomRepository.findChunk(lastRoomId, CHUNK_SIZE);
+
+        for (Room room : roomList) {
+            room.updateGeohash();
+        }
+
+        roomRepository.saveAll(roomList);
+
+        return roomList;
+    }
+
+    @Override
+    public Long backfillRegionCode() {
+        Long lastRoomId = Long.MIN_VALUE;
+        Long count = 0L;
+
+        while (true) {
+            Long cursor = lastRoomId;
+            List<Room> roomList = transactionTemplate.execute(status -> backfillRoomRegionCode(cursor));
+
+            if (roomList == null || roomList.isEmpty()) {
+                break;
+            }
+
+            count += roomList.size();
+            lastRoomId = roomList.get(roomList.size() - 1).getRoomId();
+        }
+
+        Long lastReviewId = Long.MIN_VALUE;
+
+        while (true) {
+            Long cursor = lastReviewId;
+            List<RoomReview> reviewList = transactionTemplate.execute(status -> backfillReviewRegionCode(cursor));
+
+            if (reviewList == null || reviewList.isEmpty()) {
+                break;
+            }
+
+            count += reviewList.size();
+            lastReviewId = reviewList.get(reviewList.size() - 1).getReviewId();
+        }
+
+        log.info("region code backfilled : {}", count);
+
+        return count;
+    }
+
+    private List<Room> backfillRoomRegionCode(Long lastRoomId) {
+        List<Room> roomList = roomRepository.findChunk(lastRoomId, CHUNK_SIZE);
+
+        for (Room room : roomList) {
+            room.setRegionCode(regionService.resolve(room.getRoomAddress().getAddress()));
+        }
+
+        roomRepository.saveAll(roomList);
+
+        return roomList;
+    }
+
+    private List<RoomReview> backfillReviewRegionCode(Long lastReviewId) {
+        List<RoomReview> reviewList = reviewRepository.findChunk(lastReviewId, CHUNK_SIZE);
+
+        for (RoomReview roomReview : reviewList) {
+            roomReview.setRegionCode(regionService.resolve(roomReview.getAddress()));
+        }
+
+        reviewRepository.saveAll(reviewList);
+
+        return reviewList;
+    }
+
+    @Override
+    public Long backfillPostListingView() {
+        Long lastRoomId = Long.MIN_VALUE;
+        Long count = 0L;
+
+        while (true) {
+            Long cursor = lastRoomId;
+            List<Room> roomList = transactionTemplate.execute(status -> backfillPostListingView(cursor));
+
+            if (roomList == null || roomList.isEmpty()) {
+                break;
+            }
+
+            count += roomList.size();
+            lastRoomId = roomList.get(roomList.size() - 1).getRoomId();
+        }
+
+        // 원본이 지워졌거나 거래가 끝난 행을 뺀다.
+        Long deleted = 0L;
+
+        while (true) {
+            Integer deletedRows = transactionTemplate.execute(status -> postListingViewRepository.deleteStale(CHUNK_SIZE));
+
+            if (deletedRows == null || deletedRows == 0) {
+                break;
+            }
+
+            deleted += deletedRows;
+        }
+
+        log.info("post listing view backfilled : {}, stale rows deleted : {}", count, deleted);
+
+        return count;
+    }
+
+    private List<Room> backfillPostListingView(Long lastRoomId) {
+        List<Room> roomList = roomRepository.findTradeableChunk(lastRoomId, CHUNK_SIZE);
+
+        postListingViewUpdater.rebuild(roomList);
+
+        return roomList;
+    }
+
+    /**
+     * 주소별 후기 집계와 별점 분포를 지우고 review 테이블에서 한 트랜잭션으로 다시 만든다. 만든 주소 수를 돌려준다.
+     */
+    @Override
+    public Long backfillReviewAggregate() {
+        Integer count = transactionTemplate.execute(status -> {
+            reviewAggregateRepository.deleteAllRows();
+            int addressCount = reviewAggregateRepository.insertFromReview();
+
+            reviewHistogramRepository.deleteAllRows();
+            reviewHistogramRepository.insertAddressFromReview();
+            reviewHistogramRepository.insertDongFromReview();
+
+            reviewAggregateRepository.resetRateBuckets();
+            reviewRankBucketRepository.deleteAllRows();
+            reviewRankBucketRepository.insertFromAggregate();
+
+            return addressCount;
+        });
+
+        log.info("review aggregate backfilled : {}", count);
+
+        return count == null ? 0L : count.longValue();
+    }
+
+    /**
+     * room_id 순으로 같은 주소의 첫 매물을 대표로 채운다. 거래가 끝난 매물도 대상이다. 처리한 주소 수를 돌려준다.
+     */
+    @Override
+    public Long backfillAddressRoom() {
+        Long lastRoomId = Long.MIN_VALUE;
+        Long count = 0L;
+
+        while (true) {
+            Long cursor = lastRoomId;
+            List<Room> roomList = roomRepository.findChunk(cursor, CHUNK_SIZE);
+
+            if (roomList.isEmpty()) {
+                break;
+            }
+
+            Integer rebuilt = transactionTemplate.execute(status -> addressRoomResolver.rebuild(roomList));
+
+            count += rebuilt == null ? 0 : rebuilt;
+            lastRoomId = roomList.get(roomList.size() - 1).getRoomId();
+        }
+
+        log.info("address room backfilled : {}", count);
+
+        return count;
+    }
+}
@@ -0,0 +1,17 @@
+package com.dankan.service.heart;
+
+import com.dankan.domain.PostHeart;
+import com.dankan.vo.PageCursor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface HeartService {
+    boolean toggle(Long userId, Long postId);
+    long countHeart(Long postId);
+    Set<Long> findHeartedPostIds(Long userId, Collection<Long> postIds);
+    Set<Long> findAllHeartPostIds(Long userId);
+    List<PostHeart> findHeartPost(Long userId, PageCursor cursor, int size);
+    void remove(Long userId, List<Long> postIds);
+}
@@ -0,0 +1,483 @@
+package com.dankan.service.heart;
+
+import com.dankan.domain.DateLog;
+import com.dankan.domain.PostHeart;
+import com.dankan.exception.heart.HeartUnavailableException;
+import com.dankan.repository.DateLogRepository;
+import com.dankan.repository.PostHeartRepository;
+import com.dankan.vo.PageCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 찜. 사용자별 ZSET(member: post id, score: 찜한 시각 ms)과 게시물별 SET(member: user id)을 Lua 스크립트로 함께 토글하고,
+ * 바뀐 (user, post) 의 최종 상태를 pending 해시에 모아 주기적으로 post_heart 테이블에 일괄 반영한다. (write-behind)
+ * 두 키 모두 적재 여부를 알 수 있도록 sentinel("0") 을 넣어 두고, 없으면 테이블에서 다시 채운다.
+ * Redis 를 쓸 수 없으면 읽기는 테이블에서 하고, 토글은 실패시킨다.
+ * (테이블은 pending 만큼 뒤처져 있어 테이블에서 토글하면 방향이 틀릴 수 있다.)
+ */
+@Slf4j
+public class HeartServiceImpl implements HeartService {
+    private static final String USER_KEY = "heart:user:";
+    private static final String POST_KEY = "heart:post:";
+    private static final String PENDING_KEY = "heart:pending";
+    private static final String FLUSHING_KEY = "heart:pending:flushing:";
+    private static final String SENTINEL = "0";
+    private static final String HEARTED = "1";
+    private static final String UNHEARTED = "0";
+    private static final Duration TTL = Duration.ofDays(7);
+    private static final Duration FLUSHING_TTL = Duration.ofDays(1);
+
+    private static final long NOT_LOADED = -1L;
+
+    // KEYS: 사용자 ZSET, 게시물 SET, pending 해시 / ARGV: user id, post id, 시각, TTL
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('EXISTS', KEYS[2]) == 0 then return -1 end\n"
+            + "local field = ARGV[1] .. ':' .. ARGV[2]\n"
+            + "local result\n"
+            + "if redis.call('ZSCORE', KEYS[1], ARGV[2]) then\n"
+            + "  redis.call('ZREM', KEYS[1], ARGV[2])\n"
+            + "  redis.call('SREM', KEYS[2], ARGV[1])\n"
+            + "  redis.call('HSET', KEYS[3], field, '0:' .. ARGV[3])\n"
+            + "  result = 0\n"
+            + "else\n"
+            + "  redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2])\n"
+            + "  redis.call('SADD', KEYS[2], ARGV[1])\n"
+            + "  redis.call('HSET', KEYS[3], field, '1:' .. ARGV[3])\n"
+            + "  result = 1\n"
+            + "end\n"
+            + "redis.call('EXPIRE', KEYS[1], ARGV[4])\n"
+            + "redis.call('EXPIRE', KEYS[2], ARGV[4])\n"
+            + "return result",
+            Long.class);
+
+    // 찜한 것만 지운다. (삭제된 게시물 정리용)
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[1], ARGV[2]) == 0 then return 0 end\n"
+            + "redis.call('SREM', KEYS[2], ARGV[1])\n"
+            + "redis.call('HSET', KEYS[3], ARGV[1] .. ':' .. ARGV[2], '0:' .. ARGV[3])\n"
+            + "return 1",
+            Long.class);
+
+    // 키가 없을 때만 채운다. ARGV: TTL, (score, member)...
+    private static final RedisScript<Long> LOAD_USER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end\n"
+            + "redis.call('ZADD', KEYS[1], 0, '" + SENTINEL + "')\n"
+            + "for i = 2, #ARGV, 2 do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) end\n"
+            + "redis.call('EXPIRE', KEYS[1], ARGV[1])\n"
+            + "return 1",
+            Long.class);
+
+    // 키가 없을 때만 채운다. ARGV: TTL, member...
+    private static final RedisScript<Long> LOAD_POST_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end\n"
+            + "redis.call('SADD', KEYS[1], '" + SENTINEL + "')\n"
+            + "for i = 2, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end\n"
+            + "redis.call('EXPIRE', KEYS[1], ARGV[1])\n"
+            + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostHeartRepository postHeartRepository;
+    private final DateLogRepository dateLogRepository;
+    private final HeartedPostCache heartedPostCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public HeartServiceImpl(StringRedisTemplate stringRedisTemplate,
+                            PostHeartRepository postHeartRepository,
+                            DateLogRepository dateLogRepository,
+                            HeartedPostCache heartedPostCache,
+                            PlatformTransactionManager transactionManager) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.postHeartRepository = postHeartRepository;
+        this.dateLogRepository = dateLogRepository;
+        this.heartedPostCache = heartedPostCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 찜 상태를 뒤집고 찜한 상태가 되었으면 true. Redis 를 쓸 수 없으면 HeartUnavailableException
+     */
+    @Override
+    public boolean toggle(Long userId, Long postId) {
+        boolean hearted = toggleOnRedis(userId, postId);
+        heartedPostCache.update(userId, postId, hearted);
+
+        return hearted;
+    }
+
+    private boolean toggleOnRedis(Long userId, Long postId) {
+        try {
+            Long result = runToggle(userId, postId);
+
+            // 채운 직후 만료되는 경우는 한 번 더 채운다.
+            for (int i = 0; i < 2 && result != null && result == NOT_LOADED; i++) {
+                loadUser(userId);
+                loadPost(postId);
+                result = runToggle(userId, postId);
+            }
+
+            if (result != null && result != NOT_LOADED) {
+                return result == 1L;
+            }
+
+            log.warn("heart keys not loaded : user {} post {}", userId, postId);
+        } catch (DataAccessException e) {
+            log.warn("heart toggle failed : {}", e.getMessage());
+        }
+
+        throw new HeartUnavailableException(postId.toString());
+    }
+
+    @Override
+    public long countHeart(Long postId) {
+        try {
+            loadPost(postId);
+            Long size = stringRedisTemplate.opsForSet().size(POST_KEY + postId);
+
+            if (size != null && size > 0) {
+                return size - 1; // sentinel 제외
+            }
+        } catch (DataAccessException e) {
+            log.warn("heart count read failed, read from database : {}", e.getMessage());
+        }
+
+        return postHeartRepository.countByPostId(postId);
+    }
+
+    /**
+     * postIds 중 찜한 게시물 id. 사용자별 찜 목록 로컬 캐시에서 이진 탐색으로 찾는다.
+     */
+    @Override
+    public Set<Long> findHeartedPostIds(Long userId, Collection<Long> postIds) {
+        Set<Long> heartedPostIds = new HashSet<>();
+
+        if (userId == null || postIds.isEmpty()) {
+            return heartedPostIds;
+        }
+
+        try {
+            long[] heartPostIds = findHeartPostIdArray(userId);
+
+            for (Long postId : postIds) {
+                if (HeartedPostCache.contains(heartPostIds, postId)) {
+                    heartedPostIds.add(postId);
+                }
+            }
+
+            return heartedPostIds;
+        } catch (DataAccessException e) {
+            log.warn("heart read failed, read from database : {}", e.getMessage());
+        }
+
+        for (PostHeart postHeart : postHeartRepository.findByUserIdAndPostIdIn(userId, postIds)) {
+            heartedPostIds.add(postHeart.getPostId());
+        }
+
+        return heartedPostIds;
+    }
+
+    @Override
+    public Set<Long> findAllHeartPostIds(Long userId) {
+        Set<Long> heartPostIds = new HashSet<>();
+
+        if (userId == null) {
+            return heartPostIds;
+        }
+
+        try {
+            for (long postId : findHeartPostIdArray(userId)) {
+                heartPostIds.add(postId);
+            }
+
+            return heartPostIds;
+        } catch (DataAccessException e) {
+            log.warn("heart read failed, read from database : {}", e.getMessage());
+        }
+
+        for (PostHeart postHeart : postHeartRepository.findAllByUserId(userId)) {
+            heartPostIds.add(postHeart.getPostId());
+        }
+
+        return heartPostIds;
+    }
+
+    /**
+     * 찜한 순서 (찜한 시각, post id 내림차순) 로 cursor 뒤의 size 개
+     */
+    @Override
+    public List<PostHeart> findHeartPost(Long userId, PageCursor cursor, int size) {
+        String key = USER_KEY + userId;
+
+        try {
+            loadUser(userId);
+
+            double max = cursor.isFirst() ? Double.MAX_VALUE : toEpochMilli(cursor.getCreatedAt());
+            // 커서와 같은 시각의 게시물은 post id 로 다시 거르므로 그만큼 더 읽는다.
+            Long ties = cursor.isFirst() ? Long.valueOf(0L) : stringRedisTemplate.opsForZSet().count(key, max, max);
+            Set<ZSetOperations.TypedTuple<String>> entries = stringRedisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(key, 1, max, 0, size + (ties == null ? 0 : ties));
+
+            List<PostHeart> postHeartList = toPostHeart(userId, entries);
+            List<PostHeart> result = new ArrayList<>();
+
+            postHeartList.sort(Comparator.comparing(PostHeart::getCreatedAt)
+                    .thenComparing(PostHeart::getPostId)
+                    .reversed());
+
+            for (PostHeart postHeart : postHeartList) {
+                if (result.size() >= size) {
+                    break;
+                }
+
+                if (isAfter(postHeart, cursor)) {
+                    result.add(postHeart);
+                }
+            }
+
+            return result;
+        } catch (DataAccessException e) {
+            log.warn("heart read failed, read from database : {}", e.getMessage());
+        }
+
+        return postHeartRepository.findByUserIdAfter(userId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size));
+    }
+
+    @Override
+    public void remove(Long userId, List<Long> postIds) {
+        String now = String.valueOf(now());
+
+        try {
+            for (Long postId : postIds) {
+                stringRedisTemplate.execute(REMOVE_SCRIPT,
+                        Arrays.asList(USER_KEY + userId, POST_KEY + postId, PENDING_KEY),
+                        userId.toString(), postId.toString(), now);
+            }
+        } catch (DataAccessException e) {
+            log.warn("heart remove failed : {}", e.getMessage());
+            // 일부만 빠졌을 수 있으므로 다시 읽게 한다.
+            heartedPostCache.evict(userId);
+            return;
+        }
+
+        heartedPostCache.remove(userId, postIds);
+    }
+
+    /**
+     * pending 해시를 flushing 키로 옮긴 뒤 한 트랜잭션으로 반영한다.
+     * 실패하면 그 사이 새로 바뀐 값을 덮어쓰지 않도록 HSETNX 로 pending 에 되돌린다.
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void flush() {
+        String flushingKey = FLUSHING_KEY + UUID.randomUUID();
+        Map<Object, Object> entries;
+
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(PENDING_KEY))) {
+                return;
+            }
+
+            stringRedisTemplate.rename(PENDING_KEY, flushingKey);
+            stringRedisTemplate.expire(flushingKey, FLUSHING_TTL);
+            entries = stringRedisTemplate.opsForHash().entries(flushingKey);
+        } catch (DataAccessException e) {
+            log.warn("heart flush skipped : {}", e.getMessage());
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> flush(entries));
+            stringRedisTemplate.delete(flushingKey);
+        } catch (RuntimeException e) {
+            log.error("heart flush failed : {} entries", entries.size(), e);
+
+            try {
+                for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+                    stringRedisTemplate.opsForHash().putIfAbsent(PENDING_KEY, entry.getKey(), entry.getValue());
+                }
+
+                stringRedisTemplate.delete(flushingKey);
+            } catch (DataAccessException restoreException) {
+                log.error("heart flush restore failed, entries left in {}", flushingKey, restoreException);
+            }
+        }
+    }
+
+    // 최종 상태만 반영한다. 찜이면 행이 없을 때만 추가, 찜 해제면 있는 행을 삭제
+    private void flush(Map<Object, Object> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> postIds = new HashSet<>();
+
+        for (Object field : entries.keySet()) {
+            String[] ids = field.toString().split(":");
+            userIds.add(Long.parseLong(ids[0]));
+            postIds.add(Long.parseLong(ids[1]));
+        }
+
+        Map<String, List<PostHeart>> rowMap = new HashMap<>();
+
+        for (PostHeart row : postHeartRepository.findByUserIdInAndPostIdIn(userIds, postIds)) {
+            rowMap.computeIfAbsent(row.getUserId() + ":" + row.getPostId(), key -> new ArrayList<>()).add(row);
+        }
+
+        List<DateLog> dateLogList = new ArrayList<>();
+        List<PostHeart> saveList = new ArrayList<>();
+        List<PostHeart> deleteList = new ArrayList<>();
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String[] ids = entry.getKey().toString().split(":");
+            String[] state = entry.getValue().toString().split(":");
+            List<PostHeart> rows = rowMap.getOrDefault(entry.getKey().toString(), Collections.emptyList());
+
+            if (HEARTED.equals(state[0])) {
+                if (rows.isEmpty()) {
+                    Long userId = Long.parseLong(ids[0]);
+
+                    dateLogList.add(DateLog.of(userId));
+                    saveList.add(PostHeart.builder()
+                            .postId(Long.parseLong(ids[1]))
+                            .userId(userId)
+                            .createdAt(toLocalDateTime(Long.parseLong(state[1])))
+                            .build());
+                }
+            } else if (UNHEARTED.equals(state[0])) {
+                deleteList.addAll(rows);
+            }
+        }
+
+        List<DateLog> savedDateLogList = dateLogRepository.saveAll(dateLogList);
+
+        for (int i = 0; i < saveList.size(); i++) {
+            saveList.get(i).setDateId(savedDateLogList.get(i).getId());
+        }
+
+        postHeartRepository.saveAll(saveList);
+
+        if (!deleteList.isEmpty()) {
+            postHeartRepository.deleteAllInBatch(deleteList);
+        }
+    }
+
+    private Long runToggle(Long userId, Long postId) {
+        return stringRedisTemplate.execute(TOGGLE_SCRIPT,
+                Arrays.asList(USER_KEY + userId, POST_KEY + postId, PENDING_KEY),
+                userId.toString(), postId.toString(), String.valueOf(now()), String.valueOf(TTL.getSeconds()));
+    }
+
+    // 로컬 캐시에 없으면 사용자 ZSET 전체를 읽어 넣는다.
+    private long[] findHeartPostIdArray(Long userId) {
+        long[] heartPostIds = heartedPostCache.get(userId);
+
+        if (heartPostIds != null) {
+            return heartPostIds;
+        }
+
+        long version = heartedPostCache.getVersion(userId);
+        List<Long> postIds = new ArrayList<>();
+
+        loadUser(userId);
+        Set<String> members = stringRedisTemplate.opsForZSet().rangeByScore(USER_KEY + userId, 1, Double.MAX_VALUE);
+
+        if (members != null) {
+            for (String member : members) {
+                postIds.add(Long.parseLong(member));
+            }
+        }
+
+        return heartedPostCache.put(userId, postIds, version);
+    }
+
+    private void loadUser(Long userId) {
+        String key = USER_KEY + userId;
+
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TTL.getSeconds()));
+
+        for (PostHeart postHeart : postHeartRepository.findAllByUserId(userId)) {
+            args.add(String.valueOf(toEpochMilli(postHeart.getCreatedAt())));
+            args.add(postHeart.getPostId().toString());
+        }
+
+        stringRedisTemplate.execute(LOAD_USER_SCRIPT, Collections.singletonList(key), args.toArray());
+    }
+
+    private void loadPost(Long postId) {
+        String key = POST_KEY + postId;
+
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TTL.getSeconds()));
+
+        for (PostHeart postHeart : postHeartRepository.findByPostId(postId)) {
+            args.add(postHeart.getUserId().toString());
+        }
+
+        stringRedisTemplate.execute(LOAD_POST_SCRIPT, Collections.singletonList(key), args.toArray());
+    }
+
+    private List<PostHeart> toPostHeart(Long userId, Set<ZSetOperations.TypedTuple<String>> entries) {
+        List<PostHeart> postHeartList = new ArrayList<>();
+
+        if (entries == null) {
+            return postHeartList;
+        }
+
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            if (entry.getValue() == null || entry.getScore() == null || SENTINEL.equals(entry.getValue())) {
+                continue;
+            }
+
+            postHeartList.add(PostHeart.builder()
+                    .postId(Long.parseLong(entry.getValue()))
+                    .userId(userId)
+                    .createdAt(toLocalDateTime(entry.getScore().longValue()))
+                    .build());
+        }
+
+        return postHeartList;
+    }
+
+    private boolean isAfter(PostHeart postHeart, PageCursor cursor) {
+        int result = postHeart.getCreatedAt().compareTo(cursor.getCreatedAt());
+
+        return result < 0 || (result == 0 && postHeart.getPostId() < cursor.getId());
+    }
+
+    // created_at 컬럼이 초 단위이므로 점수도 초 단위로 맞춘다.
+    private long now() {
+        return System.currentTimeMillis() / 1000 * 1000;
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,120 @@
+package com.dankan.service.heart;
+
+import com.dankan.util.NearCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.*;
+
+/**
+ * 사용자별 찜한 post id 를 정렬된 long[] 로 들고 있는 로컬 캐시 (LRU + TTL)
+ * 목록 한 페이지의 찜 여부를 Redis, MySQL 조회 없이 이진 탐색으로 채운다.
+ * 찜 원본이 Redis ZSET 이므로 값은 Redis 에 두지 않고, 다른 서버에는 pub/sub 으로 해당 사용자를 버리게 한다.
+ * 메시지를 놓친 경우는 TTL 이 지나면 다시 읽는다.
+ */
+public class HeartedPostCache {
+    private final NearCache<long[]> cache;
+
+    public HeartedPostCache(StringRedisTemplate stringRedisTemplate,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            MeterRegistry meterRegistry) {
+        this.cache = NearCache.<long[]>builder()
+                .name("post.heart.cache")
+                .channel("heart:invalidate")
+                .maxSize(10_000)
+                .localTtlMillis(60_000L)
+                .stringRedisTemplate(stringRedisTemplate)
+                .redisMessageListenerContainer(redisMessageListenerContainer)
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+
+    /**
+     * 캐시된 찜 목록 (정렬된 post id), 없거나 만료되었으면 null
+     */
+    public long[] get(Long userId) {
+        return cache.get(userId);
+    }
+
+    public long getVersion(Long userId) {
+        return cache.getVersion(userId);
+    }
+
+    /**
+     * 정렬된 배열을 돌려주고, loadedVersion 이후 무효화가 없었을 때만 캐시에 넣는다.
+     */
+    public long[] put(Long userId, Collection<Long> postIds, long loadedVersion) {
+        long[] sorted = new long[postIds.size()];
+        int i = 0;
+
+        for (Long postId : postIds) {
+            sorted[i++] = postId;
+        }
+
+        Arrays.sort(sorted);
+        cache.put(userId, sorted, loadedVersion);
+
+        return sorted;
+    }
+
+    /**
+     * 이 서버의 항목은 바로 고치고 다른 서버에는 무효화를 알린다.
+     */
+    public void update(Long userId, Long postId, boolean hearted) {
+        cache.update(userId, postIds -> hearted ? add(postIds, postId) : remove(postIds, postId));
+    }
+
+    /**
+     * 여러 찜을 한 번에 빼고 다른 서버에는 사용자당 한 번만 무효화를 알린다.
+     */
+    public void remove(Long userId, Collection<Long> postIds) {
+        cache.update(userId, heartPostIds -> {
+            long[] result = heartPostIds;
+
+            for (Long postId : postIds) {
+                result = remove(result, postId);
+            }
+
+            return result;
+        });
+    }
+
+    public void evict(Long userId) {
+        cache.evict(userId);
+    }
+
+    public static boolean contains(long[] postIds, Long postId) {
+        return Arrays.binarySearch(postIds, postId) >= 0;
+    }
+
+    private long[] add(long[] postIds, long postId) {
+        int index = Arrays.binarySearch(postIds, postId);
+
+        if (index >= 0) {
+            return postIds;
+        }
+
+        index = -index - 1;
+        long[] result = new long[postIds.length + 1];
+        System.arraycopy(postIds, 0, result, 0, index);
+        result[index] = postId;
+        System.arraycopy(postIds, index, result, index + 1, postIds.length - index);
+
+        return result;
+    }
+
+    private long[] remove(long[] postIds, long postId) {
+        int index = Arrays.binarySearch(postIds, postId);
+
+        if (index < 0) {
+            return postIds;
+        }
+
+        long[] result = new long[postIds.length - 1];
+        System.arraycopy(postIds, 0, result, 0, index);
+        System.arraycopy(postIds, index + 1, result, index, postIds.length - index - 1);
+
+        return result;
+    }
+}
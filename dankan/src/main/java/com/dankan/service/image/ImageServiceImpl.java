@@ -15,6 +15,9 @@ import com.dankan.repository.ImageRepository;
 import com.dankan.repository.PostRepository;
 import com.dankan.repository.ReviewRepository;
 import com.dankan.repository.RoomRepository;
+import com.dankan.service.listing.AddressRoomResolver;
+import com.dankan.service.listing.PostListingViewUpdater;
+import com.dankan.service.post.PostDetailCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,11 +30,19 @@ public class ImageServiceImpl implements ImageService {
     private final PostRepository postRepository;
     private final ImageRepository imageRepository;
     private final ReviewRepository reviewRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostListingViewUpdater postListingViewUpdater;
+    private final AddressRoomResolver addressRoomResolver;
 
-    public ImageServiceImpl(final PostRepository postRepository, final ImageRepository imageRepository,final ReviewRepository reviewRepository) {
+    public ImageServiceImpl(final PostRepository postRepository, final ImageRepository imageRepository,final ReviewRepository reviewRepository
+            ,final PostDetailCache postDetailCache,final PostListingViewUpdater postListingViewUpdater
+            ,final AddressRoomResolver addressRoomResolver) {
         this.postRepository = postRepository;
         this.imageRepository = imageRepository;
         this.reviewRepository = reviewRepository;
+        this.postDetailCache = postDetailCache;
+        this.postListingViewUpdater = postListingViewUpdater;
+        this.addressRoomResolver = addressRoomResolver;
     }
 
     @Override
@@ -46,6 +57,9 @@ public class ImageServiceImpl implements ImageService {
             imageRepository.save(image);
         }
 
+        addressRoomResolver.refreshImage(post.getRoomId(),postListingViewUpdater.refreshImage(post.getRoomId()));
+        postDetailCache.evict(post.getPostId());
+
         return ImageResponseDto.builder()
                 .imgUrls(imgUrls)
                 .build();
@@ -94,6 +108,9 @@ public class ImageServiceImpl implements ImageService {
             imageRepository.save(image);
         }
 
+        addressRoomResolver.refreshImage(post.getRoomId(),postListingViewUpdater.refreshImage(post.getRoomId()));
+        postDetailCache.evict(post.getPostId());
+
         return ImageResponseDto.builder()
                 .imgUrls(imgUrls)
                 .build();
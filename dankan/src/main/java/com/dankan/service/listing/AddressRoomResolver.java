@@ -0,0 +1,111 @@
+package com.dankan.service.listing;
+
+import com.dankan.domain.AddressRoom;
+import com.dankan.domain.Image;
+import com.dankan.domain.Room;
+import com.dankan.repository.AddressRoomRepository;
+import com.dankan.repository.ImageRepository;
+import com.dankan.util.AddressParser;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * 주소 -> 대표 매물, 대표 이미지 조회
+ * 후기 검색처럼 주소 묶음에 매물 이미지를 붙일 때 address_room 을 한 번에 읽는다.
+ * 원본(room, images)을 바꾸는 트랜잭션 안에서 호출해 같이 커밋, 롤백되게 한다.
+ */
+@Slf4j
+public class AddressRoomResolver {
+    private static final Long MAIN_IMAGE_TYPE = 0L;
+
+    private final AddressRoomRepository addressRoomRepository;
+    private final ImageRepository imageRepository;
+
+    public AddressRoomResolver(AddressRoomRepository addressRoomRepository,
+                               ImageRepository imageRepository) {
+        this.addressRoomRepository = addressRoomRepository;
+        this.imageRepository = imageRepository;
+    }
+
+    /**
+     * 주소 -> 대표 매물. 같은 주소의 매물이 없으면 빠진다. 키는 넘겨받은 주소 그대로다.
+     */
+    public Map<String, AddressRoom> resolve(Collection<String> addresses) {
+        Map<String, AddressRoom> addressRoomMap = new HashMap<>();
+
+        if (addresses.isEmpty()) {
+            return addressRoomMap;
+        }
+
+        Set<String> addressKeys = new HashSet<>();
+
+        for (String address : addresses) {
+            addressKeys.add(AddressParser.toKey(address));
+        }
+
+        Map<String, AddressRoom> keyMap = new HashMap<>();
+
+        for (AddressRoom addressRoom : addressRoomRepository.findByAddressKeyIn(addressKeys)) {
+            keyMap.put(addressRoom.getAddressKey(), addressRoom);
+        }
+
+        for (String address : addresses) {
+            AddressRoom addressRoom = keyMap.get(AddressParser.toKey(address));
+
+            if (addressRoom != null) {
+                addressRoomMap.put(address, addressRoom);
+            }
+        }
+
+        return addressRoomMap;
+    }
+
+    /**
+     * 새 매물. 이미지는 따로 올라오므로 대표 이미지 없이 넣는다.
+     */
+    public void put(Room room) {
+        addressRoomRepository.insertIfAbsent(AddressParser.toKey(room.getRoomAddress().getAddress()), room.getRoomId(), null);
+    }
+
+    /**
+     * 매물 이미지 추가, 수정 후 대표 이미지를 고친다. 대표 매물이 아니면 바뀌지 않는다.
+     */
+    public void refreshImage(Long roomId, String imgUrl) {
+        addressRoomRepository.updateImgUrl(roomId, imgUrl);
+    }
+
+    /**
+     * room_id 순 매물 묶음으로 대표 매물을 채운다. (백필) 이미 있는 주소는 그대로 둔다. 처리한 주소 수를 돌려준다.
+     */
+    public int rebuild(List<Room> roomList) {
+        if (roomList.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Room> roomMap = new LinkedHashMap<>();
+
+        for (Room room : roomList) {
+            roomMap.putIfAbsent(AddressParser.toKey(room.getRoomAddress().getAddress()), room);
+        }
+
+        List<Long> roomIds = new ArrayList<>();
+
+        for (Room room : roomMap.values()) {
+            roomIds.add(room.getRoomId());
+        }
+
+        Map<Long, String> imageMap = new HashMap<>();
+
+        for (Image image : imageRepository.findMainImages(roomIds, MAIN_IMAGE_TYPE)) {
+            imageMap.putIfAbsent(image.getId(), image.getImageUrl());
+        }
+
+        for (Map.Entry<String, Room> room : roomMap.entrySet()) {
+            Long roomId = room.getValue().getRoomId();
+            addressRoomRepository.insertIfAbsent(room.getKey(), roomId, imageMap.get(roomId));
+        }
+
+        return roomMap.size();
+    }
+}
@@ -0,0 +1,164 @@
+package com.dankan.service.listing;
+
+import com.dankan.dto.request.post.PostFilterRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 매물 필터 결과(정렬된 room id 목록) Redis 캐시
+ * 키는 univ 별 버전 + 필터 조건을 정규화한 JSON 의 md5 이다. 매물이 목록에 들어오거나 빠지면 각 서버가 자기 인덱스에
+ * 반영한 뒤 univ 버전을 올려 그 학교의 이전 결과를 한 번에 버린다. (남은 키는 TTL 로 정리)
+ * 조회 중에 버전이 올라가도 이전 버전 키에 쓰도록 한 요청은 getKey 로 얻은 키 하나로 읽고 쓴다.
+ * 사용자마다 결과가 다른 찜순 정렬은 캐시하지 않고, 찜 여부는 조회 후 사용자별로 채운다.
+ */
+@Slf4j
+public class FilterResultCache {
+    private static final String VERSION_KEY = "filter:version:";
+    private static final String RESULT_KEY = "filter:result:";
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public FilterResultCache(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.hitCounter = meterRegistry.counter("post.filter.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("post.filter.cache", "result", "miss");
+    }
+
+    public boolean isCacheable(PostFilterRequestDto postFilterRequestDto) {
+        return postFilterRequestDto.getUniv() != null && postFilterRequestDto.getHeartOrder() == null;
+    }
+
+    /**
+     * 현재 버전의 캐시 키, Redis 를 쓸 수 없으면 null
+     */
+    public String getKey(PostFilterRequestDto postFilterRequestDto) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(VERSION_KEY + postFilterRequestDto.getUniv());
+
+            return RESULT_KEY + postFilterRequestDto.getUniv() + ":" + (version == null ? "0" : version) + ":"
+                    + DigestUtils.md5DigestAsHex(normalize(postFilterRequestDto).getBytes(StandardCharsets.UTF_8));
+        } catch (DataAccessException e) {
+            log.warn("filter cache version read failed : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시된 room id 목록, 없으면 null
+     */
+    public List<Long> get(String key) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key);
+
+            if (value == null) {
+                missCounter.increment();
+                return null;
+            }
+
+            hitCounter.increment();
+
+            return toIds(value);
+        } catch (DataAccessException e) {
+            log.warn("filter cache read failed : {}", e.getMessage());
+            missCounter.increment();
+            return null;
+        }
+    }
+
+    public void put(String key, List<Long> roomIds) {
+        StringJoiner joiner = new StringJoiner(",");
+
+        for (Long roomId : roomIds) {
+            joiner.add(roomId.toString());
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().set(key, joiner.toString(), TTL);
+        } catch (DataAccessException e) {
+            log.warn("filter cache write failed : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * univ 의 캐시를 비운다. ListingIndex 가 커밋 후 자기 인덱스에 반영한 뒤 호출한다.
+     */
+    public void invalidate(String univ) {
+        if (univ == null) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().increment(VERSION_KEY + univ);
+        } catch (DataAccessException e) {
+            log.warn("filter cache invalidate failed : {}", e.getMessage());
+        }
+    }
+
+    // 값이 없는 조건은 빼고, 목록 조건은 정렬해서 같은 조건이면 같은 문자열이 되게 한다.
+    @SuppressWarnings("unchecked")
+    private String normalize(PostFilterRequestDto postFilterRequestDto) {
+        Map<String, Object> fields = OBJECT_MAPPER.convertValue(postFilterRequestDto, TreeMap.class);
+        Map<String, Object> normalized = new TreeMap<>();
+
+        for (Map.Entry<String, Object> entry : fields.entrySet()) {
+            Object value = entry.getValue();
+
+            if (value == null || (value instanceof Collection && ((Collection<?>) value).isEmpty())) {
+                continue;
+            }
+
+            if (value instanceof String) {
+                value = ((String) value).trim();
+            }
+
+            if (value instanceof List) {
+                List<String> values = new ArrayList<>();
+
+                for (Object item : (List<Object>) value) {
+                    values.add(String.valueOf(item));
+                }
+
+                Collections.sort(values);
+                value = new ArrayList<>(new LinkedHashSet<>(values));
+            }
+
+            normalized.put(entry.getKey(), value);
+        }
+
+        try {
+            return OBJECT_MAPPER.writeValueAsString(normalized);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<Long> toIds(String value) {
+        List<Long> roomIds = new ArrayList<>();
+
+        if (value.isEmpty()) {
+            return roomIds;
+        }
+
+        for (String roomId : value.split(",")) {
+            roomIds.add(Long.parseLong(roomId));
+        }
+
+        return roomIds;
+    }
+}
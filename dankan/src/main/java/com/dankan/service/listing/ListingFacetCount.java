@@ -0,0 +1,91 @@
+package com.dankan.service.listing;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 필터 화면 패싯별 매물 수
+ * 각 패싯은 자기 조건만 빼고 나머지 조건을 모두 통과한 매물을 센다. (선택을 바꿨을 때 나올 개수)
+ */
+@Getter
+public class ListingFacetCount {
+    // 코드값("0", "1", ...) 최대 개수
+    static final int CODE_SIZE = 8;
+    private static final int MAX_PRICE_BUCKETS = 20;
+
+    // 월세 구간 시작값 기본값
+    public static final List<Long> DEFAULT_PRICE_EDGES = Arrays.asList(0L, 30L, 40L, 50L, 60L, 80L);
+
+    // floorList 값별 층 범위 (필터 조건과 같다, 10층은 1, 2 구간에 모두 들어간다)
+    public static final long[][] FLOOR_RANGES = {{1L, 5L}, {6L, 10L}, {10L, Long.MAX_VALUE}};
+
+    private final long[] priceEdges;
+
+    private long totalCount;
+    private final long[] dealTypeCounts = new long[CODE_SIZE];
+    private final long[] roomTypeCounts = new long[CODE_SIZE];
+    private final long[] structureTypeCounts = new long[CODE_SIZE];
+    private final long[] priceCounts;
+    private final long[] floorCounts = new long[FLOOR_RANGES.length];
+
+    public ListingFacetCount(List<Long> priceEdges) {
+        TreeSet<Long> edges = new TreeSet<>(priceEdges == null || priceEdges.isEmpty() ? DEFAULT_PRICE_EDGES : priceEdges);
+
+        this.priceEdges = edges.stream()
+                .limit(MAX_PRICE_BUCKETS)
+                .mapToLong(Long::longValue)
+                .toArray();
+        this.priceCounts = new long[this.priceEdges.length];
+    }
+
+    /**
+     * failed 는 ListingQuery.matchFacets() 결과. 모두 통과하면 모든 패싯에, 한 패싯만 통과 못 하면 그 패싯에만 센다.
+     */
+    void add(UnivListingSegment segment, int slot, int failed) {
+        boolean all = failed == ListingQuery.MATCH_ALL;
+
+        if (all) {
+            totalCount++;
+        }
+
+        if (all || failed == ListingQuery.DEAL_TYPE_FACET) {
+            addCode(dealTypeCounts, segment.dealTypes[slot]);
+        }
+
+        if (all || failed == ListingQuery.ROOM_TYPE_FACET) {
+            addCode(roomTypeCounts, segment.roomTypes[slot]);
+        }
+
+        if (all || failed == ListingQuery.STRUCTURE_TYPE_FACET) {
+            addCode(structureTypeCounts, segment.structureTypes[slot]);
+        }
+
+        if (all || failed == ListingQuery.PRICE_FACET) {
+            int bucket = Arrays.binarySearch(priceEdges, segment.prices[slot]);
+            bucket = bucket >= 0 ? bucket : -bucket - 2;
+
+            if (bucket >= 0) {
+                priceCounts[bucket]++;
+            }
+        }
+
+        if (all || failed == ListingQuery.FLOOR_FACET) {
+            long floor = segment.floors[slot];
+
+            for (int i = 0; i < FLOOR_RANGES.length; i++) {
+                if (floor >= FLOOR_RANGES[i][0] && floor <= FLOOR_RANGES[i][1]) {
+                    floorCounts[i]++;
+                }
+            }
+        }
+    }
+
+    private void addCode(long[] counts, byte code) {
+        if (code >= 0 && code < CODE_SIZE) {
+            counts[code]++;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.dankan.service.listing;
+
+import com.dankan.domain.Options;
+import com.dankan.domain.Post;
+import com.dankan.domain.Room;
+import com.dankan.repository.OptionsRepository;
+import com.dankan.repository.PostRepository;
+import com.dankan.repository.RoomRepository;
+import com.dankan.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학교(univ)별 거래 가능 매물 메모리 인덱스
+ * 기동 시 MySQL 에서 다시 만들고, 게시물 등록/삭제/거래완료는 커밋 후 바로 반영한 뒤 pub/sub 으로 다른 서버에 알린다.
+ * 알림을 받은 서버는 그 매물을 DB 에서 다시 읽어 반영한다.
+ * 각 서버는 자기 인덱스에 반영한 뒤 필터 결과 캐시 버전을 올린다. 아직 반영 전인 서버가 쓴 결과는
+ * 그 서버가 반영하면서 버전을 올리므로 다시 읽히지 않는다.
+ * 인덱스가 준비되지 않은 동안에는 isReady() 가 false 이고 호출 측은 DB 조회를 사용한다.
+ */
+@Slf4j
+public class ListingIndex implements MessageListener {
+    private static final int CHUNK_SIZE = 500;
+    private static final String CHANNEL = "listing:index:changed";
+
+    private final RoomRepository roomRepository;
+    private final PostRepository postRepository;
+    private final OptionsRepository optionsRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FilterResultCache filterResultCache;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, UnivListingSegment> segments = new ConcurrentHashMap<>();
+    // 찜 여부 정렬용 post id -> room id
+    private final Map<Long, Long> roomIdByPostId = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    public ListingIndex(RoomRepository roomRepository,
+                        PostRepository postRepository,
+                        OptionsRepository optionsRepository,
+                        StringRedisTemplate stringRedisTemplate,
+                        RedisMessageListenerContainer redisMessageListenerContainer,
+                        FilterResultCache filterResultCache) {
+        this.roomRepository = roomRepository;
+        this.postRepository = postRepository;
+        this.optionsRepository = optionsRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.filterResultCache = filterResultCache;
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Long lastRoomId = Long.MIN_VALUE;
+        int count = 0;
+
+        ready = false;
+        segments.clear();
+        roomIdByPostId.clear();
+
+        try {
+            while (true) {
+                List<Room> roomList = roomRepository.findTradeableChunk(lastRoomId, CHUNK_SIZE);
+
+                if (roomList.isEmpty()) {
+                    break;
+                }
+
+                load(roomList);
+                count += roomList.size();
+                lastRoomId = roomList.get(roomList.size() - 1).getRoomId();
+            }
+
+            ready = true;
+            log.info("listing index rebuilt : {} rooms, {} univs, {}ms", count, segments.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("listing index rebuild failed, filter falls back to database", e);
+        }
+    }
+
+    public boolean isReady(String univ) {
+        return ready && univ != null;
+    }
+
+    /**
+     * 조건에 맞는 room id 를 정렬 순서대로 최대 limit 개 돌려준다.
+     */
+    public List<Long> search(ListingQuery query, int limit) {
+        UnivListingSegment segment = segments.get(query.getUniv());
+
+        if (segment == null) {
+            return new ArrayList<>();
+        }
+
+        return segment.search(query, limit);
+    }
+
+    /**
+     * 패싯별 매물 수. 인덱스가 준비되지 않았으면 세지 않고 false 를 돌려준다.
+     */
+    public boolean countFacets(ListingQuery query, ListingFacetCount facetCount) {
+        if (!isReady(query.getUniv())) {
+            return false;
+        }
+
+        UnivListingSegment segment = segments.get(query.getUniv());
+
+        if (segment != null) {
+            segment.countFacets(query, facetCount);
+        }
+
+        return true;
+    }
+
+    public void put(Room room, Post post, List<Options> optionsList) {
+        // 롤백된 변경이 인덱스에 남지 않도록 커밋 뒤에 반영한다.
+        TransactionUtil.afterCommit(() -> {
+            putLocal(room, post.getPostId(), optionsList);
+            publish(room);
+        });
+    }
+
+    public void remove(Room room) {
+        TransactionUtil.afterCommit(() -> {
+            removeLocal(room.getUniv(), room.getRoomId());
+            publish(room);
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+
+        // 보낸 서버는 이미 반영했다.
+        if (body.length != 2 || instanceId.equals(body[0])) {
+            return;
+        }
+
+        try {
+            refresh(Long.parseLong(body[1]));
+        } catch (RuntimeException e) {
+            log.error("listing index refresh failed : room {}", body[1], e);
+        }
+    }
+
+    /**
+     * post id 목록을 인덱스에 있는 room id 로 바꾼다. (찜 여부 정렬용)
+     */
+    public Set<Long> findRoomIds(Collection<Long> postIds) {
+        Set<Long> roomIds = new HashSet<>();
+
+        for (Long postId : postIds) {
+            Long roomId = roomIdByPostId.get(postId);
+
+            if (roomId != null) {
+                roomIds.add(roomId);
+            }
+        }
+
+        return roomIds;
+    }
+
+    // 다른 서버에서 바뀐 매물을 DB 에서 다시 읽는다. 거래 가능하지 않거나 게시물이 없으면 뺀다.
+    private void refresh(Long roomId) {
+        Room room = roomRepository.findById(roomId).orElse(null);
+
+        if (room == null) {
+            for (Map.Entry<String, UnivListingSegment> segment : segments.entrySet()) {
+                Long postId = segment.getValue().remove(roomId);
+
+                if (postId != null) {
+                    roomIdByPostId.remove(postId);
+                    filterResultCache.invalidate(segment.getKey());
+                }
+            }
+
+            return;
+        }
+
+        if (!Boolean.TRUE.equals(room.getIsTradeable())) {
+            removeLocal(room.getUniv(), roomId);
+            return;
+        }
+
+        List<Post> postList = postRepository.findByRoomIdIn(Collections.singletonList(roomId));
+
+        if (postList.isEmpty()) {
+            removeLocal(room.getUniv(), roomId);
+            return;
+        }
+
+        putLocal(room, postList.get(0).getPostId(), optionsRepository.findByRoomIdIn(Collections.singletonList(roomId)));
+    }
+
+    private void putLocal(Room room, Long postId, List<Options> optionsList) {
+        segments.computeIfAbsent(room.getUniv(), key -> new UnivListingSegment())
+                .put(room, postId, optionsList);
+        roomIdByPostId.put(postId, room.getRoomId());
+        filterResultCache.invalidate(room.getUniv());
+    }
+
+    private void removeLocal(String univ, Long roomId) {
+        UnivListingSegment segment = univ == null ? null : segments.get(univ);
+        Long postId = segment == null ? null : segment.remove(roomId);
+
+        if (postId != null) {
+            roomIdByPostId.remove(postId);
+        }
+
+        filterResultCache.invalidate(univ);
+    }
+
+    private void publish(Room room) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, instanceId + ":" + room.getRoomId());
+        } catch (DataAccessException e) {
+            log.warn("listing index publish failed : {}", e.getMessage());
+        }
+    }
+
+    private void load(List<Room> roomList) {
+        List<Long> roomIds = new ArrayList<>();
+
+        for (Room room : roomList) {
+            roomIds.add(room.getRoomId());
+        }
+
+        Map<Long, Post> postMap = new HashMap<>();
+
+        for (Post post : postRepository.findByRoomIdIn(roomIds)) {
+            postMap.put(post.getRoomId(), post);
+        }
+
+        Map<Long, List<Options>> optionsMap = new HashMap<>();
+
+        for (Options options : optionsRepository.findByRoomIdIn(roomIds)) {
+            optionsMap.computeIfAbsent(options.getRoomId(), key -> new ArrayList<>()).add(options);
+        }
+
+        for (Room room : roomList) {
+            Post post = postMap.get(room.getRoomId());
+
+            if (post == null) { // 게시물이 없는 매물은 목록에 나오지 않는다.
+                continue;
+            }
+
+            segments.computeIfAbsent(room.getUniv(), key -> new UnivListingSegment())
+                    .put(room, post.getPostId(), optionsMap.getOrDefault(room.getRoomId(), Collections.emptyList()));
+            roomIdByPostId.put(post.getPostId(), room.getRoomId());
+        }
+    }
+}
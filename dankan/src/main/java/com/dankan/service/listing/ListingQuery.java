@@ -0,0 +1,370 @@
+package com.dankan.service.listing;
+
+import com.dankan.dto.request.post.PostFilterRequestDto;
+import com.dankan.enum_converter.*;
+import com.dankan.util.BitMaskUtil;
+import com.dankan.util.FullTextUtil;
+import com.dankan.vo.GeoBounds;
+import com.dankan.vo.PageCursor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PostFilterRequestDto 를 인덱스에서 바로 비교할 수 있는 값으로 바꾼 조건
+ * 조건은 RoomFilterCustomRepositoryImpl 의 쿼리 조건과 같다. 주소 조건은 두 쪽 모두 FullTextUtil 로 정규화하며,
+ * FULLTEXT 구문 검색은 FullTextUtil.matches 로 흉내 낸다. 결과가 다르면 DB 쪽이 기준이다.
+ */
+public class ListingQuery {
+    static final int DEFAULT_ORDER = 0;
+    static final int LOW_COST_ORDER = 1;
+    static final int HEART_ORDER = 2;
+
+    // 패싯 조건. 패싯별 개수는 자기 조건만 빼고 나머지 조건으로 센다.
+    static final int DEAL_TYPE_FACET = 0;
+    static final int ROOM_TYPE_FACET = 1;
+    static final int STRUCTURE_TYPE_FACET = 2;
+    static final int PRICE_FACET = 3;
+    static final int FLOOR_FACET = 4;
+    static final int FACET_SIZE = 5;
+
+    // matchFacets() 결과. 모든 조건 통과 / 패싯 두 개 이상 또는 패싯이 아닌 조건 불통과
+    static final int MATCH_ALL = -1;
+    static final int NO_MATCH = -2;
+
+    private final String univ;
+    private final String address;
+    // [도, 시, 구, 동] 행정구역 코드 조건, 0 이면 조건 없음
+    private final long[] regionCodes;
+
+    private final Long minPrice;
+    private final Long maxPrice;
+    private final Long minDeposit;
+    private final Long maxDeposit;
+    private final Long minManagementCost;
+    private final Long maxManagementCost;
+    private final Double minRoomSize;
+    private final Double maxRoomSize;
+
+    // 층수 조건 (floorList 가 없으면 null)
+    private final Long minFloor;
+    private final Long maxFloor;
+    private final boolean highFloor;
+
+    private final boolean elevator;
+
+    // 코드값 조건. 허용하는 값의 비트 집합, 0 이면 조건 없음
+    private final int dealTypeMask;
+    private final int priceTypeMask;
+    private final int roomTypeMask;
+    private final int structureTypeMask;
+
+    private final long optionMask;
+    private final long etcOptionMask;
+
+    // 지도 검색 영역 (없으면 null)
+    private final GeoBounds bounds;
+
+    private final int order;
+    private final Set<Long> heartRoomIds;
+    private final PageCursor cursor;
+
+    private ListingQuery(PostFilterRequestDto dto, GeoBounds bounds, Set<Long> heartRoomIds, PageCursor cursor) {
+        this.univ = dto.getUniv();
+        this.address = dto.getAddress();
+
+        Long[] codes = {dto.getDooCode(), dto.getSiCode(), dto.getGuCode(), dto.getDongCode()};
+        this.regionCodes = new long[codes.length];
+
+        for (int level = 0; level < codes.length; level++) {
+            this.regionCodes[level] = codes[level] == null ? 0L : codes[level];
+        }
+
+        boolean hasPrice = dto.getMinPayPrice() != null && dto.getMaxPayPrice() != null;
+        this.minPrice = hasPrice ? dto.getMinPayPrice() : null;
+        this.maxPrice = hasPrice ? dto.getMaxPayPrice() : null;
+
+        boolean hasDeposit = dto.getMinDeposit() != null && dto.getMaxDeposit() != null;
+        this.minDeposit = hasDeposit ? dto.getMinDeposit() : null;
+        this.maxDeposit = hasDeposit ? dto.getMaxDeposit() : null;
+
+        boolean hasManagementCost = dto.getMinManagementCost() != null && dto.getMaxManagementCost() != null;
+        this.minManagementCost = hasManagementCost ? dto.getMinManagementCost() : null;
+        this.maxManagementCost = hasManagementCost ? dto.getMaxManagementCost() : null;
+
+        boolean hasRoomSize = dto.getMinRoomSize() != null && dto.getMaxRoomSize() != null;
+        this.minRoomSize = hasRoomSize ? dto.getMinRoomSize() : null;
+        this.maxRoomSize = hasRoomSize ? dto.getMaxRoomSize() : null;
+
+        List<Long> floorList = dto.getFloorList() == null ? Collections.emptyList() : dto.getFloorList();
+
+        if (floorList.isEmpty()) {
+            this.minFloor = null;
+            this.maxFloor = null;
+            this.highFloor = false;
+        } else {
+            Long minFloorOptionValue = Collections.min(floorList);
+            Long maxFloorOptionValue = Collections.max(floorList);
+
+            long min = 0L;
+            long max = 0L;
+
+            if (minFloorOptionValue == 0L) {
+                min = 1L;
+            } else if (minFloorOptionValue == 1L) {
+                min = 6L;
+            }
+
+            if (maxFloorOptionValue == 0L) {
+                max = 5L;
+            } else if (maxFloorOptionValue >= 1L) {
+                max = 10L;
+            }
+
+            if (minFloorOptionValue < 2L) {
+                this.minFloor = min;
+                this.maxFloor = max;
+                this.highFloor = maxFloorOptionValue == 2L;
+            } else {
+                this.minFloor = null;
+                this.maxFloor = null;
+                this.highFloor = true;
+            }
+        }
+
+        this.elevator = dto.getElevator() != null;
+
+        this.dealTypeMask = dto.getDealType() == null ? 0
+                : toBit(DealTypeEnum.getDealTypeValue(dto.getDealType()));
+        this.priceTypeMask = dto.getPriceType() == null ? 0
+                : toBit(PriceTypeEnum.getPriceTypeValue(dto.getPriceType()));
+
+        int roomTypes = 0;
+
+        if (dto.getRoomType() != null) {
+            for (String roomType : dto.getRoomType()) {
+                roomTypes |= toBit(RoomTypeEnum.getRoomTypeValue(roomType));
+            }
+        }
+
+        this.roomTypeMask = roomTypes;
+
+        int structureTypes = 0;
+
+        if (dto.getRoomStructure() != null) {
+            for (String roomStructure : dto.getRoomStructure()) {
+                structureTypes |= toBit(StructureTypeEnum.getStructureTypeValue(roomStructure));
+            }
+        }
+
+        this.structureTypeMask = structureTypes;
+
+        this.optionMask = dto.getFullOption() == null ? 0L : OptionTypeEnum.getFullOptionMask();
+
+        long etcOptions = 0L;
+
+        for (String etcOption : new String[]{dto.getCanPark(), dto.getPet(), dto.getOnlyWomen(), dto.getLoan()}) {
+            if (etcOption != null) {
+                etcOptions |= EtcOptionTypeEnum.getEtcOptionTypeMask(etcOption);
+            }
+        }
+
+        this.etcOptionMask = etcOptions;
+
+        if (dto.getLowCostOrder() != null) {
+            this.order = LOW_COST_ORDER;
+        } else if (dto.getHeartOrder() != null) {
+            this.order = HEART_ORDER;
+        } else {
+            this.order = DEFAULT_ORDER;
+        }
+
+        this.bounds = bounds;
+        this.heartRoomIds = heartRoomIds;
+        this.cursor = cursor;
+    }
+
+    public static ListingQuery of(PostFilterRequestDto dto, Set<Long> heartRoomIds, PageCursor cursor) {
+        return new ListingQuery(dto, null, heartRoomIds, cursor);
+    }
+
+    public static ListingQuery of(PostFilterRequestDto dto, GeoBounds bounds, Set<Long> heartRoomIds, PageCursor cursor) {
+        return new ListingQuery(dto, bounds, heartRoomIds, cursor);
+    }
+
+    // 코드값("0", "1", ...) 을 비트로 바꾼다. 저장된 값이 없으면 0
+    static int toBit(String value) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+
+        return 1 << Integer.parseInt(value);
+    }
+
+    boolean matches(UnivListingSegment segment, int slot) {
+        if (!matchesCommon(segment, slot)) {
+            return false;
+        }
+
+        for (int facet = 0; facet < FACET_SIZE; facet++) {
+            if (!matchesFacet(facet, segment, slot)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 패싯이 아닌 조건을 모두 통과하면 통과하지 못한 패싯 번호(하나뿐일 때) 또는 MATCH_ALL, 그 외에는 NO_MATCH
+     */
+    int matchFacets(UnivListingSegment segment, int slot) {
+        if (!matchesCommon(segment, slot)) {
+            return NO_MATCH;
+        }
+
+        int failed = MATCH_ALL;
+
+        for (int facet = 0; facet < FACET_SIZE; facet++) {
+            if (matchesFacet(facet, segment, slot)) {
+                continue;
+            }
+
+            if (failed != MATCH_ALL) {
+                return NO_MATCH;
+            }
+
+            failed = facet;
+        }
+
+        return failed;
+    }
+
+    private boolean matchesFacet(int facet, UnivListingSegment segment, int slot) {
+        switch (facet) {
+            case DEAL_TYPE_FACET:
+                return hasCode(dealTypeMask, segment.dealTypes[slot]);
+            case ROOM_TYPE_FACET:
+                return hasCode(roomTypeMask, segment.roomTypes[slot]);
+            case STRUCTURE_TYPE_FACET:
+                return hasCode(structureTypeMask, segment.structureTypes[slot]);
+            case PRICE_FACET:
+                return minPrice == null || between(segment.prices[slot], minPrice, maxPrice);
+            case FLOOR_FACET:
+                if (minFloor == null && !highFloor) {
+                    return true;
+                }
+
+                long floor = segment.floors[slot];
+
+                return (minFloor != null && between(floor, minFloor, maxFloor)) || (highFloor && floor >= 10L);
+            default:
+                return true;
+        }
+    }
+
+    private boolean matchesCommon(UnivListingSegment segment, int slot) {
+        for (int level = 0; level < regionCodes.length; level++) {
+            if (regionCodes[level] != 0L && segment.regionCodes[level][slot] != regionCodes[level]) {
+                return false;
+            }
+        }
+
+        if (minDeposit != null && !between(segment.deposits[slot], minDeposit, maxDeposit)) {
+            return false;
+        }
+
+        if (minManagementCost != null
+                && (segment.managementCosts[slot] < minManagementCost || segment.managementCosts[slot] > maxManagementCost)) {
+            return false;
+        }
+
+        if (minRoomSize != null && (segment.roomSizes[slot] < minRoomSize || segment.roomSizes[slot] > maxRoomSize)) {
+            return false;
+        }
+
+        if (elevator && !segment.elevators[slot]) {
+            return false;
+        }
+
+        if (!hasCode(priceTypeMask, segment.priceTypes[slot])) {
+            return false;
+        }
+
+        if (!BitMaskUtil.hasAll(segment.optionMasks[slot], optionMask)
+                || !BitMaskUtil.hasAll(segment.etcOptionMasks[slot], etcOptionMask)) {
+            return false;
+        }
+
+        if (bounds != null && !bounds.contains(segment.latitudes[slot], segment.longitudes[slot])) {
+            return false;
+        }
+
+        return FullTextUtil.matches(segment.addresses[slot], address);
+    }
+
+    /**
+     * 정렬 1순위 값. 작을수록 앞에 온다. (저가순: 가격, 찜순: 찜한 매물 -1, 기본: 0)
+     */
+    long rank(UnivListingSegment segment, int slot) {
+        if (order == LOW_COST_ORDER) {
+            return segment.prices[slot];
+        }
+
+        if (order == HEART_ORDER) {
+            return heartRoomIds.contains(segment.roomIds[slot]) ? -1L : 0L;
+        }
+
+        return 0L;
+    }
+
+    // 커서보다 뒤에 있는 행인지. 정렬은 (rank asc, createdAt desc, roomId desc)
+    boolean isAfterCursor(long rank, long createdAt, long roomId) {
+        if (cursor.isFirst()) {
+            return true;
+        }
+
+        long cursorRank = getCursorRank();
+
+        if (rank != cursorRank) {
+            return rank > cursorRank;
+        }
+
+        long cursorCreatedAt = UnivListingSegment.toEpochSecond(cursor.getCreatedAt());
+
+        if (createdAt != cursorCreatedAt) {
+            return createdAt < cursorCreatedAt;
+        }
+
+        return roomId < cursor.getId();
+    }
+
+    private long getCursorRank() {
+        if (order == LOW_COST_ORDER) {
+            return cursor.getSortKey() == null ? Long.MIN_VALUE : cursor.getSortKey();
+        }
+
+        if (order == HEART_ORDER) {
+            return cursor.getSortKey() == null || cursor.getSortKey() == 1L ? -1L : 0L;
+        }
+
+        return 0L;
+    }
+
+    private boolean hasCode(int mask, byte code) {
+        return mask == 0 || (code >= 0 && (mask & (1 << code)) != 0);
+    }
+
+    private boolean between(long value, long min, long max) {
+        return value >= min && value <= max;
+    }
+
+    public String getUniv() {
+        return univ;
+    }
+
+    public GeoBounds getBounds() {
+        return bounds;
+    }
+}
@@ -0,0 +1,107 @@
+package com.dankan.service.listing;
+
+import com.dankan.domain.*;
+import com.dankan.repository.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * post_listing_view 읽기 모델 갱신
+ * 원본(post, room, options, images)을 바꾸는 트랜잭션 안에서 호출해 같이 커밋, 롤백되게 한다.
+ */
+@Slf4j
+public class PostListingViewUpdater {
+    private static final Long MAIN_IMAGE_TYPE = 0L;
+
+    private final PostListingViewRepository postListingViewRepository;
+    private final PostRepository postRepository;
+    private final OptionsRepository optionsRepository;
+    private final ImageRepository imageRepository;
+
+    public PostListingViewUpdater(PostListingViewRepository postListingViewRepository,
+                                  PostRepository postRepository,
+                                  OptionsRepository optionsRepository,
+                                  ImageRepository imageRepository) {
+        this.postListingViewRepository = postListingViewRepository;
+        this.postRepository = postRepository;
+        this.optionsRepository = optionsRepository;
+        this.imageRepository = imageRepository;
+    }
+
+    /**
+     * 새 게시물. 이미지는 따로 올라오므로 대표 이미지 없이 넣는다.
+     */
+    public void put(Room room, Post post, List<Options> optionsList) {
+        postListingViewRepository.save(PostListingView.of(post, room, optionsList, null));
+    }
+
+    /**
+     * 게시물 삭제, 거래완료
+     */
+    public void remove(Long roomId) {
+        postListingViewRepository.deleteByRoomId(roomId);
+    }
+
+    /**
+     * 매물 이미지 추가, 수정 후 대표 이미지를 다시 읽는다. 새 대표 이미지 URL 을 돌려준다.
+     */
+    public String refreshImage(Long roomId) {
+        List<Image> imageList = imageRepository.findMainImages(Collections.singletonList(roomId), MAIN_IMAGE_TYPE);
+        String imgUrl = imageList.isEmpty() ? null : imageList.get(0).getImageUrl();
+
+        postListingViewRepository.updateImgUrl(roomId, imgUrl);
+
+        return imgUrl;
+    }
+
+    /**
+     * 거래 가능한 매물 묶음의 행을 원본에서 다시 만든다. (백필)
+     */
+    public int rebuild(List<Room> roomList) {
+        if (roomList.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> roomIds = new ArrayList<>();
+
+        for (Room room : roomList) {
+            roomIds.add(room.getRoomId());
+        }
+
+        Map<Long, Post> postMap = new HashMap<>();
+
+        for (Post post : postRepository.findByRoomIdIn(roomIds)) {
+            postMap.put(post.getRoomId(), post);
+        }
+
+        Map<Long, List<Options>> optionsMap = new HashMap<>();
+
+        for (Options options : optionsRepository.findByRoomIdIn(roomIds)) {
+            optionsMap.computeIfAbsent(options.getRoomId(), key -> new ArrayList<>()).add(options);
+        }
+
+        Map<Long, String> imageMap = new HashMap<>();
+
+        for (Image image : imageRepository.findMainImages(roomIds, MAIN_IMAGE_TYPE)) {
+            imageMap.putIfAbsent(image.getId(), image.getImageUrl());
+        }
+
+        List<PostListingView> viewList = new ArrayList<>();
+
+        for (Room room : roomList) {
+            Post post = postMap.get(room.getRoomId());
+
+            if (post == null) { // 게시물이 없는 매물은 목록에 나오지 않는다.
+                continue;
+            }
+
+            viewList.add(PostListingView.of(post, room, optionsMap.getOrDefault(room.getRoomId(), Collections.emptyList()),
+                    imageMap.get(room.getRoomId())));
+        }
+
+        postListingViewRepository.saveAll(viewList);
+
+        return viewList.size();
+    }
+}
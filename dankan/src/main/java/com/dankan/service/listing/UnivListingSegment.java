@@ -0,0 +1,435 @@
+package com.dankan.service.listing;
+
+import com.dankan.domain.Options;
+import com.dankan.domain.Room;
+import com.dankan.domain.embedded.RegionCode;
+import com.dankan.util.GeoUtil;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 학교의 거래 가능 매물을 컬럼별 배열로 들고 있는 세그먼트
+ * 삭제는 alive 플래그만 내리고, 지워진 칸이 절반을 넘으면 압축한다.
+ * 지도 검색은 geohash 셀(CELL_BITS) 별 slot 목록으로 후보를 좁힌다.
+ */
+class UnivListingSegment {
+    private static final int INITIAL_CAPACITY = 64;
+    // geohash 6자리 (약 1.2km x 0.6km)
+    private static final int CELL_BITS = 30;
+    // 덮는 셀이 이보다 많으면 전체를 훑는 편이 빠르다.
+    private static final int MAX_CELLS = 64;
+    // 도, 시, 구, 동
+    private static final int REGION_LEVELS = 4;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotByRoomId = new HashMap<>();
+    private final Map<Long, List<Integer>> slotsByCell = new HashMap<>();
+
+    private int size;
+    private int deadCount;
+
+    boolean[] alive;
+    long[] roomIds;
+    long[] postIds;
+    long[] prices;
+    long[] deposits;
+    double[] managementCosts;
+    long[] floors;
+    double[] roomSizes;
+    boolean[] elevators;
+    byte[] dealTypes;
+    byte[] priceTypes;
+    byte[] roomTypes;
+    byte[] structureTypes;
+    long[] optionMasks;
+    long[] etcOptionMasks;
+    long[] createdAts;
+    double[] latitudes;
+    double[] longitudes;
+    long[] cells;
+    // [도, 시, 구, 동][slot] 행정구역 코드, 없으면 0
+    long[][] regionCodes = new long[REGION_LEVELS][];
+    String[] addresses;
+
+    UnivListingSegment() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    void put(Room room, Long postId, List<Options> optionsList) {
+        lock.writeLock().lock();
+
+        try {
+            Integer slot = slotByRoomId.get(room.getRoomId());
+
+            if (slot == null) {
+                if (size == roomIds.length) {
+                    grow();
+                }
+
+                slot = size++;
+                slotByRoomId.put(room.getRoomId(), slot);
+            } else {
+                removeCell(slot);
+            }
+
+            write(slot, room, postId, optionsList);
+            addCell(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 뺀 매물의 post id, 없으면 null
+    Long remove(Long roomId) {
+        lock.writeLock().lock();
+
+        try {
+            Integer slot = slotByRoomId.remove(roomId);
+
+            if (slot == null) {
+                return null;
+            }
+
+            Long postId = postIds[slot];
+            alive[slot] = false;
+            addresses[slot] = null;
+            removeCell(slot);
+            deadCount++;
+
+            if (deadCount > INITIAL_CAPACITY && deadCount * 2 > size) {
+                compact();
+            }
+
+            return postId;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 매물 중 커서 뒤에서부터 limit 개의 room id 를 정렬 순서대로 돌려준다.
+     */
+    List<Long> search(ListingQuery query, int limit) {
+        lock.readLock().lock();
+
+        try {
+            long[] ranks = new long[size];
+            // 지금까지 고른 것 중 가장 뒤에 있는 행이 head 에 오도록 역순으로 둔다.
+            Comparator<Integer> order = (a, b) -> compare(ranks, a, b);
+            PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, order.reversed());
+
+            for (int slot : getCandidates(query)) {
+                if (!alive[slot] || !query.matches(this, slot)) {
+                    continue;
+                }
+
+                ranks[slot] = query.rank(this, slot);
+
+                if (!query.isAfterCursor(ranks[slot], createdAts[slot], roomIds[slot])) {
+                    continue;
+                }
+
+                if (top.size() < limit) {
+                    top.add(slot);
+                } else if (compare(ranks, slot, top.peek()) < 0) {
+                    top.poll();
+                    top.add(slot);
+                }
+            }
+
+            List<Integer> slots = new ArrayList<>(top);
+            slots.sort(order);
+
+            List<Long> result = new ArrayList<>(slots.size());
+
+            for (Integer slot : slots) {
+                result.add(roomIds[slot]);
+            }
+
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 매물을 한 번 훑으며 패싯별 개수를 센다.
+     */
+    void countFacets(ListingQuery query, ListingFacetCount facetCount) {
+        lock.readLock().lock();
+
+        try {
+            for (int slot : getCandidates(query)) {
+                if (!alive[slot]) {
+                    continue;
+                }
+
+                int failed = query.matchFacets(this, slot);
+
+                if (failed != ListingQuery.NO_MATCH) {
+                    facetCount.add(this, slot, failed);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 지도 검색이면 영역을 덮는 셀의 slot 만, 아니면 전체 slot
+    private int[] getCandidates(ListingQuery query) {
+        List<Long> coverCells = query.getBounds() == null ? null
+                : GeoUtil.coverBits(query.getBounds(), CELL_BITS, MAX_CELLS);
+
+        if (coverCells == null) {
+            int[] candidates = new int[size];
+
+            for (int slot = 0; slot < size; slot++) {
+                candidates[slot] = slot;
+            }
+
+            return candidates;
+        }
+
+        List<Integer> slots = new ArrayList<>();
+
+        for (Long cell : coverCells) {
+            slots.addAll(slotsByCell.getOrDefault(cell, Collections.emptyList()));
+        }
+
+        int[] candidates = new int[slots.size()];
+
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = slots.get(i);
+        }
+
+        return candidates;
+    }
+
+    private void addCell(int slot) {
+        slotsByCell.computeIfAbsent(cells[slot], key -> new ArrayList<>()).add(slot);
+    }
+
+    private void removeCell(int slot) {
+        List<Integer> slots = slotsByCell.get(cells[slot]);
+
+        if (slots == null) {
+            return;
+        }
+
+        slots.remove(Integer.valueOf(slot));
+
+        if (slots.isEmpty()) {
+            slotsByCell.remove(cells[slot]);
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+
+        try {
+            return size - deadCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // (rank asc, createdAt desc, roomId desc)
+    private int compare(long[] ranks, int a, int b) {
+        int result = Long.compare(ranks[a], ranks[b]);
+
+        if (result != 0) {
+            return result;
+        }
+
+        result = Long.compare(createdAts[b], createdAts[a]);
+
+        if (result != 0) {
+            return result;
+        }
+
+        return Long.compare(roomIds[b], roomIds[a]);
+    }
+
+    private void write(int slot, Room room, Long postId, List<Options> optionsList) {
+        alive[slot] = true;
+        roomIds[slot] = room.getRoomId();
+        postIds[slot] = postId == null ? 0L : postId;
+        prices[slot] = room.getRoomCost().getPrice();
+        deposits[slot] = room.getRoomCost().getDeposit();
+        managementCosts[slot] = room.getRoomCost().getManagementCost();
+        floors[slot] = room.getRoomStructure().getFloor();
+        roomSizes[slot] = room.getRoomStructure().getRoomSize();
+        elevators[slot] = Long.valueOf(1L).equals(room.getElevatorOption());
+        optionMasks[slot] = room.getOptionMask();
+        etcOptionMasks[slot] = room.getEtcOptionMask();
+        createdAts[slot] = toEpochSecond(room.getCreatedAt() == null ? LocalDateTime.now() : room.getCreatedAt());
+        addresses[slot] = room.getRoomAddress().getAddress();
+        latitudes[slot] = room.getRoomAddress().getLatitude();
+        longitudes[slot] = room.getRoomAddress().getLongitude();
+        cells[slot] = GeoUtil.encodeBits(latitudes[slot], longitudes[slot], CELL_BITS);
+
+        RegionCode regionCode = room.getRegionCode() == null ? new RegionCode() : room.getRegionCode();
+        Long[] codes = {regionCode.getDooCode(), regionCode.getSiCode(), regionCode.getGuCode(), regionCode.getDongCode()};
+
+        for (int level = 0; level < REGION_LEVELS; level++) {
+            regionCodes[level][slot] = codes[level] == null ? 0L : codes[level];
+        }
+
+        dealTypes[slot] = -1;
+        priceTypes[slot] = -1;
+        roomTypes[slot] = -1;
+        structureTypes[slot] = -1;
+
+        for (Options options : optionsList) {
+            switch (options.getCodeKey()) {
+                case "DealType":
+                    dealTypes[slot] = toCode(options.getValue());
+                    break;
+                case "PriceType":
+                    priceTypes[slot] = toCode(options.getValue());
+                    break;
+                case "RoomType":
+                    roomTypes[slot] = toCode(options.getValue());
+                    break;
+                case "StructureType":
+                    structureTypes[slot] = toCode(options.getValue());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private byte toCode(String value) {
+        if (value == null || value.isEmpty()) {
+            return -1;
+        }
+
+        return Byte.parseByte(value);
+    }
+
+    // created_at 은 datetime(초 단위) 컬럼이므로 MySQL 과 같이 반올림해서 초로 저장한다.
+    static long toEpochSecond(LocalDateTime dateTime) {
+        long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+
+        return dateTime.getNano() >= 500_000_000 ? epochSecond + 1 : epochSecond;
+    }
+
+    private void grow() {
+        int capacity = roomIds.length * 2;
+
+        alive = Arrays.copyOf(alive, capacity);
+        roomIds = Arrays.copyOf(roomIds, capacity);
+        postIds = Arrays.copyOf(postIds, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        deposits = Arrays.copyOf(deposits, capacity);
+        managementCosts = Arrays.copyOf(managementCosts, capacity);
+        floors = Arrays.copyOf(floors, capacity);
+        roomSizes = Arrays.copyOf(roomSizes, capacity);
+        elevators = Arrays.copyOf(elevators, capacity);
+        dealTypes = Arrays.copyOf(dealTypes, capacity);
+        priceTypes = Arrays.copyOf(priceTypes, capacity);
+        roomTypes = Arrays.copyOf(roomTypes, capacity);
+        structureTypes = Arrays.copyOf(structureTypes, capacity);
+        optionMasks = Arrays.copyOf(optionMasks, capacity);
+        etcOptionMasks = Arrays.copyOf(etcOptionMasks, capacity);
+        createdAts = Arrays.copyOf(createdAts, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+        cells = Arrays.copyOf(cells, capacity);
+        addresses = Arrays.copyOf(addresses, capacity);
+
+        for (int level = 0; level < REGION_LEVELS; level++) {
+            regionCodes[level] = Arrays.copyOf(regionCodes[level], capacity);
+        }
+    }
+
+    // 살아있는 칸만 앞으로 당긴다.
+    private void compact() {
+        int target = 0;
+
+        for (int slot = 0; slot < size; slot++) {
+            if (!alive[slot]) {
+                continue;
+            }
+
+            if (target != slot) {
+                move(slot, target);
+                slotByRoomId.put(roomIds[target], target);
+            }
+
+            target++;
+        }
+
+        for (int slot = target; slot < size; slot++) {
+            alive[slot] = false;
+            addresses[slot] = null;
+        }
+
+        size = target;
+        deadCount = 0;
+
+        slotsByCell.clear();
+
+        for (int slot = 0; slot < size; slot++) {
+            addCell(slot);
+        }
+    }
+
+    private void move(int from, int to) {
+        alive[to] = alive[from];
+        roomIds[to] = roomIds[from];
+        postIds[to] = postIds[from];
+        prices[to] = prices[from];
+        deposits[to] = deposits[from];
+        managementCosts[to] = managementCosts[from];
+        floors[to] = floors[from];
+        roomSizes[to] = roomSizes[from];
+        elevators[to] = elevators[from];
+        dealTypes[to] = dealTypes[from];
+        priceTypes[to] = priceTypes[from];
+        roomTypes[to] = roomTypes[from];
+        structureTypes[to] = structureTypes[from];
+        optionMasks[to] = optionMasks[from];
+        etcOptionMasks[to] = etcOptionMasks[from];
+        createdAts[to] = createdAts[from];
+        latitudes[to] = latitudes[from];
+        longitudes[to] = longitudes[from];
+        cells[to] = cells[from];
+        addresses[to] = addresses[from];
+
+        for (int level = 0; level < REGION_LEVELS; level++) {
+            regionCodes[level][to] = regionCodes[level][from];
+        }
+    }
+
+    private void allocate(int capacity) {
+        alive = new boolean[capacity];
+        roomIds = new long[capacity];
+        postIds = new long[capacity];
+        prices = new long[capacity];
+        deposits = new long[capacity];
+        managementCosts = new double[capacity];
+        floors = new long[capacity];
+        roomSizes = new double[capacity];
+        elevators = new boolean[capacity];
+        dealTypes = new byte[capacity];
+        priceTypes = new byte[capacity];
+        roomTypes = new byte[capacity];
+        structureTypes = new byte[capacity];
+        optionMasks = new long[capacity];
+        etcOptionMasks = new long[capacity];
+        createdAts = new long[capacity];
+        latitudes = new double[capacity];
+        longitudes = new double[capacity];
+        cells = new long[capacity];
+        addresses = new String[capacity];
+
+        for (int level = 0; level < REGION_LEVELS; level++) {
+            regionCodes[level] = new long[capacity];
+        }
+    }
+}
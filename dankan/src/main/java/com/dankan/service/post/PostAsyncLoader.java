@@ -0,0 +1,127 @@
+package com.dankan.service.post;
+
+import com.dankan.domain.Image;
+import com.dankan.domain.Options;
+import com.dankan.domain.Post;
+import com.dankan.domain.Room;
+import com.dankan.exception.image.ImageNotFoundException;
+import com.dankan.exception.post.PostNotFoundException;
+import com.dankan.exception.room.RoomNotFoundException;
+import com.dankan.repository.ImageRepository;
+import com.dankan.repository.OptionsRepository;
+import com.dankan.repository.PostListingViewRepository;
+import com.dankan.repository.PostRepository;
+import com.dankan.repository.RoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 상세 조회용 비동기 조회 모음
+ * room id 를 알고 나면 서로 독립인 조회(매물, 게시물, 옵션, 이미지)를 제한된 I/O 스레드 풀에서 동시에 보낸다.
+ * 각 조회는 호출 스레드의 트랜잭션 밖에서 자기 커넥션으로 실행되므로, 호출 측은 트랜잭션 없이 join 해야
+ * 기다리는 동안 커넥션을 붙잡지 않는다.
+ */
+@Slf4j
+public class PostAsyncLoader {
+    private static final Long IMAGE_TYPE_SIZE = 3L;
+
+    private final PostRepository postRepository;
+    private final RoomRepository roomRepository;
+    private final OptionsRepository optionsRepository;
+    private final ImageRepository imageRepository;
+    private final PostListingViewRepository postListingViewRepository;
+    private final ThreadPoolTaskExecutor executor;
+
+    public PostAsyncLoader(PostRepository postRepository,
+                           RoomRepository roomRepository,
+                           OptionsRepository optionsRepository,
+                           ImageRepository imageRepository,
+                           PostListingViewRepository postListingViewRepository,
+                           ThreadPoolTaskExecutor executor) {
+        this.postRepository = postRepository;
+        this.roomRepository = roomRepository;
+        this.optionsRepository = optionsRepository;
+        this.imageRepository = imageRepository;
+        this.postListingViewRepository = postListingViewRepository;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Post> findPost(Long postId) {
+        return CompletableFuture.supplyAsync(() -> postRepository.findById(postId)
+                .orElseThrow(() -> new PostNotFoundException(postId)), executor);
+    }
+
+    public CompletableFuture<Post> findPostByRoomId(Long roomId) {
+        return CompletableFuture.supplyAsync(() -> postRepository.findByRoomId(roomId)
+                .orElseThrow(() -> new PostNotFoundException(roomId)), executor);
+    }
+
+    public CompletableFuture<Room> findRoom(Long roomId) {
+        return CompletableFuture.supplyAsync(() -> roomRepository.findById(roomId)
+                .orElseThrow(() -> new RoomNotFoundException(roomId)), executor);
+    }
+
+    public CompletableFuture<Room> findRoom(Long roomId, Boolean isTradeable) {
+        return CompletableFuture.supplyAsync(() -> roomRepository.findById(roomId, isTradeable)
+                .orElseThrow(() -> new RoomNotFoundException(roomId)), executor);
+    }
+
+    public CompletableFuture<List<Options>> findOptions(Long roomId) {
+        return CompletableFuture.supplyAsync(() -> optionsRepository.findByRoomId(roomId), executor);
+    }
+
+    public CompletableFuture<String> findMainImageUrl(Long roomId) {
+        return CompletableFuture.supplyAsync(() -> postListingViewRepository.findImgUrlByRoomId(roomId)
+                .orElseThrow(() -> new ImageNotFoundException(roomId)), executor);
+    }
+
+    /**
+     * 이미지 종류별 조회를 동시에 보내고 종류 순서대로 공백으로 이어 붙인다.
+     */
+    public CompletableFuture<String> findImageUrls(Long roomId) {
+        List<CompletableFuture<List<Image>>> futures = new ArrayList<>();
+
+        for (Long imageType = 0L; imageType < IMAGE_TYPE_SIZE; imageType += 1) {
+            Long type = imageType;
+            futures.add(CompletableFuture.supplyAsync(() -> imageRepository.findByIdAndImageType(roomId, type), executor));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    StringBuilder imgUrls = new StringBuilder("");
+
+                    for (CompletableFuture<List<Image>> future : futures) {
+                        for (Image img : future.join()) {
+                            imgUrls.append(img.getImageUrl()).append(" ");
+                        }
+                    }
+
+                    return imgUrls.toString();
+                });
+    }
+
+    // 빈 소멸 시 호출된다.
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 결과를 기다리고, 조회 중 던진 예외(PostNotFoundException 등)는 감싸지 않고 그대로 던진다.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.dankan.service.post;
+
+import com.dankan.dto.response.post.PostDetailResponseDto;
+import com.dankan.util.NearCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+/**
+ * 게시물 상세 스냅샷 캐시. 사용자와 무관한 부분(isHearted 제외)만 만들어 두고 응답 때 찜 여부를 덧씌운다.
+ * 수정, 이미지 변경, 삭제, 거래완료 시 커밋 후 무효화한다.
+ * tombstone 이 있는 동안에는 변경 전 데이터로 만든 스냅샷이 다시 들어가지 않는다.
+ */
+public class PostDetailCache {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            // 스냅샷은 필드 선택 없이 모두 저장한다.
+            .setFilterProvider(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+
+    private final NearCache<PostDetailResponseDto> cache;
+
+    public PostDetailCache(StringRedisTemplate stringRedisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer,
+                           MeterRegistry meterRegistry) {
+        this.cache = NearCache.<PostDetailResponseDto>builder()
+                .name("post.detail.cache")
+                .keyPrefix("post:detail:")
+                .channel("post:detail:invalidate")
+                .codec(NearCache.jsonCodec(OBJECT_MAPPER, PostDetailResponseDto.class))
+                .ttl(Duration.ofMinutes(10))
+                .maxSize(2_000)
+                .localTtlMillis(30_000L)
+                .stringRedisTemplate(stringRedisTemplate)
+                .redisMessageListenerContainer(redisMessageListenerContainer)
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+
+    public long getVersion(Long postId) {
+        return cache.getVersion(postId);
+    }
+
+    /**
+     * 캐시된 스냅샷, 없으면 null. 돌려준 객체는 공유되므로 고치지 말고 overlay 로 복사해서 쓴다.
+     */
+    public PostDetailResponseDto get(Long postId) {
+        return cache.get(postId);
+    }
+
+    /**
+     * DB 에서 만든 스냅샷을 넣는다. tombstone 이 있으면 Redis 에는 넣지 않는다.
+     */
+    public void put(Long postId, PostDetailResponseDto snapshot, long loadedVersion) {
+        cache.put(postId, snapshot, loadedVersion);
+    }
+
+    /**
+     * 스냅샷에 사용자별 값을 덧씌운 응답
+     */
+    public PostDetailResponseDto overlay(PostDetailResponseDto snapshot, Boolean isHearted) {
+        return snapshot.toBuilder()
+                .isHearted(isHearted)
+                .build();
+    }
+
+    public void evict(Long postId) {
+        cache.evict(postId);
+    }
+}
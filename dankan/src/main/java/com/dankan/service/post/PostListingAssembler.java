@@ -0,0 +1,225 @@
+package com.dankan.service.post;
+
+import com.dankan.domain.*;
+import com.dankan.dto.response.post.PostFilterResponseDto;
+import com.dankan.dto.response.post.PostResponseDto;
+import com.dankan.exception.image.ImageNotFoundException;
+import com.dankan.exception.room.RoomNotFoundException;
+import com.dankan.repository.*;
+import com.dankan.service.heart.HeartService;
+import com.dankan.vo.FieldSet;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * 매물 목록 응답 조립기
+ * 목록 읽기 모델(post_listing_view)에서 room id 또는 post id 집합을 한 번에 읽고 찜 여부만 따로 채운다.
+ * 읽기 모델에 없는 게시물(내 게시물 등)은 원본 테이블에서 묶음으로 읽어 조립한다.
+ */
+@Slf4j
+public class PostListingAssembler {
+    private static final Long MAIN_IMAGE_TYPE = 0L;
+
+    private final PostListingViewRepository postListingViewRepository;
+    private final RoomRepository roomRepository;
+    private final OptionsRepository optionsRepository;
+    private final ImageRepository imageRepository;
+    private final HeartService heartService;
+
+    public PostListingAssembler(PostListingViewRepository postListingViewRepository,
+                                RoomRepository roomRepository,
+                                OptionsRepository optionsRepository,
+                                ImageRepository imageRepository,
+                                HeartService heartService) {
+        this.postListingViewRepository = postListingViewRepository;
+        this.roomRepository = roomRepository;
+        this.optionsRepository = optionsRepository;
+        this.imageRepository = imageRepository;
+        this.heartService = heartService;
+    }
+
+    /**
+     * room id 순서대로 읽기 모델 행을 돌려준다. 목록에 없는(게시물이 없거나 거래가 끝난) 매물은 빠진다.
+     */
+    public List<PostListingView> findByRoomIds(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, PostListingView> viewMap = new HashMap<>();
+
+        for (PostListingView view : postListingViewRepository.findByRoomIdIn(roomIds)) {
+            viewMap.put(view.getRoomId(), view);
+        }
+
+        return order(roomIds, viewMap);
+    }
+
+    /**
+     * post id 순서대로 읽기 모델 행을 돌려준다. 삭제되었거나 거래가 끝난 게시물은 빠진다.
+     */
+    public List<PostListingView> findByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, PostListingView> viewMap = new HashMap<>();
+
+        for (PostListingView view : postListingViewRepository.findByPostIdIn(postIds)) {
+            viewMap.put(view.getPostId(), view);
+        }
+
+        return order(postIds, viewMap);
+    }
+
+    public Set<Long> findHeartedPostIds(Long userId, Collection<Long> postIds) {
+        return heartService.findHeartedPostIds(userId, postIds);
+    }
+
+    /**
+     * 필터 조회 결과 조립. views 순서를 유지한다.
+     */
+    public List<PostFilterResponseDto> assembleFilter(List<PostListingView> views, Long userId) {
+        List<PostFilterResponseDto> responseDtoList = new ArrayList<>();
+        Set<Long> heartedPostIds = findHeartedPostIds(userId, getPostIds(views));
+
+        for (PostListingView view : views) {
+            checkImage(view);
+            responseDtoList.add(PostFilterResponseDto.of(view, heartedPostIds.contains(view.getPostId())));
+        }
+
+        return responseDtoList;
+    }
+
+    public List<PostResponseDto> assemble(List<PostListingView> views, Long userId) {
+        return assemble(views, userId, FieldSet.all());
+    }
+
+    /**
+     * 요청된 필드만 채운다. 찜 여부는 필요할 때만 조회한다.
+     */
+    public List<PostResponseDto> assemble(List<PostListingView> views, Long userId, FieldSet fieldSet) {
+        Set<Long> heartedPostIds = fieldSet.contains("isHearted")
+                ? findHeartedPostIds(userId, getPostIds(views)) : Collections.emptySet();
+
+        return assemble(views, heartedPostIds, true, fieldSet);
+    }
+
+    /**
+     * heartedPostIds 에 있는 게시물만 찜한 것으로 표시한다.
+     */
+    public List<PostResponseDto> assemble(List<PostListingView> views, Set<Long> heartedPostIds) {
+        return assemble(views, heartedPostIds, true, FieldSet.all());
+    }
+
+    /**
+     * 찜 여부 없이 조립한다. (내 게시물, 최근 본 게시물 등)
+     */
+    public List<PostResponseDto> assembleWithoutHeart(List<PostListingView> views) {
+        return assemble(views, Collections.emptySet(), false, FieldSet.all());
+    }
+
+    /**
+     * 게시물 목록을 원본 테이블에서 찜 여부 없이 조립한다. 매물, 옵션, 대표 이미지를 각각 한 번에 읽는다.
+     */
+    public List<PostResponseDto> assemblePosts(List<Post> posts) {
+        List<PostResponseDto> responseDtoList = new ArrayList<>();
+
+        if (posts.isEmpty()) {
+            return responseDtoList;
+        }
+
+        List<Long> roomIds = new ArrayList<>();
+
+        for (Post post : posts) {
+            roomIds.add(post.getRoomId());
+        }
+
+        Map<Long, Room> roomMap = new HashMap<>();
+
+        for (Room room : roomRepository.findAllById(roomIds)) {
+            roomMap.put(room.getRoomId(), room);
+        }
+
+        Map<Long, List<Options>> optionsMap = new HashMap<>();
+
+        for (Options options : optionsRepository.findByRoomIdIn(roomIds)) {
+            optionsMap.computeIfAbsent(options.getRoomId(), key -> new ArrayList<>()).add(options);
+        }
+
+        // image_id 순으로 첫 번째 이미지를 대표로 쓴다.
+        Map<Long, String> imageMap = new HashMap<>();
+
+        for (Image image : imageRepository.findMainImages(roomIds, MAIN_IMAGE_TYPE)) {
+            imageMap.putIfAbsent(image.getId(), image.getImageUrl());
+        }
+
+        for (Post post : posts) {
+            Room room = roomMap.get(post.getRoomId());
+
+            if (room == null) {
+                throw new RoomNotFoundException(post.getRoomId());
+            }
+
+            String imgUrl = imageMap.get(room.getRoomId());
+
+            if (imgUrl == null) {
+                throw new ImageNotFoundException(room.getRoomId());
+            }
+
+            responseDtoList.add(PostResponseDto.of(post, room, imgUrl,
+                    optionsMap.getOrDefault(room.getRoomId(), Collections.emptyList())));
+        }
+
+        return responseDtoList;
+    }
+
+    private List<PostResponseDto> assemble(List<PostListingView> views, Set<Long> heartedPostIds,
+                                           boolean hasHeart, FieldSet fieldSet) {
+        List<PostResponseDto> responseDtoList = new ArrayList<>();
+        hasHeart = hasHeart && fieldSet.contains("isHearted");
+
+        for (PostListingView view : views) {
+            if (fieldSet.contains("imgUrl")) {
+                checkImage(view);
+            }
+
+            Boolean isHearted = hasHeart ? heartedPostIds.contains(view.getPostId()) : null;
+
+            responseDtoList.add(fieldSet.apply(PostResponseDto.of(view, isHearted)));
+        }
+
+        return responseDtoList;
+    }
+
+    private void checkImage(PostListingView view) {
+        if (view.getImgUrl() == null) {
+            throw new ImageNotFoundException(view.getRoomId());
+        }
+    }
+
+    private List<PostListingView> order(Collection<Long> ids, Map<Long, PostListingView> viewMap) {
+        List<PostListingView> viewList = new ArrayList<>();
+
+        for (Long id : new LinkedHashSet<>(ids)) {
+            PostListingView view = viewMap.get(id);
+
+            if (view != null) {
+                viewList.add(view);
+            }
+        }
+
+        return viewList;
+    }
+
+    private List<Long> getPostIds(List<PostListingView> views) {
+        List<Long> postIds = new ArrayList<>();
+
+        for (PostListingView view : views) {
+            postIds.add(view.getPostId());
+        }
+
+        return postIds;
+    }
+}
@@ -1,24 +1,34 @@
 package com.dankan.service.post;
 
+import com.dankan.dto.request.post.PostBatchRequestDto;
+import com.dankan.dto.request.post.PostFacetRequestDto;
 import com.dankan.dto.request.post.PostFilterRequestDto;
+import com.dankan.dto.request.post.PostRadiusRequestDto;
+import com.dankan.dto.request.post.PostViewportRequestDto;
 import com.dankan.dto.request.post.PostRoomEditRequestDto;
 import com.dankan.dto.response.post.*;
 import com.dankan.dto.request.post.PostHeartRequestDto;
 import com.dankan.dto.request.post.PostRoomRequestDto;
+import com.dankan.vo.FieldSet;
+import com.dankan.dto.response.page.CursorPageResponseDto;
 import java.util.List;
 
 public interface PostService {
-    List<PostFilterResponseDto> getPostByFilter(PostFilterRequestDto postFilterRequestDto);
-    PostResponseDto getPostByRoomId(Long roomId);
+    CursorPageResponseDto<PostFilterResponseDto> getPostByFilter(PostFilterRequestDto postFilterRequestDto);
+    CursorPageResponseDto<PostFilterResponseDto> getPostByRadius(PostRadiusRequestDto postRadiusRequestDto);
+    CursorPageResponseDto<PostFilterResponseDto> getPostByViewport(PostViewportRequestDto postViewportRequestDto);
+    PostFacetResponseDto getFacetCount(PostFacetRequestDto postFacetRequestDto);
+    PostResponseDto getPostByRoomId(Long roomId, String fields);
+    List<PostResponseDto> findPostBatch(PostBatchRequestDto postBatchRequestDto);
     PostCreateResponseDto addPost(PostRoomRequestDto postRoomRequestDto);
     PostEditResponseDto editPost(PostRoomEditRequestDto postRoomEditRequestDto);;
-    List<PostResponseDto> findRecentPostByAddress(Integer pages,String address);
-    List<PostResponseDto> findHeartPost(Integer pages);
-    List<PostResponseDto> findMyPost(Integer pages);
-    PostDetailResponseDto findPostDetail(Long postId);
-    List<PostResponseDto> findRecentWatchPost(Integer pages);
+    CursorPageResponseDto<PostResponseDto> findRecentPostByAddress(String cursor,String address);
+    CursorPageResponseDto<PostResponseDto> findHeartPost(String cursor);
+    CursorPageResponseDto<PostResponseDto> findMyPost(String cursor);
+    PostDetailResponseDto findPostDetail(Long postId, FieldSet fieldSet);
+    CursorPageResponseDto<PostResponseDto> findRecentWatchPost(String cursor);
     void deletePost(Long postId);
     PostHeartResponseDto heartPost(PostHeartRequestDto postHeartRequestDto);
     Boolean setTradeEnd(Long postId);
-    List<PostResponseDto> getTradeEndPost(Integer  pages);
+    CursorPageResponseDto<PostResponseDto> getTradeEndPost(String cursor);
 }
@@ -1,26 +1,45 @@
 package com.dankan.service.post;
 
 import com.dankan.domain.*;
+import com.dankan.dto.request.post.PostBatchRequestDto;
+import com.dankan.dto.request.post.PostFacetRequestDto;
 import com.dankan.dto.request.post.PostFilterRequestDto;
+import com.dankan.dto.request.post.PostRadiusRequestDto;
+import com.dankan.dto.request.post.PostViewportRequestDto;
 import com.dankan.dto.request.post.PostRoomEditRequestDto;
 import com.dankan.dto.response.post.*;
 import com.dankan.dto.request.post.PostHeartRequestDto;
 import com.dankan.dto.request.post.PostRoomRequestDto;
+import com.dankan.dto.response.page.CursorPageResponseDto;
 import com.dankan.enum_converter.*;
-import com.dankan.exception.image.ImageNotFoundException;
+import com.dankan.exception.post.PostBatchSizeExceededException;
 import com.dankan.exception.post.PostNotFoundException;
 import com.dankan.exception.room.RoomNotFoundException;
 import com.dankan.exception.user.UserIdNotFoundException;
 import com.dankan.repository.*;
+import com.dankan.service.heart.HeartService;
+import com.dankan.service.listing.AddressRoomResolver;
+import com.dankan.service.listing.FilterResultCache;
+import com.dankan.service.listing.ListingFacetCount;
+import com.dankan.service.listing.ListingIndex;
+import com.dankan.service.listing.ListingQuery;
+import com.dankan.service.listing.PostListingViewUpdater;
+import com.dankan.service.recent.RecentWatchService;
+import com.dankan.service.region.RegionService;
+import com.dankan.service.search.AutocompleteService;
+import com.dankan.util.FullTextUtil;
 import com.dankan.util.JwtUtil;
+import com.dankan.vo.FieldSet;
+import com.dankan.vo.GeoBounds;
+import com.dankan.vo.PageCursor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -28,377 +47,402 @@ import java.util.List;
 
 @Slf4j
 public class PostServiceImpl implements PostService {
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_BATCH_SIZE = 50;
+    // 읽기 모델에서 빠진 매물을 건너뛰며 다시 찾을 때의 최대 조회 수
+    private static final int MAX_SEARCH_LIMIT = 160;
+
     private final PostRepository postRepository;
     private final RoomRepository roomRepository;
-    private final PostHeartRepository postHeartRepository;
+    private final HeartService heartService;
     private final DateLogRepository dateLogRepository;
-    private final RecentWatchRepository recentWatchRepository;
+    private final RecentWatchService recentWatchService;
     private final OptionsRepository optionsRepository;
-    private final ImageRepository imageRepository;
     private final UserRepository userRepository;
+    private final PostListingAssembler postListingAssembler;
+    private final ListingIndex listingIndex;
+    private final AutocompleteService autocompleteService;
+    private final RegionService regionService;
+    private final FilterResultCache filterResultCache;
+    private final PostDetailCache postDetailCache;
+    private final PostAsyncLoader postAsyncLoader;
+    private final PostListingViewRepository postListingViewRepository;
+    private final PostListingViewUpdater postListingViewUpdater;
+    private final AddressRoomResolver addressRoomResolver;
 
     public PostServiceImpl(
             PostRepository postRepository,
             RoomRepository roomRepository,
-            PostHeartRepository postHeartRepository,
+            HeartService heartService,
             DateLogRepository dateLogRepository,
-            RecentWatchRepository recentWatchRepository,
+            RecentWatchService recentWatchService,
             OptionsRepository optionsRepository,
-            ImageRepository imageRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            PostListingAssembler postListingAssembler,
+            ListingIndex listingIndex,
+            AutocompleteService autocompleteService,
+            RegionService regionService,
+            FilterResultCache filterResultCache,
+            PostDetailCache postDetailCache,
+            PostAsyncLoader postAsyncLoader,
+            PostListingViewRepository postListingViewRepository,
+            PostListingViewUpdater postListingViewUpdater,
+            AddressRoomResolver addressRoomResolver) {
         this.postRepository = postRepository;
         this.roomRepository = roomRepository;
-        this.postHeartRepository = postHeartRepository;
-        this.recentWatchRepository = recentWatchRepository;
+        this.heartService = heartService;
+        this.recentWatchService = recentWatchService;
         this.dateLogRepository = dateLogRepository;
         this.optionsRepository = optionsRepository;
-        this.imageRepository = imageRepository;
         this.userRepository = userRepository;
+        this.postListingAssembler = postListingAssembler;
+        this.listingIndex = listingIndex;
+        this.autocompleteService = autocompleteService;
+        this.regionService = regionService;
+        this.filterResultCache = filterResultCache;
+        this.postDetailCache = postDetailCache;
+        this.postAsyncLoader = postAsyncLoader;
+        this.postListingViewRepository = postListingViewRepository;
+        this.postListingViewUpdater = postListingViewUpdater;
+        this.addressRoomResolver = addressRoomResolver;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostFilterResponseDto> getPostByFilter(PostFilterRequestDto postFilterRequestDto) {
-        Long memberId = JwtUtil.getMemberId();
-        List<PostFilterResponseDto> responseDtoList = new ArrayList<>();
-        List<Room> roomList = roomRepository.findRoomByFilter(postFilterRequestDto);
+    public CursorPageResponseDto<PostFilterResponseDto> getPostByFilter(PostFilterRequestDto postFilterRequestDto) {
+        return getPostByFilter(postFilterRequestDto,null);
+    }
 
-        if (roomList != null) {
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PostFilterResponseDto> getPostByRadius(PostRadiusRequestDto postRadiusRequestDto) {
+        GeoBounds bounds = GeoBounds.circle(postRadiusRequestDto.getLatitude(),postRadiusRequestDto.getLongitude()
+                ,postRadiusRequestDto.getRadius());
 
-            for (Room room : roomList) {
+        return getPostByFilter(postRadiusRequestDto,bounds);
+    }
 
-                if (!room.getIsTradeable()) {
-                    continue;
-                }
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PostFilterResponseDto> getPostByViewport(PostViewportRequestDto postViewportRequestDto) {
+        GeoBounds bounds = GeoBounds.box(postViewportRequestDto.getMinLatitude(),postViewportRequestDto.getMaxLatitude()
+                ,postViewportRequestDto.getMinLongitude(),postViewportRequestDto.getMaxLongitude());
+
+        return getPostByFilter(postViewportRequestDto,bounds);
+    }
 
-                Post post = postRepository.findByRoomId(room.getRoomId())
-                        .orElseThrow(() -> new PostNotFoundException(room.getRoomId()));
+    @Override
+    @Transactional(readOnly = true)
+    public PostFacetResponseDto getFacetCount(PostFacetRequestDto postFacetRequestDto) {
+        ListingQuery query = ListingQuery.of(postFacetRequestDto,Collections.emptySet(),PageCursor.first());
+        ListingFacetCount facetCount = new ListingFacetCount(postFacetRequestDto.getPriceBuckets());
 
-                List<Options> optionsList = optionsRepository.findByRoomId(room.getRoomId());
+        // 인덱스가 준비되기 전에는 학교 전체를 DB 에서 읽지 않고 빈 값을 돌려준다.
+        if (!listingIndex.countFacets(query,facetCount)) {
+            return new PostFacetResponseDto();
+        }
 
-                if (!isOptionSame(optionsList,postFilterRequestDto)) {
-                    continue;
-                }
+        return PostFacetResponseDto.of(facetCount);
+    }
 
-                PostHeart postHeart = postHeartRepository.findByUserIdAndPostId(memberId,post.getPostId());
+    private CursorPageResponseDto<PostFilterResponseDto> getPostByFilter(PostFilterRequestDto postFilterRequestDto, GeoBounds bounds) {
+        Long memberId = JwtUtil.getMemberId();
+        PageCursor cursor = PageCursor.decode(postFilterRequestDto.getCursor());
+        List<PostListingView> viewList = findByFilter(postFilterRequestDto,bounds,memberId,cursor);
+
+        if (viewList == null) {
+            return CursorPageResponseDto.of(new ArrayList<>(),null);
+        }
 
-                Image roomImage = imageRepository.findMainImage(room.getRoomId(),0L)
-                        .orElseThrow(() -> new ImageNotFoundException(room.getRoomId()));
+        boolean hasNext = viewList.size() > PAGE_SIZE;
+        viewList = trim(viewList);
 
-                PostFilterResponseDto responseDto = PostFilterResponseDto.of(post,room,postHeart, roomImage.getImageUrl(),optionsList);
-                responseDtoList.add(responseDto);
-            }
+        // 옵션 조건, 정렬, 찜 여부 정렬 모두 쿼리에서 처리된다.
+        List<PostFilterResponseDto> responseDtoList = postListingAssembler.assembleFilter(viewList,memberId);
+
+        if (!hasNext) {
+            return CursorPageResponseDto.of(responseDtoList,null);
         }
 
-        if (postFilterRequestDto.getLowCostOrder() == null && postFilterRequestDto.getHeartOrder() == null) {
-            responseDtoList.sort(
-                    Comparator.comparing(PostFilterResponseDto::getCreatedAt).reversed()
-            );
-        } else if (postFilterRequestDto.getLowCostOrder() != null) {
-            Comparator<PostFilterResponseDto> createdAtSort = Comparator.comparing(PostFilterResponseDto::getCreatedAt).reversed();
-            responseDtoList.sort(
-                    Comparator.comparing(PostFilterResponseDto::getPrice)
-                            .thenComparing(createdAtSort)
-            );
+        PostListingView last = viewList.get(viewList.size() - 1);
+        Long sortKey = null;
+
+        if (postFilterRequestDto.getLowCostOrder() != null) {
+            sortKey = last.getPrice();
         } else if (postFilterRequestDto.getHeartOrder() != null) {
-            responseDtoList.sort(
-                    Comparator.comparing(PostFilterResponseDto::getIsHearted)
-                            .thenComparing(PostFilterResponseDto::getCreatedAt).reversed()
-            );
+            sortKey = responseDtoList.get(responseDtoList.size() - 1).getIsHearted() ? 1L : 0L;
         }
 
-        return responseDtoList;
+        return CursorPageResponseDto.of(responseDtoList,PageCursor.of(sortKey,last.getRoomCreatedAt(),last.getRoomId()));
     }
 
-    private Boolean isOptionSame(List<Options> optionsList,PostFilterRequestDto postFilterRequestDto) {
-        Boolean isSame = true;
-        String etcOptionValues = "0123";
+    // 같은 학교, 같은 조건의 결과는 room id 목록을 캐시해서 재사용한다.
+    private List<PostListingView> findByFilter(PostFilterRequestDto postFilterRequestDto, GeoBounds bounds, Long memberId, PageCursor cursor) {
+        String cacheKey = filterResultCache.isCacheable(postFilterRequestDto) ? filterResultCache.getKey(postFilterRequestDto) : null;
 
-        for (Options options : optionsList) {
-            if (postFilterRequestDto.getDealType() != null && options.getCodeKey().equals("DealType")) {
-                String dealTypeValue = DealTypeEnum.getDealTypeValue(postFilterRequestDto.getDealType());
+        if (cacheKey != null) {
+            List<Long> roomIds = filterResultCache.get(cacheKey);
 
-                if (!dealTypeValue.equals(options.getValue())) {
-                    isSame = false;
-                    break;
-                }
+            if (roomIds != null) {
+                return postListingAssembler.findByRoomIds(roomIds);
             }
+        }
 
-            if (postFilterRequestDto.getPriceType() != null && options.getCodeKey().equals("PriceType")) {
-                String priceTypeValue = PriceTypeEnum.getPriceTypeValue(postFilterRequestDto.getPriceType());
+        List<PostListingView> viewList = search(postFilterRequestDto,bounds,memberId,cursor);
 
-                if (!priceTypeValue.equals(options.getValue())) {
-                    isSame = false;
-                    break;
-                }
+        if (cacheKey != null && viewList != null) {
+            List<Long> roomIds = new ArrayList<>();
+
+            for (PostListingView view : viewList) {
+                roomIds.add(view.getRoomId());
             }
 
-            if (postFilterRequestDto.getRoomType().size() > 0 && options.getCodeKey().equals("RoomType")) {
-                String roomTypeValue = "";
+            filterResultCache.put(cacheKey,roomIds);
+        }
 
-                for (String roomType : postFilterRequestDto.getRoomType()) {
-                    roomTypeValue += RoomTypeEnum.getRoomTypeValue(roomType);
-                }
+        return viewList;
+    }
+
+    // 메모리 인덱스에서 한 페이지 분량의 room id 만 골라 읽기 모델에서 가져온다. 인덱스가 준비 전이면 DB 로 조회한다.
+    private List<PostListingView> search(PostFilterRequestDto postFilterRequestDto, GeoBounds bounds, Long memberId, PageCursor cursor) {
+        if (!listingIndex.isReady(postFilterRequestDto.getUniv())) {
+            return findListed(limit -> {
+                List<Room> roomList = roomRepository.findRoomByFilter(postFilterRequestDto,bounds,memberId,cursor,limit);
 
-                if (!roomTypeValue.contains(options.getValue())) {
-                    isSame = false;
-                    break;
+                if (roomList == null) {
+                    return null;
                 }
-            }
 
-            if (postFilterRequestDto.getRoomStructure().size() > 0 && options.getCodeKey().equals("StructureType")) {
-                String roomStructureValue = "";
+                List<Long> roomIds = new ArrayList<>();
 
-                for (String roomStructure : postFilterRequestDto.getRoomStructure()) {
-                    roomStructureValue += StructureTypeEnum.getStructureTypeValue(roomStructure);
+                for (Room room : roomList) {
+                    roomIds.add(room.getRoomId());
                 }
 
-                if (!roomStructureValue.contains(options.getValue())) {
-                    isSame = false;
-                    break;
-                }
-            }
+                return roomIds;
+            });
+        }
 
-            if (postFilterRequestDto.getFullOption() != null && options.getCodeKey().equals("Option")) {
-                if (!options.getValue().contains("0123")) {
-                    isSame = false;
-                    break;
-                }
-            }
+        Set<Long> heartRoomIds = postFilterRequestDto.getHeartOrder() == null
+                ? Collections.emptySet()
+                : listingIndex.findRoomIds(heartService.findAllHeartPostIds(memberId));
+        ListingQuery query = ListingQuery.of(postFilterRequestDto,bounds,heartRoomIds,cursor);
 
-            if (postFilterRequestDto.getCanPark() != null && options.getCodeKey().equals("EtcOption")) {
-                String parkValue = EtcOptionTypeEnum.getEtcOptionTypeValue(postFilterRequestDto.getCanPark());
+        return findListed(limit -> listingIndex.search(query,limit));
+    }
 
-                if (!parkValue.equals(options.getValue())) {
-                    isSame = false;
-                    break;
-                }
-            }
+    /**
+     * 정렬된 room id 를 읽기 모델에서 가져와 다음 페이지 여부까지 알 수 있는 PAGE_SIZE + 1 개를 채운다.
+     * 읽기 모델에 없는 매물(게시물 삭제, 거래완료 반영 전)이 빠져 모자라면 더 많이 다시 찾는다.
+     */
+    private List<PostListingView> findListed(IntFunction<List<Long>> roomIdSearch) {
+        int limit = PAGE_SIZE + 1;
 
-            if (postFilterRequestDto.getPet() != null && options.getCodeKey().equals("EtcOption")) {
-                String petValue = EtcOptionTypeEnum.getEtcOptionTypeValue(postFilterRequestDto.getPet());
+        while (true) {
+            List<Long> roomIds = roomIdSearch.apply(limit);
 
-                if (!etcOptionValues.contains(petValue)) {
-                    isSame = false;
-                    break;
-                }
+            if (roomIds == null) {
+                return null;
             }
 
-            if (postFilterRequestDto.getOnlyWomen() != null && options.getCodeKey().equals("EtcOption")) {
-                String onlyWomenValue = EtcOptionTypeEnum.getEtcOptionTypeValue(postFilterRequestDto.getOnlyWomen());
+            List<PostListingView> viewList = postListingAssembler.findByRoomIds(roomIds);
 
-                if (!etcOptionValues.contains(onlyWomenValue)) {
-                    isSame = false;
-                    break;
-                }
+            if (viewList.size() > PAGE_SIZE) {
+                return new ArrayList<>(viewList.subList(0,PAGE_SIZE + 1));
             }
 
-            if (postFilterRequestDto.getLoan() != null && options.getCodeKey().equals("EtcOption")) {
-                String loanValue =  EtcOptionTypeEnum.getEtcOptionTypeValue(postFilterRequestDto.getLoan());
-
-                if (!etcOptionValues.contains(loanValue)) {
-                    isSame = false;
-                    break;
-                }
+            if (roomIds.size() < limit || limit >= MAX_SEARCH_LIMIT) {
+                return viewList;
             }
-        }
 
-        return isSame;
+            limit *= 2;
+        }
     }
 
+    /**
+     * 카드 목록용 여러 게시물 조회. 읽기 모델에서 post id, room id 로 한 번씩 읽어 조립한다.
+     * 없거나 거래가 끝난 게시물은 빠지고, 요청 순서(post id 먼저)를 유지한다.
+     */
     @Override
     @Transactional(readOnly = true)
-    public PostResponseDto getPostByRoomId(Long roomId) {
+    public List<PostResponseDto> findPostBatch(PostBatchRequestDto postBatchRequestDto) {
         Long userId = JwtUtil.getMemberId();
-        Room room = roomRepository.findById(roomId,true)
-                .orElseThrow(() -> new RoomNotFoundException(roomId));
+        List<Long> postIds = postBatchRequestDto.getPostIds() == null ? Collections.emptyList() : postBatchRequestDto.getPostIds();
+        List<Long> requestRoomIds = postBatchRequestDto.getRoomIds() == null ? Collections.emptyList() : postBatchRequestDto.getRoomIds();
+        FieldSet fieldSet = FieldSet.parse(postBatchRequestDto.getFields(),PostResponseDto.class);
 
-        Post post = postRepository.findByRoomId(roomId)
-                .orElseThrow(() -> new PostNotFoundException(roomId));
+        if (postIds.size() + requestRoomIds.size() > MAX_BATCH_SIZE) {
+            throw new PostBatchSizeExceededException((postIds.size() + requestRoomIds.size()) + " > " + MAX_BATCH_SIZE);
+        }
 
-        PostHeart postHeart = postHeartRepository.findByUserIdAndPostId(userId,post.getPostId());
-        List<Options> optionsList = optionsRepository.findByRoomId(room.getRoomId());
+        // 같은 게시물을 post id 와 room id 로 모두 요청했으면 한 번만 담는다.
+        Map<Long, PostListingView> viewMap = new LinkedHashMap<>();
 
-        Image roomImage = imageRepository.findMainImage(room.getRoomId(),0L)
-                .orElseThrow(() -> new ImageNotFoundException(room.getRoomId()));
+        for (PostListingView view : postListingAssembler.findByPostIds(postIds)) {
+            viewMap.put(view.getPostId(),view);
+        }
 
-        return PostResponseDto.of(post,room,postHeart,roomImage.getImageUrl(),optionsList);
+        for (PostListingView view : postListingAssembler.findByRoomIds(requestRoomIds)) {
+            viewMap.putIfAbsent(view.getPostId(),view);
+        }
+
+        return postListingAssembler.assemble(new ArrayList<>(viewMap.values()),userId,fieldSet);
     }
 
+    // 조회를 동시에 보내고 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
     @Override
-    @Transactional(readOnly = true)
-    public List<PostResponseDto> findRecentPostByAddress(Integer pages,String address) {
+    public PostResponseDto getPostByRoomId(Long roomId, String fields) {
         Long userId = JwtUtil.getMemberId();
-        List<PostResponseDto> responseDtoList = new ArrayList<>();
-        Sort sort = Sort.by(Sort.Direction.DESC,"created_at");
-        Pageable pageable = PageRequest.of(pages,10,sort);
-
-        Slice<Room> roomList = roomRepository.findRoomByAddress(address,true,pageable);
-
-        for (Room room : roomList) {
-            Optional<Post> post = postRepository.findByRoomId(room.getRoomId());
+        FieldSet fieldSet = FieldSet.parse(fields,PostResponseDto.class);
+
+        // 요청되지 않은 필드용 조회는 보내지 않는다.
+        CompletableFuture<Room> room = postAsyncLoader.findRoom(roomId,true);
+        CompletableFuture<Post> post = postAsyncLoader.findPostByRoomId(roomId);
+        CompletableFuture<List<Options>> optionsList = fieldSet.containsAny(PostResponseDto.OPTION_FIELDS)
+                ? postAsyncLoader.findOptions(roomId) : CompletableFuture.completedFuture(Collections.emptyList());
+        CompletableFuture<String> imgUrl = fieldSet.contains("imgUrl")
+                ? postAsyncLoader.findMainImageUrl(roomId) : CompletableFuture.completedFuture(null);
+
+        Room foundRoom = PostAsyncLoader.join(room);
+        Post foundPost = PostAsyncLoader.join(post);
+        Boolean isHearted = fieldSet.contains("isHearted") ? isHearted(userId,foundPost.getPostId()) : null;
+
+        return fieldSet.apply(PostResponseDto.of(foundPost,foundRoom,isHearted
+                ,PostAsyncLoader.join(imgUrl),PostAsyncLoader.join(optionsList)));
+    }
 
-            if (post.isEmpty()) {
-                continue;
-            }
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PostResponseDto> findRecentPostByAddress(String cursor,String address) {
+        Long userId = JwtUtil.getMemberId();
+        PageCursor pageCursor = PageCursor.decode(cursor);
 
-            PostHeart postHeart = postHeartRepository.findByUserIdAndPostId(userId,post.get().getPostId());
+        List<PostListingView> viewList;
 
-            List<Options> optionsList = optionsRepository.findByRoomId(room.getRoomId());
+        // 두 글자 이상이면 FULLTEXT(ngram) 인덱스로 찾는다.
+        if (FullTextUtil.isSearchable(address)) {
+            viewList = postListingViewRepository.findByAddressMatchAfter(FullTextUtil.toPhrase(address),
+                    pageCursor.getCreatedAt(),pageCursor.getId(),PAGE_SIZE + 1);
+        } else {
+            viewList = postListingViewRepository.findByAddressAfter(address,
+                    pageCursor.getCreatedAt(),pageCursor.getId(),PAGE_SIZE + 1);
+        }
 
-            Image roomImage = imageRepository.findMainImage(room.getRoomId(),0L)
-                    .orElseThrow(() -> new ImageNotFoundException(room.getRoomId()));
+        PageCursor nextCursor = null;
 
-            PostResponseDto responseDto = PostResponseDto.of(post.get(),room,postHeart,roomImage.getImageUrl(),optionsList);
-            responseDtoList.add(responseDto);
+        if (viewList.size() > PAGE_SIZE) {
+            viewList = trim(viewList);
+            PostListingView last = viewList.get(viewList.size() - 1);
+            nextCursor = PageCursor.of(last.getRoomCreatedAt(),last.getRoomId());
         }
 
-        return responseDtoList;
+        return CursorPageResponseDto.of(postListingAssembler.assemble(viewList,userId),nextCursor);
     }
 
     @Override
-    @Transactional
-    public List<PostResponseDto> findHeartPost(Integer pages) {
-        List<PostResponseDto> postResponseDtoList = new ArrayList<>();
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PostResponseDto> findHeartPost(String cursor) {
         Long userId = JwtUtil.getMemberId();
+        PageCursor pageCursor = PageCursor.decode(cursor);
 
-        Sort sort = Sort.by(Sort.Direction.DESC,"createdAt");
-        Pageable pageable = PageRequest.of(pages,10,sort);
-
-        List<PostHeart> postHeartList = postHeartRepository.findByUserId(userId,pageable);
+        // 찜 목록은 Redis 에서 (찜한 시각, post id) 순으로 읽는다.
+        List<PostHeart> postHeartList = heartService.findHeartPost(userId,pageCursor,PAGE_SIZE + 1);
+        PageCursor nextCursor = null;
 
-        for (PostHeart postHeart : postHeartList) {
-            Post post = postRepository.findById(postHeart.getPostId())
-                    .orElseThrow(() -> new PostNotFoundException(postHeart.getPostId()));
+        if (postHeartList.size() > PAGE_SIZE) {
+            postHeartList = trim(postHeartList);
+            PostHeart last = postHeartList.get(postHeartList.size() - 1);
+            nextCursor = PageCursor.of(last.getCreatedAt(),last.getPostId());
+        }
 
-            if (post.getDeletedAt() == null) {
-                postHeartRepository.delete(postHeart);
-                continue;
-            }
+        List<Long> postIds = new ArrayList<>();
 
-            Room room = roomRepository.findById(post.getRoomId())
-                    .orElseThrow(() -> new RoomNotFoundException(post.getRoomId()));
-            List<Options> optionsList = optionsRepository.findByRoomId(room.getRoomId());
+        for (PostHeart postHeart : postHeartList) {
+            postIds.add(postHeart.getPostId());
+        }
 
-            Image roomImage = imageRepository.findMainImage(room.getRoomId(),0L)
-                    .orElseThrow(() -> new ImageNotFoundException(room.getRoomId()));
+        List<PostListingView> viewList = postListingAssembler.findByPostIds(postIds);
+        List<Long> deletedPostIds = findDeletedPostIds(postIds,viewList);
 
-            PostResponseDto postResponseDto = PostResponseDto.of(post,room,postHeart,roomImage.getImageUrl(),optionsList);
-            postResponseDtoList.add(postResponseDto);
+        if (!deletedPostIds.isEmpty()) { // 없거나 삭제된 게시물의 찜은 정리
+            heartService.remove(userId,deletedPostIds);
         }
 
-        return postResponseDtoList;
+        return CursorPageResponseDto.of(postListingAssembler.assemble(viewList,new HashSet<>(postIds)),nextCursor);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostResponseDto> findMyPost(Integer pages) {
-        List<PostResponseDto> postResponseDtoList = new ArrayList<>();
-        Long userId = JwtUtil.getMemberId();
-
-        Sort sort = Sort.by(Sort.Direction.DESC,"createdAt");
-        Pageable pageable = PageRequest.of(pages,10,sort);
-
-        List<Post> postList = postRepository.findByUserId(userId,pageable);
-
-        for (Post post : postList) {
-            Room room = roomRepository.findById(post.getRoomId())
-                    .orElseThrow(() -> new RoomNotFoundException(post.getRoomId()));
-            List<Options> optionsList = optionsRepository.findByRoomId(room.getRoomId());
-
-            Image roomImage = imageRepository.findMainImage(room.getRoomId(),0L)
-                    .orElseThrow(() -> new ImageNotFoundException(room.getRoomId()));
-
-            PostResponseDto postResponseDto = PostResponseDto.of(post,room,roomImage.getImageUrl(),optionsList);
-            postResponseDtoList.add(postResponseDto);
-        }
-
-        return postResponseDtoList;
+    public CursorPageResponseDto<PostResponseDto> findMyPost(String cursor) {
+        return findUserPost(cursor);
     }
 
     @Override
-    @Transactional
-    public List<PostResponseDto> findRecentWatchPost(Integer pages) {
-        List<PostResponseDto> postResponseDtoList = new ArrayList<>();
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PostResponseDto> findRecentWatchPost(String cursor) {
         Long userId = JwtUtil.getMemberId();
-        Sort sort = Sort.by(Sort.Direction.DESC,"updatedAt");
-        Pageable pageable = PageRequest.of(pages,10,sort);
-        List<RecentWatchPost> recentWatchPostList = recentWatchRepository.findAllByUserId(userId,pageable);
-
-        for (RecentWatchPost recentWatchPost : recentWatchPostList) {
-            Long postId = recentWatchPost.getPostId();
-            Post post = postRepository.findById(postId)
-                    .orElseThrow(() -> new PostNotFoundException(postId));
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        List<RecentWatchPost> recentWatchPostList = recentWatchService.findRecentWatch(userId,pageCursor,PAGE_SIZE + 1);
+        PageCursor nextCursor = null;
+
+        if (recentWatchPostList.size() > PAGE_SIZE) {
+            recentWatchPostList = trim(recentWatchPostList);
+            RecentWatchPost last = recentWatchPostList.get(recentWatchPostList.size() - 1);
+            nextCursor = PageCursor.of(last.getUpdatedAt(),last.getPostId());
+        }
 
-            if (post.getDeletedAt()==null) {
-                recentWatchRepository.delete(recentWatchPost);
-                continue;
-            }
+        List<Long> postIds = new ArrayList<>();
 
-            Room room = roomRepository.findById(post.getRoomId())
-                    .orElseThrow(() -> new RoomNotFoundException(post.getRoomId()));
-            List<Options> optionsList = optionsRepository.findByRoomId(room.getRoomId());
+        for (RecentWatchPost recentWatchPost : recentWatchPostList) {
+            postIds.add(recentWatchPost.getPostId());
+        }
 
-            Image roomImage = imageRepository.findMainImage(room.getRoomId(),0L)
-                    .orElseThrow(() -> new ImageNotFoundException(room.getRoomId()));
+        List<PostListingView> viewList = postListingAssembler.findByPostIds(postIds);
 
-            PostResponseDto postResponseDto = PostResponseDto.of(post,room,roomImage.getImageUrl(),optionsList);
-            postResponseDtoList.add(postResponseDto);
-        }
+        // 삭제된 게시물은 최근 본 목록에서 정리
+        recentWatchService.remove(userId,findDeletedPostIds(postIds,viewList));
 
-        return postResponseDtoList;
+        return CursorPageResponseDto.of(postListingAssembler.assembleWithoutHeart(viewList),nextCursor);
     }
 
     @Override
-    @Transactional
-    public PostDetailResponseDto findPostDetail(Long postId) {
+    public PostDetailResponseDto findPostDetail(Long postId, FieldSet fieldSet) {
         Long userId = JwtUtil.getMemberId();
-        Boolean isWatched = false;
-        StringBuilder imgUrls = new StringBuilder("");
-        Long imageType;
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException(postId));
+        // 사용자와 무관한 스냅샷은 캐시에서 가져오고 찜 여부만 덧씌운다.
+        PostDetailResponseDto snapshot = postDetailCache.get(postId);
 
-        List<RecentWatchPost> recentWatchPostList = recentWatchRepository.findAllByUserId(userId);
+        if (snapshot == null) {
+            long version = postDetailCache.getVersion(postId);
+            snapshot = buildPostDetail(postId,fieldSet);
 
-        if (recentWatchPostList.size() >= 30) {
-            recentWatchRepository.delete(recentWatchPostList.get(29));
-        }
-
-        RecentWatchPost recentWatchPost = RecentWatchPost.of(userId,postId);
-
-        for (RecentWatchPost watchedPost : recentWatchPostList) { // 이미 조회한 게시물 중복 체크
-            if (watchedPost.getPostId() == postId) {
-                isWatched = true;
-                break;
+            // 일부 필드만 채운 스냅샷은 캐시하지 않는다.
+            if (fieldSet.isAll()) {
+                postDetailCache.put(postId,snapshot,version);
             }
         }
 
-        if (!isWatched) {
-            recentWatchRepository.save(recentWatchPost);
-        } else {
-            recentWatchRepository.updateDate(LocalDateTime.now(),postId);
-        }
-
-        PostHeart postHeart = postHeartRepository.findByUserIdAndPostId(userId,post.getPostId());
+        // 최근 본 목록은 Redis 에만 쓰고 테이블 반영은 주기적으로 한다.
+        recentWatchService.watch(userId,postId);
 
-        Room room = roomRepository.findById(post.getRoomId())
-                .orElseThrow(
-                        () -> new RoomNotFoundException(post.getRoomId())
-                );
+        Boolean isHearted = fieldSet.contains("isHearted") ? isHearted(userId,postId) : null;
 
-        List<Options> optionsList = optionsRepository.findByRoomId(room.getRoomId());
+        // 요청되지 않은 필드는 컨트롤러에서 FieldSet 필터로 뺀다.
+        return postDetailCache.overlay(snapshot,isHearted);
+    }
 
-        for (imageType = 0L; imageType < 3L;imageType += 1) {
-            List<Image> imgList = imageRepository.findByIdAndImageType(room.getRoomId(),imageType);
+    // room id 를 알고 나면 매물, 옵션, 이미지 조회를 동시에 보낸다. 요청되지 않은 필드용 조회는 건너뛴다.
+    private PostDetailResponseDto buildPostDetail(Long postId, FieldSet fieldSet) {
+        Post post = PostAsyncLoader.join(postAsyncLoader.findPost(postId));
 
-            for (Image img : imgList) {
-                imgUrls.append(img.getImageUrl()).append(" ");
-            }
-        }
+        CompletableFuture<Room> room = postAsyncLoader.findRoom(post.getRoomId());
+        CompletableFuture<List<Options>> optionsList = fieldSet.containsAny(PostDetailResponseDto.OPTION_FIELDS)
+                ? postAsyncLoader.findOptions(post.getRoomId()) : CompletableFuture.completedFuture(Collections.emptyList());
+        CompletableFuture<String> imgUrls = fieldSet.contains("imgUrls")
+                ? postAsyncLoader.findImageUrls(post.getRoomId()) : CompletableFuture.completedFuture(null);
 
-        return PostDetailResponseDto.of(post,room,postHeart,imgUrls.toString(),optionsList);
+        return PostDetailResponseDto.of(post,PostAsyncLoader.join(room),null
+                ,PostAsyncLoader.join(imgUrls),PostAsyncLoader.join(optionsList));
     }
 
     @Override
@@ -416,8 +460,9 @@ public class PostServiceImpl implements PostService {
         Room room = Room.of(postRoomRequestDto,user);
         room.setRoomId(System.currentTimeMillis());
         room.setDateId(dateLog.getId());
+        room.setRegionCode(regionService.resolve(postRoomRequestDto.getAddress()));
 
-        roomRepository.save(room);
+        room = roomRepository.save(room);
 
         List<Options> optionsList = Options.of(room.getRoomId(),postRoomRequestDto);
         optionsRepository.saveAll(optionsList);
@@ -425,6 +470,11 @@ public class PostServiceImpl implements PostService {
         Post post = Post.of(postRoomRequestDto,userId,room.getRoomId(),dateLog.getId());
         postRepository.save(post);
 
+        postListingViewUpdater.put(room,post,optionsList);
+        addressRoomResolver.put(room);
+        listingIndex.put(room,post,optionsList);
+        autocompleteService.addRoom(room);
+
         return PostCreateResponseDto.of(post,room,optionsList);
     }
 
@@ -438,6 +488,7 @@ public class PostServiceImpl implements PostService {
         post.setTitle(postRoomEditRequestDto.getTitle());
         post.setContent(postRoomEditRequestDto.getContent());
         postRepository.save(post);
+        postDetailCache.evict(post.getPostId());
 
         return PostEditResponseDto.of(post);
     }
@@ -452,6 +503,7 @@ public class PostServiceImpl implements PostService {
         Room room = roomRepository.findByRoomId(post.getRoomId())
                 .orElseThrow(() -> new RoomNotFoundException(post.getRoomId().toString()));
 
+        Boolean wasTradeable = room.getIsTradeable();
         room.setIsTradeable(false);
 
         DateLog dateLog = DateLog.of(userId);
@@ -459,30 +511,23 @@ public class PostServiceImpl implements PostService {
 
         post.setDeletedAt(LocalDate.now());
         postRepository.save(post);
+        postListingViewUpdater.remove(room.getRoomId());
+        postDetailCache.evict(postId);
+
+        if (wasTradeable) {
+            listingIndex.remove(room);
+            autocompleteService.removeRoom(room);
+        }
     }
 
+    // 찜 토글은 Redis 에서 원자적으로 처리하고 post_heart 테이블에는 주기적으로 일괄 반영한다.
     @Override
-    @Transactional
     public PostHeartResponseDto heartPost(PostHeartRequestDto postHeartRequestDto) {
         Long userId = JwtUtil.getMemberId();
-        PostHeart postHeart = postHeartRepository.findByUserIdAndPostId(userId,postHeartRequestDto.getPostId());
+        Long postId = postHeartRequestDto.getPostId();
+        boolean isHearted = heartService.toggle(userId,postId);
 
-        if (postHeart == null) {
-            DateLog dateLog = DateLog.of(userId);
-            dateLogRepository.save(dateLog);
-
-            postHeart = PostHeart.builder()
-                    .postId(postHeartRequestDto.getPostId())
-                    .userId(userId)
-                    .dateId(dateLog.getId())
-                    .build();
-
-            postHeartRepository.save(postHeart);
-        } else {
-            postHeartRepository.deleteById(postHeart.getPostHeartId());
-        }
-
-        return PostHeartResponseDto.of(postHeart.getPostId(),userId);
+        return PostHeartResponseDto.of(postId,userId,isHearted,heartService.countHeart(postId));
     }
 
     @Override
@@ -496,40 +541,82 @@ public class PostServiceImpl implements PostService {
         Room room = roomRepository.findById(post.getRoomId())
                 .orElseThrow(() -> new RoomNotFoundException(post.getRoomId()));
 
+        Boolean wasTradeable = room.getIsTradeable();
         post.setDeletedAt(LocalDate.now());
         room.setIsTradeable(false);
 
         postRepository.save(post);
         roomRepository.save(room);
+        postListingViewUpdater.remove(room.getRoomId());
+        postDetailCache.evict(postId);
+
+        if (wasTradeable) {
+            listingIndex.remove(room);
+            autocompleteService.removeRoom(room);
+        }
 
         return true;
     }
 
     @Override
     @Transactional
-    public List<PostResponseDto> getTradeEndPost(Integer pages) {
-        List<PostResponseDto> responseDtoList = new ArrayList<>();
+    public CursorPageResponseDto<PostResponseDto> getTradeEndPost(String cursor) {
+        return findUserPost(cursor);
+    }
+
+    private CursorPageResponseDto<PostResponseDto> findUserPost(String cursor) {
         Long userId = JwtUtil.getMemberId();
+        PageCursor pageCursor = PageCursor.decode(cursor);
+
+        // 읽기 모델은 거래 가능한 매물만 들고 있으므로 내 게시물은 post 테이블에서 읽는다.
+        List<Post> postList = postRepository.findByUserIdAfter(userId,
+                pageCursor.getCreatedAt(),pageCursor.getId(),getPageable());
+        PageCursor nextCursor = null;
 
-        Sort sort = Sort.by(Sort.Direction.DESC,"createdAt");
-        Pageable pageable = PageRequest.of(pages,10,sort);
+        if (postList.size() > PAGE_SIZE) {
+            postList = trim(postList);
+            Post last = postList.get(postList.size() - 1);
+            nextCursor = PageCursor.of(last.getCreatedAt(),last.getPostId());
+        }
 
-        List<Post> postList = postRepository.findByUserId(userId,pageable);
+        return CursorPageResponseDto.of(postListingAssembler.assemblePosts(postList),nextCursor);
+    }
 
-        for (Post post : postList) {
+    // 읽기 모델에 없는 id 중 실제로 없거나 삭제된 게시물만 골라낸다. (행이 빠진 것만으로 지우지 않는다)
+    private List<Long> findDeletedPostIds(List<Long> postIds, List<PostListingView> viewList) {
+        Set<Long> missingPostIds = new LinkedHashSet<>(postIds);
 
-            Room room = roomRepository.findById(post.getRoomId())
-                    .orElseThrow(() -> new RoomNotFoundException(post.getRoomId()));
+        for (PostListingView view : viewList) {
+            missingPostIds.remove(view.getPostId());
+        }
 
-            Image image = imageRepository.findMainImage(room.getRoomId(),0L)
-                    .orElseThrow(() -> new ImageNotFoundException(room.getRoomId()));
+        if (missingPostIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-            List<Options> optionsList = optionsRepository.findByRoomId(room.getRoomId());
+        for (Post post : postRepository.findAllById(missingPostIds)) {
+            if (post.getDeletedAt() == null) {
+                missingPostIds.remove(post.getPostId());
+            }
+        }
+
+        return new ArrayList<>(missingPostIds);
+    }
+
+    private Boolean isHearted(Long userId, Long postId) {
+        return heartService.findHeartedPostIds(userId,Collections.singletonList(postId)).contains(postId);
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다.
+    private Pageable getPageable() {
+        return PageRequest.of(0,PAGE_SIZE + 1);
+    }
 
-            PostResponseDto responseDto = PostResponseDto.of(post,room,image.getImageUrl(),optionsList);
-            responseDtoList.add(responseDto);
+    private <T> List<T> trim(List<T> list) {
+        if (list.size() <= PAGE_SIZE) {
+            return list;
         }
 
-        return responseDtoList;
+        return new ArrayList<>(list.subList(0,PAGE_SIZE));
     }
 }
@@ -0,0 +1,12 @@
+package com.dankan.service.recent;
+
+import com.dankan.domain.RecentWatchPost;
+import com.dankan.vo.PageCursor;
+
+import java.util.List;
+
+public interface RecentWatchService {
+    void watch(Long userId, Long postId);
+    List<RecentWatchPost> findRecentWatch(Long userId, PageCursor cursor, int size);
+    void remove(Long userId, List<Long> postIds);
+}
@@ -0,0 +1,280 @@
+package com.dankan.service.recent;
+
+import com.dankan.domain.RecentWatchPost;
+import com.dankan.repository.RecentWatchRepository;
+import com.dankan.vo.PageCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 최근 본 게시물. 사용자별 Redis ZSET(member: post id, score: 본 시각 ms)에 최근 MAX_SIZE 개만 유지하고,
+ * 바뀐 사용자 id 를 dirty 집합에 모아 주기적으로 recent_watch_post 테이블에 반영한다. (write-behind)
+ * 적재 여부를 알 수 있도록 sentinel("0") 을 넣어 두고, ZSET 이 없으면(만료, Redis 재시작) 테이블에서 다시 채운다.
+ * 반영 시 ZSET 이 없는 사용자는 건너뛴다. 빈 목록으로 보고 테이블을 지우면 안 된다.
+ */
+@Slf4j
+public class RecentWatchServiceImpl implements RecentWatchService {
+    private static final String KEY = "recent:watch:";
+    private static final String DIRTY_KEY = "recent:watch:dirty";
+    private static final String SENTINEL = "0";
+    private static final int MAX_SIZE = 30;
+    private static final int FLUSH_SIZE = 100;
+    private static final Duration TTL = Duration.ofDays(30);
+
+    // 키가 없을 때만 채운다. ARGV: TTL, (score, member)...
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end\n"
+            + "redis.call('ZADD', KEYS[1], 0, '" + SENTINEL + "')\n"
+            + "for i = 2, #ARGV, 2 do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) end\n"
+            + "redis.call('EXPIRE', KEYS[1], ARGV[1])\n"
+            + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RecentWatchRepository recentWatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RecentWatchServiceImpl(StringRedisTemplate stringRedisTemplate,
+                                  RecentWatchRepository recentWatchRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.recentWatchRepository = recentWatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void watch(Long userId, Long postId) {
+        String key = KEY + userId;
+
+        try {
+            loadIfAbsent(userId);
+
+            // updated_at 컬럼이 초 단위이므로 점수도 초 단위로 맞춘다.
+            long now = System.currentTimeMillis() / 1000 * 1000;
+
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.zAdd(key, now, postId.toString());
+                stringConnection.zRemRange(key, 1, -(MAX_SIZE + 1)); // sentinel(0번)을 남기고 오래된 것부터 MAX_SIZE 개 초과분 삭제
+                stringConnection.expire(key, TTL.getSeconds());
+                stringConnection.sAdd(DIRTY_KEY, userId.toString());
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("recent watch update failed : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 본 순서 (본 시각, post id 내림차순) 로 cursor 뒤의 size 개
+     */
+    @Override
+    public List<RecentWatchPost> findRecentWatch(Long userId, PageCursor cursor, int size) {
+        List<RecentWatchPost> recentWatchPostList;
+
+        try {
+            loadIfAbsent(userId);
+            recentWatchPostList = toRecentWatchPost(userId,
+                    stringRedisTemplate.opsForZSet().reverseRangeWithScores(KEY + userId, 0, MAX_SIZE));
+        } catch (DataAccessException e) {
+            log.warn("recent watch read failed, read from database : {}", e.getMessage());
+            recentWatchPostList = findFromDatabase(userId);
+        }
+
+        recentWatchPostList.sort(Comparator.comparing(RecentWatchPost::getUpdatedAt)
+                .thenComparing(RecentWatchPost::getPostId)
+                .reversed());
+
+        List<RecentWatchPost> result = new ArrayList<>();
+
+        for (RecentWatchPost recentWatchPost : recentWatchPostList) {
+            if (result.size() >= size) {
+                break;
+            }
+
+            if (isAfter(recentWatchPost, cursor)) {
+                result.add(recentWatchPost);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public void remove(Long userId, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 키가 없을 때 지우기만 하면 sentinel 없는 ZSET 이 남거나, 반영 시 건너뛰어 테이블에서 빠지지 않는다.
+            loadIfAbsent(userId);
+            stringRedisTemplate.opsForZSet().remove(KEY + userId, postIds.stream().map(String::valueOf).toArray());
+            stringRedisTemplate.opsForSet().add(DIRTY_KEY, userId.toString());
+        } catch (DataAccessException e) {
+            log.warn("recent watch remove failed : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * dirty 사용자의 ZSET 을 FLUSH_SIZE 명씩 테이블에 반영한다. 실패하면 다시 dirty 에 넣는다.
+     */
+    @Scheduled(fixedDelay = 10_000)
+    public void flush() {
+        try {
+            while (true) {
+                List<String> userIds = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, FLUSH_SIZE);
+
+                if (userIds == null || userIds.isEmpty()) {
+                    return;
+                }
+
+                try {
+                    transactionTemplate.executeWithoutResult(status -> flush(userIds));
+                } catch (RuntimeException e) {
+                    log.error("recent watch flush failed : {} users", userIds.size(), e);
+                    stringRedisTemplate.opsForSet().add(DIRTY_KEY, userIds.toArray(new String[0]));
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("recent watch flush skipped : {}", e.getMessage());
+        }
+    }
+
+    // 테이블을 ZSET 과 같게 맞춘다. 있는 행은 시각만 고치고, 새로 본 것은 추가, 목록에서 빠진 것은 삭제
+    // ZSET 이 없는(만료된) 사용자는 무엇이 빠졌는지 알 수 없으므로 건너뛴다.
+    private void flush(List<String> userIds) {
+        List<Long> ids = new ArrayList<>();
+        Map<Long, Set<ZSetOperations.TypedTuple<String>>> entryMap = new HashMap<>();
+
+        for (String userId : userIds) {
+            Long id = Long.parseLong(userId);
+            Set<ZSetOperations.TypedTuple<String>> entries =
+                    stringRedisTemplate.opsForZSet().reverseRangeWithScores(KEY + id, 0, MAX_SIZE);
+
+            if (entries == null || entries.isEmpty()) {
+                continue;
+            }
+
+            ids.add(id);
+            entryMap.put(id, entries);
+        }
+
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<Long, RecentWatchPost>> rowMap = new HashMap<>();
+        List<RecentWatchPost> deleteList = new ArrayList<>();
+
+        for (RecentWatchPost row : recentWatchRepository.findAllByUserIdIn(ids)) {
+            RecentWatchPost duplicate = rowMap.computeIfAbsent(row.getUserId(), key -> new HashMap<>())
+                    .put(row.getPostId(), row);
+
+            if (duplicate != null) {
+                deleteList.add(duplicate);
+            }
+        }
+
+        List<RecentWatchPost> saveList = new ArrayList<>();
+
+        for (Long userId : ids) {
+            Set<ZSetOperations.TypedTuple<String>> entries = entryMap.get(userId);
+            Map<Long, RecentWatchPost> rows = rowMap.getOrDefault(userId, new HashMap<>());
+
+            for (RecentWatchPost recentWatchPost : toRecentWatchPost(userId, entries)) {
+                RecentWatchPost row = rows.remove(recentWatchPost.getPostId());
+
+                if (row == null) {
+                    saveList.add(recentWatchPost);
+                } else if (!row.getUpdatedAt().equals(recentWatchPost.getUpdatedAt())) {
+                    row.setUpdatedAt(recentWatchPost.getUpdatedAt());
+                    saveList.add(row);
+                }
+            }
+
+            deleteList.addAll(rows.values());
+        }
+
+        recentWatchRepository.saveAll(saveList);
+
+        if (!deleteList.isEmpty()) {
+            recentWatchRepository.deleteAllInBatch(deleteList);
+        }
+    }
+
+    private void loadIfAbsent(Long userId) {
+        String key = KEY + userId;
+
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            return;
+        }
+
+        // 본 것이 없어도 sentinel 만 있는 키를 만든다.
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TTL.getSeconds()));
+
+        for (RecentWatchPost recentWatchPost : findFromDatabase(userId)) {
+            args.add(String.valueOf(toEpochMilli(recentWatchPost.getUpdatedAt())));
+            args.add(recentWatchPost.getPostId().toString());
+        }
+
+        stringRedisTemplate.execute(LOAD_SCRIPT, Collections.singletonList(key), args.toArray());
+    }
+
+    private List<RecentWatchPost> findFromDatabase(Long userId) {
+        return new ArrayList<>(recentWatchRepository.findAllByUserId(userId,
+                PageRequest.of(0, MAX_SIZE, Sort.by(Sort.Direction.DESC, "updatedAt"))));
+    }
+
+    private List<RecentWatchPost> toRecentWatchPost(Long userId, Set<ZSetOperations.TypedTuple<String>> entries) {
+        List<RecentWatchPost> recentWatchPostList = new ArrayList<>();
+
+        if (entries == null) {
+            return recentWatchPostList;
+        }
+
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            if (entry.getValue() == null || entry.getScore() == null || SENTINEL.equals(entry.getValue())) {
+                continue;
+            }
+
+            recentWatchPostList.add(RecentWatchPost.of(userId, Long.parseLong(entry.getValue()),
+                    toLocalDateTime(entry.getScore().longValue())));
+        }
+
+        return recentWatchPostList;
+    }
+
+    private boolean isAfter(RecentWatchPost recentWatchPost, PageCursor cursor) {
+        int result = recentWatchPost.getUpdatedAt().compareTo(cursor.getCreatedAt());
+
+        return result < 0 || (result == 0 && recentWatchPost.getPostId() < cursor.getId());
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,11 @@
+package com.dankan.service.region;
+
+import com.dankan.domain.embedded.RegionCode;
+import com.dankan.dto.response.region.RegionResponseDto;
+
+import java.util.List;
+
+public interface RegionService {
+    RegionCode resolve(String address);
+    List<RegionResponseDto> findChildren(Long parentCode);
+}
@@ -0,0 +1,110 @@
+package com.dankan.service.region;
+
+import com.dankan.domain.Region;
+import com.dankan.domain.embedded.RegionCode;
+import com.dankan.dto.response.region.RegionResponseDto;
+import com.dankan.enum_converter.RegionLevelEnum;
+import com.dankan.repository.RegionRepository;
+import com.dankan.util.AddressParser;
+import com.dankan.vo.AddressParts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 행정구역 사전. (상위 id, 단계, 이름) -> region id 를 메모리에 들고 있고, 처음 보는 구역만 DB 에 등록한다.
+ * 등록은 별도 트랜잭션으로 커밋해서 호출 측이 롤백돼도 캐시의 id 가 DB 와 어긋나지 않는다.
+ */
+@Slf4j
+public class RegionServiceImpl implements RegionService {
+    private static final Long ROOT_ID = 0L;
+
+    private final RegionRepository regionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Long> codeMap = new ConcurrentHashMap<>();
+
+    public RegionServiceImpl(RegionRepository regionRepository, PlatformTransactionManager transactionManager) {
+        this.regionRepository = regionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Region region : regionRepository.findAll()) {
+            codeMap.put(getKey(region.getParentId(), region.getRegionLevel(), region.getName()), region.getRegionId());
+        }
+
+        log.info("region dictionary loaded : {}", codeMap.size());
+    }
+
+    @Override
+    public RegionCode resolve(String address) {
+        AddressParts parts = AddressParser.parse(address);
+
+        Long dooCode = getCode(ROOT_ID, RegionLevelEnum.DOO, parts.getDoo());
+        Long siCode = getCode(dooCode, RegionLevelEnum.SI, parts.getSi());
+        Long guCode = getCode(siCode != null ? siCode : dooCode, RegionLevelEnum.GU, parts.getGu());
+        Long dongCode = getCode(guCode != null ? guCode : siCode != null ? siCode : dooCode, RegionLevelEnum.DONG, parts.getDong());
+
+        return RegionCode.builder()
+                .dooCode(dooCode)
+                .siCode(siCode)
+                .guCode(guCode)
+                .dongCode(dongCode)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RegionResponseDto> findChildren(Long parentCode) {
+        List<RegionResponseDto> responseDtoList = new ArrayList<>();
+
+        for (Region region : regionRepository.findByParentIdOrderByName(parentCode == null ? ROOT_ID : parentCode)) {
+            responseDtoList.add(RegionResponseDto.of(region));
+        }
+
+        return responseDtoList;
+    }
+
+    private Long getCode(Long parentId, RegionLevelEnum level, String name) {
+        if (parentId == null || name == null || name.isEmpty()) {
+            return null;
+        }
+
+        String key = getKey(parentId, level.getValue(), name);
+        Long code = codeMap.get(key);
+
+        if (code != null) {
+            return code;
+        }
+
+        code = transactionTemplate.execute(status -> {
+            regionRepository.insertIgnore(parentId, level.getValue(), name);
+
+            return regionRepository.findByParentIdAndRegionLevelAndName(parentId, level.getValue(), name)
+                    .map(Region::getRegionId)
+                    .orElse(null);
+        });
+
+        if (code != null) {
+            codeMap.put(key, code);
+        }
+
+        return code;
+    }
+
+    private String getKey(Long parentId, Long level, String name) {
+        return parentId + ":" + level + ":" + name;
+    }
+}
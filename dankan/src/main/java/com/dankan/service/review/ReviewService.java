@@ -3,6 +3,7 @@ package com.dankan.service.review;
 
 import com.dankan.dto.request.image.ImageRequestDto;
 import com.dankan.dto.response.image.ImageResponseDto;
+import com.dankan.dto.response.page.CursorPageResponseDto;
 import com.dankan.dto.response.review.*;
 import com.dankan.dto.request.review.ReviewDetailRequestDto;
 import com.dankan.dto.request.review.ReviewRequestDto;
@@ -12,10 +13,12 @@ import java.util.UUID;
 
 public interface ReviewService {
     ReviewResponseDto addReview(ReviewRequestDto reviewRequestDto);
-    List<ReviewDetailResponseDto> findReviewDetail(String address,Integer pages);
+    CursorPageResponseDto<ReviewDetailResponseDto> findReviewDetail(String address,String cursor);
     ReviewRateResponseDto findReviewRate(String address);
-    List<ReviewResponseDto> findRecentReview(Integer pages);
-    List<ReviewSearchResponse> findReviewByStar(Integer pages);
+    ReviewStatsResponseDto findReviewStats(String address);
+    CursorPageResponseDto<ReviewResponseDto> findRecentReview(String cursor);
+    CursorPageResponseDto<ReviewResponseDto> findReviewByDong(Long dongCode,String cursor);
+    CursorPageResponseDto<ReviewSearchResponse> findReviewByStar(String cursor,Long guCode,Long dongCode);
     List<ReviewSearchResponse> findReviewByAddress(String address);
     void deleteReview(Long reviewId);
 }
@@ -4,6 +4,7 @@ import com.dankan.domain.*;
 import com.dankan.dto.request.image.ImageRequestDto;
 import com.dankan.dto.request.review.ReviewDetailRequestDto;
 import com.dankan.dto.response.image.ImageResponseDto;
+import com.dankan.dto.response.page.CursorPageResponseDto;
 import com.dankan.dto.response.post.PostFilterResponseDto;
 import com.dankan.dto.response.review.*;
 import com.dankan.dto.request.review.ReviewRequestDto;
@@ -11,40 +12,69 @@ import com.dankan.exception.image.ImageNotFoundException;
 import com.dankan.exception.options.OptionNotFoundException;
 import com.dankan.exception.review.ReviewDuplicatedException;
 import com.dankan.exception.review.ReviewNotFoundException;
-import com.dankan.exception.room.RoomNotFoundException;
 import com.dankan.exception.user.UserIdNotFoundException;
 import com.dankan.repository.*;
+import com.dankan.service.listing.AddressRoomResolver;
+import com.dankan.service.region.RegionService;
+import com.dankan.service.search.AutocompleteService;
+import com.dankan.service.user.UserProfileCache;
+import com.dankan.util.FullTextUtil;
 import com.dankan.util.JwtUtil;
+import com.dankan.vo.PageCursor;
+import com.dankan.vo.RatingCursor;
+import com.dankan.vo.UserProfile;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 public class ReviewServiceImpl implements ReviewService {
+    private static final int PAGE_SIZE = 10;
+    // 주소 검색은 관련도 상위 후기만 모아서 주소별로 묶는다.
+    private static final int MAX_SEARCH_SIZE = 300;
+    private static final Long REVIEW_IMAGE_TYPE = 3L;
+
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
-    private final RoomRepository roomRepository;
     private final DateLogRepository dateLogRepository;
     private final ImageRepository imageRepository;
-
+    private final AutocompleteService autocompleteService;
+    private final RegionService regionService;
+    private final AddressRoomResolver addressRoomResolver;
+    private final ReviewAggregateRepository reviewAggregateRepository;
+    private final UserProfileCache userProfileCache;
+    private final ReviewHistogramRepository reviewHistogramRepository;
+    private final ReviewRankBucketRepository reviewRankBucketRepository;
+    private final ReviewStatsUpdater reviewStatsUpdater;
 
     public ReviewServiceImpl(UserRepository userRepository
             ,ReviewRepository reviewRepository
-            ,RoomRepository roomRepository
             ,DateLogRepository dateLogRepository
-            ,ImageRepository imageRepository) {
+            ,ImageRepository imageRepository
+            ,AutocompleteService autocompleteService
+            ,RegionService regionService
+            ,AddressRoomResolver addressRoomResolver
+            ,ReviewAggregateRepository reviewAggregateRepository
+            ,UserProfileCache userProfileCache
+            ,ReviewHistogramRepository reviewHistogramRepository
+            ,ReviewRankBucketRepository reviewRankBucketRepository
+            ,ReviewStatsUpdater reviewStatsUpdater) {
         this.userRepository = userRepository;
         this.reviewRepository = reviewRepository;
-        this.roomRepository = roomRepository;
         this.dateLogRepository = dateLogRepository;
         this.imageRepository = imageRepository;
+        this.autocompleteService = autocompleteService;
+        this.regionService = regionService;
+        this.addressRoomResolver = addressRoomResolver;
+        this.reviewAggregateRepository = reviewAggregateRepository;
+        this.userProfileCache = userProfileCache;
+        this.reviewHistogramRepository = reviewHistogramRepository;
+        this.reviewRankBucketRepository = reviewRankBucketRepository;
+        this.reviewStatsUpdater = reviewStatsUpdater;
     }
 
     @Override
@@ -59,9 +89,16 @@ public class ReviewServiceImpl implements ReviewService {
         dateLogRepository.save(dateLog);
 
         RoomReview roomReview = RoomReview.of(reviewRequestDto,user, dateLog.getId());
+        roomReview.setRegionCode(regionService.resolve(reviewRequestDto.getAddress()));
         reviewRepository.save(roomReview);
-
-        return ReviewResponseDto.of(user,roomReview);
+        reviewAggregateRepository.addReview(roomReview.getAddress(),roomReview.getTotalRate(),roomReview.getCleanRate()
+                ,roomReview.getNoiseRate(),roomReview.getAccessRate(),roomReview.getHostRate(),roomReview.getFacilityRate()
+                ,roomReview.getRegionCode() == null ? null : roomReview.getRegionCode().getGuCode()
+                ,roomReview.getRegionCode() == null ? null : roomReview.getRegionCode().getDongCode());
+        reviewStatsUpdater.add(roomReview);
+        autocompleteService.addReview(roomReview);
+
+        return ReviewResponseDto.of(UserProfile.of(user),roomReview,null);
     }
 
     @Override
@@ -72,35 +109,28 @@ public class ReviewServiceImpl implements ReviewService {
         RoomReview roomReview = reviewRepository.findByUserIdAndReviewId(userId,reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException(reviewId));
 
-        roomReview.setDeletedAt(LocalDate.now());
+        // 동시에 두 번 삭제되어도 집계에서는 한 번만 뺀다.
+        if (reviewRepository.softDelete(userId,reviewId) != 1) {
+            throw new ReviewNotFoundException(reviewId);
+        }
 
-        reviewRepository.save(roomReview);
+        reviewAggregateRepository.removeReview(roomReview.getAddress(),roomReview.getTotalRate(),roomReview.getCleanRate()
+                ,roomReview.getNoiseRate(),roomReview.getAccessRate(),roomReview.getHostRate(),roomReview.getFacilityRate());
+        reviewStatsUpdater.remove(roomReview);
+        reviewAggregateRepository.deleteIfEmpty(roomReview.getAddress());
+        autocompleteService.removeReview(roomReview);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ReviewResponseDto> findRecentReview(Integer pages) {
-        List<ReviewResponseDto> responseDtoList = new ArrayList<>();
-        Sort sort = Sort.by(Sort.Direction.DESC,"createdAt");
-        Pageable pageable =  PageRequest.of(pages,10,sort);
-        Slice<RoomReview> roomReviewList = reviewRepository.findActiveReview(pageable);
-
-        for (RoomReview roomReview : roomReviewList) {
-            String imgUrls = "";
-            User user = userRepository.findById(roomReview.getUserId())
-                    .orElseThrow(() -> new UserIdNotFoundException(roomReview.getUserId().toString()));
-
-            if (roomReview.getImageId()!=null) {
-                Image image = imageRepository.findById(roomReview.getImageId())
-                        .orElseThrow(() -> new ImageNotFoundException(roomReview.getImageId()));
-                imgUrls = image.getImageUrl();
-            }
-
-            ReviewResponseDto responseDto = ReviewResponseDto.of(user,roomReview,imgUrls);
-            responseDtoList.add(responseDto);
-        }
-
-        return responseDtoList;
+    public CursorPageResponseDto<ReviewResponseDto> findRecentReview(String cursor) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        List<RoomReview> roomReviewList = reviewRepository.findActiveReviewAfter(
+                pageCursor.getCreatedAt().toLocalDate(),pageCursor.getId(),getPageable());
+        PageCursor nextCursor = getNextCursor(roomReviewList);
+        roomReviewList = trim(roomReviewList);
+
+        return CursorPageResponseDto.of(toReviewResponse(roomReviewList),nextCursor);
     }
 
     @Override
@@ -109,7 +139,9 @@ public class ReviewServiceImpl implements ReviewService {
         List<ReviewSearchResponse> responseDtoList = new ArrayList<>();
         HashMap<String,List<RoomReview>> reviewHashMap = new HashMap<>();
 
-        List<RoomReview> roomReviewList = reviewRepository.findByAddressSearch(address);
+        List<RoomReview> roomReviewList = FullTextUtil.isSearchable(address)
+                ? reviewRepository.searchByAddress(FullTextUtil.toPhrase(address),MAX_SEARCH_SIZE)
+                : reviewRepository.findByAddressSearch(address);
 
         for (RoomReview roomReview : roomReviewList) {
             String roomAddress = roomReview.getAddress();
@@ -123,23 +155,7 @@ public class ReviewServiceImpl implements ReviewService {
             }
         }
 
-        for (Map.Entry<String, List<RoomReview>> hashMap : reviewHashMap.entrySet()) {
-            String reviewAddress = hashMap.getValue().get(0).getAddress();
-            String imgUrl = "";
-
-            if (roomRepository.findByAddress(address,1L).isPresent()) {
-                Room room = roomRepository.findByAddress(reviewAddress,1L)
-                        .orElseThrow(() -> new RoomNotFoundException(address));
-
-                Image image = imageRepository.findMainImage(room.getRoomId(),0L)
-                        .orElseThrow(() -> new ImageNotFoundException(room.getRoomId()));
-
-                imgUrl = image.getImageUrl();
-            }
-
-            ReviewSearchResponse reviewSearchResponse = ReviewSearchResponse.of(hashMap.getValue(),imgUrl);
-            responseDtoList.add(reviewSearchResponse);
-        }
+        responseDtoList.addAll(toReviewSearchResponse(reviewHashMap));
 
         responseDtoList.sort( //별점 순 조회
                 Comparator.comparing(ReviewSearchResponse::getAvgTotalRate).reversed()
@@ -150,89 +166,240 @@ public class ReviewServiceImpl implements ReviewService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ReviewSearchResponse> findReviewByStar(Integer pages) {
-        List<ReviewSearchResponse> responseDtoList = new ArrayList<>();
-        HashMap<String,List<RoomReview>> reviewHashMap = new HashMap<>();
+    public CursorPageResponseDto<ReviewSearchResponse> findReviewByStar(String cursor, Long guCode, Long dongCode) {
+        RatingCursor ratingCursor = RatingCursor.decode(cursor);
+        List<ReviewAggregate> reviewAggregateList;
+
+        // 주소별 집계를 (평균 별점, 후기 수, 주소) 인덱스 순으로 한 페이지만 읽는다. 동이 구보다 좁은 범위
+        if (dongCode != null) {
+            reviewAggregateList = reviewAggregateRepository.findRankByDongCodeAfter(dongCode,ratingCursor.getAvgRateMilli()
+                    ,ratingCursor.getReviewCount(),ratingCursor.getAddress(),PAGE_SIZE + 1);
+        } else if (guCode != null) {
+            reviewAggregateList = reviewAggregateRepository.findRankByGuCodeAfter(guCode,ratingCursor.getAvgRateMilli()
+                    ,ratingCursor.getReviewCount(),ratingCursor.getAddress(),PAGE_SIZE + 1);
+        } else {
+            reviewAggregateList = reviewAggregateRepository.findRankAfter(ratingCursor.getAvgRateMilli()
+                    ,ratingCursor.getReviewCount(),ratingCursor.getAddress(),PAGE_SIZE + 1);
+        }
 
-        List<RoomReview> roomReviewList = reviewRepository.findAll();
+        RatingCursor nextCursor = null;
 
-        for (RoomReview roomReview : roomReviewList) {
-            String roomAddress = roomReview.getAddress();
-
-            if (reviewHashMap.containsKey(roomAddress)) {
-                reviewHashMap.get(roomAddress).add(roomReview);
-            } else {
-                List<RoomReview> newRoomList = new ArrayList<>();
-                newRoomList.add(roomReview);
-                reviewHashMap.put(roomAddress,newRoomList);
-            }
+        if (reviewAggregateList.size() > PAGE_SIZE) {
+            reviewAggregateList = new ArrayList<>(reviewAggregateList.subList(0,PAGE_SIZE));
+            ReviewAggregate last = reviewAggregateList.get(PAGE_SIZE - 1);
+            nextCursor = RatingCursor.of(last.getAvgRateMilli(),last.getReviewCount(),last.getAddress());
         }
 
-        for (Map.Entry<String, List<RoomReview>> hashMap : reviewHashMap.entrySet()) {
-            String reviewAddress = hashMap.getValue().get(0).getAddress();
-            String imgUrl = "";
-
-            if (roomRepository.findByAddress(reviewAddress,1L).isPresent()) {
-                Room room = roomRepository.findByAddress(reviewAddress,1L)
-                        .orElseThrow(() -> new RoomNotFoundException(reviewAddress));
+        List<String> addresses = new ArrayList<>();
 
-                Image image = imageRepository.findMainImage(room.getRoomId(),0L)
-                        .orElseThrow(() -> new ImageNotFoundException(room.getRoomId()));
+        for (ReviewAggregate reviewAggregate : reviewAggregateList) {
+            addresses.add(reviewAggregate.getAddress());
+        }
 
-                imgUrl = image.getImageUrl();
-            }
+        List<ReviewSearchResponse> responseDtoList = new ArrayList<>();
+        Map<String, AddressRoom> addressRoomMap = addressRoomResolver.resolve(addresses);
 
-            ReviewSearchResponse reviewSearchResponse = ReviewSearchResponse.of(hashMap.getValue(),imgUrl);
-            responseDtoList.add(reviewSearchResponse);
+        for (ReviewAggregate reviewAggregate : reviewAggregateList) {
+            responseDtoList.add(ReviewSearchResponse.of(reviewAggregate
+                    ,getMainImageUrl(addressRoomMap.get(reviewAggregate.getAddress()))));
         }
 
-        responseDtoList.sort( //별점 순 조회
-                Comparator.comparing(ReviewSearchResponse::getAvgTotalRate).reversed()
-        );
-
-        return responseDtoList;
+        return CursorPageResponseDto.ofEncoded(responseDtoList,nextCursor == null ? null : nextCursor.encode());
     }
 
     @Override
     @Transactional(readOnly = true)
     public ReviewRateResponseDto findReviewRate(String address) {
         String imgUrl = "";
-        List<RoomReview> reviewList = reviewRepository.findByAddress(address);
+        ReviewAggregate reviewAggregate = reviewAggregateRepository.findById(address)
+                .orElseThrow(() -> new ReviewNotFoundException(address));
 
-        if (reviewList.size() == 0) {
-            throw new ReviewNotFoundException(address);
+        // 하나의 도로명 주소에는 여러 방이 있을 수 있습니다. 가장 최근 후기의 이미지를 대표로 씁니다.
+        List<Long> imageIds = reviewRepository.findImageIdsByAddress(address,PageRequest.of(0,1));
+
+        if (!imageIds.isEmpty()) {
+            Image image = imageRepository.findById(imageIds.get(0))
+                    .orElseThrow(() -> new ImageNotFoundException(imageIds.get(0)));
+            imgUrl = image.getImageUrl();
         }
 
-        // 하나의 도로명 주소에는 여러 방이 있을 수 있습니다. 어떤 이미지를 대표로 가져올지 고려해봐야 합니다.
-        for (RoomReview roomReview : reviewList) {
-            if (roomReview.getImageId()!=null) {
-                Image image = imageRepository.findById(roomReview.getImageId())
-                        .orElseThrow(() -> new ImageNotFoundException(roomReview.getImageId()));
-                imgUrl = image.getImageUrl();
-            }
+        return ReviewRateResponseDto.of(reviewAggregate,imgUrl);
+    }
+
+    /**
+     * 주소와 그 동의 세부 별점 분포, 동 안의 백분위. 미리 센 칸만 읽으므로 후기 수와 관계없이 조회 4번이다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ReviewStatsResponseDto findReviewStats(String address) {
+        ReviewAggregate reviewAggregate = reviewAggregateRepository.findById(address)
+                .orElseThrow(() -> new ReviewNotFoundException(address));
+        List<ReviewHistogram> histogramList = reviewHistogramRepository.findByScope(ReviewHistogram.SCOPE_ADDRESS,address);
+        Long dongCode = reviewAggregate.getDongCode();
+
+        if (dongCode == null) {
+            return ReviewStatsResponseDto.of(reviewAggregate,histogramList,Collections.emptyList(),null,null);
         }
 
-        return ReviewRateResponseDto.of(reviewList,address,imgUrl);
+        List<ReviewRankBucket> rankBucketList = reviewRankBucketRepository.findByDongCode(dongCode);
+
+        return ReviewStatsResponseDto.of(reviewAggregate,histogramList
+                ,reviewHistogramRepository.findByScope(ReviewHistogram.SCOPE_DONG,dongCode.toString())
+                ,ReviewStatsUpdater.percentileRank(reviewAggregate.getRateBucket(),rankBucketList)
+                ,ReviewStatsUpdater.countAddresses(rankBucketList));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ReviewDetailResponseDto> findReviewDetail(String address, Integer pages) {
+    public CursorPageResponseDto<ReviewResponseDto> findReviewByDong(Long dongCode, String cursor) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        List<RoomReview> roomReviewList = reviewRepository.findByDongCodeAfter(dongCode,
+                pageCursor.getCreatedAt().toLocalDate(),pageCursor.getId(),getPageable());
+        PageCursor nextCursor = getNextCursor(roomReviewList);
+        roomReviewList = trim(roomReviewList);
+
+        return CursorPageResponseDto.of(toReviewResponse(roomReviewList),nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ReviewDetailResponseDto> findReviewDetail(String address, String cursor) {
         List<ReviewDetailResponseDto> responseDtoList = new ArrayList<>();
-        Sort sort = Sort.by(Sort.Direction.DESC,"createdAt");
-        Pageable pageable = PageRequest.of(pages,10,sort);
-        List<RoomReview> roomReviewList = reviewRepository.findByAddress(address,pageable);
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        List<RoomReview> roomReviewList = reviewRepository.findByAddressAfter(address,
+                pageCursor.getCreatedAt().toLocalDate(),pageCursor.getId(),getPageable());
+        PageCursor nextCursor = getNextCursor(roomReviewList);
+        roomReviewList = trim(roomReviewList);
+
+        Map<Long, UserProfile> profileMap = findProfiles(roomReviewList);
+        List<Long> reviewIds = new ArrayList<>();
+
+        for (RoomReview roomReview : roomReviewList) {
+            reviewIds.add(roomReview.getReviewId());
+        }
+
+        // 후기 id -> 후기 이미지(image_type 3) 목록
+        Map<Long, List<Image>> imageMap = new HashMap<>();
+
+        if (!reviewIds.isEmpty()) {
+            for (Image image : imageRepository.findByIdInAndImageType(reviewIds,REVIEW_IMAGE_TYPE)) {
+                imageMap.computeIfAbsent(image.getId(),key -> new ArrayList<>()).add(image);
+            }
+        }
+
+        for (RoomReview roomReview : roomReviewList) {
+            responseDtoList.add(ReviewDetailResponseDto.of(getProfile(profileMap,roomReview.getUserId()),roomReview
+                    ,imageMap.getOrDefault(roomReview.getReviewId(),Collections.emptyList())));
+        }
+
+        return CursorPageResponseDto.of(responseDtoList,nextCursor);
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다.
+    private Pageable getPageable() {
+        return PageRequest.of(0,PAGE_SIZE + 1);
+    }
+
+    // 후기 작성일은 날짜 단위이므로 (createdAt, reviewId) 로 커서를 만든다.
+    private PageCursor getNextCursor(List<RoomReview> roomReviewList) {
+        if (roomReviewList.size() <= PAGE_SIZE) {
+            return null;
+        }
+
+        RoomReview last = roomReviewList.get(PAGE_SIZE - 1);
+
+        return PageCursor.of(last.getCreatedAt().atStartOfDay(),last.getReviewId());
+    }
+
+    private List<RoomReview> trim(List<RoomReview> roomReviewList) {
+        if (roomReviewList.size() <= PAGE_SIZE) {
+            return roomReviewList;
+        }
+
+        return new ArrayList<>(roomReviewList.subList(0,PAGE_SIZE));
+    }
+
+    // 한 페이지의 작성자와 후기 이미지를 각각 한 번에 읽어 붙인다.
+    private List<ReviewResponseDto> toReviewResponse(List<RoomReview> roomReviewList) {
+        List<ReviewResponseDto> responseDtoList = new ArrayList<>();
+        Map<Long, UserProfile> profileMap = findProfiles(roomReviewList);
+        Set<Long> imageIds = new HashSet<>();
+
+        for (RoomReview roomReview : roomReviewList) {
+            if (roomReview.getImageId() != null) {
+                imageIds.add(roomReview.getImageId());
+            }
+        }
+
+        Map<Long, String> imageMap = new HashMap<>();
+
+        if (!imageIds.isEmpty()) {
+            for (Image image : imageRepository.findAllById(imageIds)) {
+                imageMap.put(image.getImageId(),image.getImageUrl());
+            }
+        }
 
         for (RoomReview roomReview : roomReviewList) {
-            Long userId = roomReview.getUserId();
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new UserIdNotFoundException(userId.toString()));
+            String imgUrls = "";
+
+            if (roomReview.getImageId() != null) {
+                imgUrls = imageMap.get(roomReview.getImageId());
+
+                if (imgUrls == null) {
+                    throw new ImageNotFoundException(roomReview.getImageId());
+                }
+            }
+
+            responseDtoList.add(ReviewResponseDto.of(getProfile(profileMap,roomReview.getUserId()),roomReview,imgUrls));
+        }
+
+        return responseDtoList;
+    }
+
+    private Map<Long, UserProfile> findProfiles(List<RoomReview> roomReviewList) {
+        List<Long> userIds = new ArrayList<>();
+
+        for (RoomReview roomReview : roomReviewList) {
+            userIds.add(roomReview.getUserId());
+        }
+
+        return userProfileCache.findProfiles(userIds);
+    }
 
-            List<Image> imageList = imageRepository.findByIdAndImageType(roomReview.getReviewId(),3L);
-            ReviewDetailResponseDto reviewDetailResponseDto = ReviewDetailResponseDto.of(user,roomReview,imageList);
-            responseDtoList.add(reviewDetailResponseDto);
+    private UserProfile getProfile(Map<Long, UserProfile> profileMap, Long userId) {
+        UserProfile profile = profileMap.get(userId);
+
+        if (profile == null) {
+            throw new UserIdNotFoundException(userId.toString());
+        }
+
+        return profile;
+    }
+
+    // 주소별 후기 묶음에 같은 주소 대표 매물의 이미지를 붙인다. 대표 매물은 한 번에 조회한다.
+    private List<ReviewSearchResponse> toReviewSearchResponse(Map<String, List<RoomReview>> reviewHashMap) {
+        List<ReviewSearchResponse> responseDtoList = new ArrayList<>();
+        Map<String, AddressRoom> addressRoomMap = addressRoomResolver.resolve(reviewHashMap.keySet());
+
+        for (Map.Entry<String, List<RoomReview>> hashMap : reviewHashMap.entrySet()) {
+            responseDtoList.add(ReviewSearchResponse.of(hashMap.getValue(),getMainImageUrl(addressRoomMap.get(hashMap.getKey()))));
         }
 
         return responseDtoList;
     }
+
+    // 같은 주소 매물이 없으면 빈 문자열
+    private String getMainImageUrl(AddressRoom addressRoom) {
+        if (addressRoom == null) {
+            return "";
+        }
+
+        String imgUrl = addressRoom.getImgUrl();
+
+        if (imgUrl == null) {
+            throw new ImageNotFoundException(addressRoom.getRoomId());
+        }
+
+        return imgUrl;
+    }
 }
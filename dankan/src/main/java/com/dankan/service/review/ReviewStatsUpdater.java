@@ -0,0 +1,134 @@
+package com.dankan.service.review;
+
+import com.dankan.domain.ReviewHistogram;
+import com.dankan.domain.ReviewRankBucket;
+import com.dankan.domain.RoomReview;
+import com.dankan.enum_converter.ReviewRateItemEnum;
+import com.dankan.repository.ReviewAggregateRepository;
+import com.dankan.repository.ReviewHistogramRepository;
+import com.dankan.repository.ReviewRankBucketRepository;
+import com.dankan.vo.ReviewRankState;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 세부 별점 분포(review_histogram)와 동별 평균 별점 분포(review_rank_bucket) 갱신
+ * 후기 작성, 삭제 트랜잭션 안에서 review_aggregate 를 고친 직후에 호출한다.
+ * review_aggregate 행 잠금을 잡은 상태이므로 같은 주소의 칸 이동이 겹치지 않는다.
+ */
+@Slf4j
+public class ReviewStatsUpdater {
+    private final ReviewAggregateRepository reviewAggregateRepository;
+    private final ReviewHistogramRepository reviewHistogramRepository;
+    private final ReviewRankBucketRepository reviewRankBucketRepository;
+
+    public ReviewStatsUpdater(ReviewAggregateRepository reviewAggregateRepository,
+                              ReviewHistogramRepository reviewHistogramRepository,
+                              ReviewRankBucketRepository reviewRankBucketRepository) {
+        this.reviewAggregateRepository = reviewAggregateRepository;
+        this.reviewHistogramRepository = reviewHistogramRepository;
+        this.reviewRankBucketRepository = reviewRankBucketRepository;
+    }
+
+    public void add(RoomReview roomReview) {
+        addCounts(roomReview, 1L);
+        moveRankBucket(roomReview.getAddress());
+    }
+
+    /**
+     * review_aggregate 에서 뺀 뒤, 빈 행을 지우기 전에 호출한다.
+     */
+    public void remove(RoomReview roomReview) {
+        addCounts(roomReview, -1L);
+        moveRankBucket(roomReview.getAddress());
+    }
+
+    // 동 안에서 평균 별점이 있는 주소 수
+    static long countAddresses(List<ReviewRankBucket> rankBucketList) {
+        long total = 0;
+
+        for (ReviewRankBucket rankBucket : rankBucketList) {
+            total += rankBucket.getAddressCount();
+        }
+
+        return total;
+    }
+
+    /**
+     * 동 안에서 평균 별점이 rateBucket 보다 낮은 주소 비율(%, 소수 첫째 자리), 같은 칸은 절반으로 센다.
+     * 칸이 없거나 동에 주소가 없으면 null.
+     */
+    static Double percentileRank(Long rateBucket, List<ReviewRankBucket> rankBucketList) {
+        long total = countAddresses(rankBucketList);
+
+        if (rateBucket == null || total <= 0) {
+            return null;
+        }
+
+        long below = 0;
+        long same = 0;
+
+        for (ReviewRankBucket rankBucket : rankBucketList) {
+            if (rankBucket.getRateBucket() < rateBucket) {
+                below += rankBucket.getAddressCount();
+            } else if (rankBucket.getRateBucket().equals(rateBucket)) {
+                same += rankBucket.getAddressCount();
+            }
+        }
+
+        return Math.round((below + same / 2.0) / total * 1000) / 10.0;
+    }
+
+    private void addCounts(RoomReview roomReview, Long delta) {
+        Long dongCode = roomReview.getRegionCode() == null ? null : roomReview.getRegionCode().getDongCode();
+
+        for (ReviewRateItemEnum item : ReviewRateItemEnum.values()) {
+            Long[] counts = {0L, 0L, 0L, 0L, 0L};
+            counts[ReviewHistogram.toBucket(item.getRate(roomReview)) - ReviewHistogram.MIN_RATE] = delta;
+
+            addCounts(ReviewHistogram.SCOPE_ADDRESS, roomReview.getAddress(), item, counts);
+
+            if (dongCode != null) {
+                addCounts(ReviewHistogram.SCOPE_DONG, dongCode.toString(), item, counts);
+            }
+        }
+    }
+
+    private void addCounts(String scopeType, String scopeKey, ReviewRateItemEnum item, Long[] counts) {
+        reviewHistogramRepository.addCounts(scopeType, scopeKey, item.getValue(),
+                counts[0], counts[1], counts[2], counts[3], counts[4]);
+    }
+
+    // 평균이 바뀐 주소를 동별 분포의 새 칸으로 옮긴다. 후기가 모두 지워진 주소는 분포에서 뺀다.
+    private void moveRankBucket(String address) {
+        ReviewRankState state = reviewAggregateRepository.findRankState(address).orElse(null);
+
+        if (state == null) {
+            return;
+        }
+
+        boolean isEmpty = state.getReviewCount() <= 0;
+        Long rateBucket = isEmpty || state.getDongCode() == null ? null : ReviewRankBucket.toRateBucket(state.getAvgRateMilli());
+
+        if (isEmpty) {
+            reviewHistogramRepository.deleteByScope(ReviewHistogram.SCOPE_ADDRESS, address);
+        }
+
+        if (Objects.equals(rateBucket, state.getRateBucket())) {
+            return;
+        }
+
+        // 동은 처음 정해진 뒤 바뀌지 않으므로 이전 칸도 같은 동에 있다.
+        if (state.getRateBucket() != null) {
+            reviewRankBucketRepository.addCount(state.getDongCode(), state.getRateBucket(), -1L);
+        }
+
+        if (rateBucket != null) {
+            reviewRankBucketRepository.addCount(state.getDongCode(), rateBucket, 1L);
+        }
+
+        reviewAggregateRepository.updateRateBucket(address, rateBucket);
+    }
+}
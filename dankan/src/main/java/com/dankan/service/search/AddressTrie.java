@@ -0,0 +1,229 @@
+package com.dankan.service.search;
+
+import java.util.*;
+
+/**
+ * 검색 키 -> term id 압축 prefix 트라이 (radix trie)
+ * 노드마다 하위 term 상위 CACHE_SIZE 개를 캐시하고, 키가 바뀌거나 점수가 바뀌면 경로의 캐시를 지운다.
+ * 동기화는 호출 측(AutocompleteServiceImpl)에서 한다.
+ */
+class AddressTrie {
+    static final int CACHE_SIZE = 20;
+
+    private static class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>();
+        private Set<Integer> termIds;
+        private volatile int[] top;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Node root = new Node("");
+
+    void insert(String key, int termId) {
+        Node node = root;
+        int index = 0;
+        node.top = null;
+
+        while (index < key.length()) {
+            Node child = node.children.get(key.charAt(index));
+
+            if (child == null) {
+                child = new Node(key.substring(index));
+                node.children.put(key.charAt(index), child);
+                node = child;
+                break;
+            }
+
+            int common = commonPrefix(child.label, key, index);
+
+            if (common < child.label.length()) { // 간선을 공통 부분에서 나눈다.
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+
+            node = child;
+            node.top = null;
+            index += common;
+        }
+
+        if (node.termIds == null) {
+            node.termIds = new HashSet<>();
+        }
+
+        node.termIds.add(termId);
+        node.top = null;
+    }
+
+    void remove(String key, int termId) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int index = 0;
+
+        path.push(node);
+
+        while (index < key.length()) {
+            Node child = node.children.get(key.charAt(index));
+
+            if (child == null || !key.startsWith(child.label, index)) {
+                return;
+            }
+
+            node = child;
+            index += child.label.length();
+            path.push(node);
+        }
+
+        if (node.termIds != null) {
+            node.termIds.remove(termId);
+
+            if (node.termIds.isEmpty()) {
+                node.termIds = null;
+            }
+        }
+
+        // 빈 잎 노드는 정리하고 경로의 캐시를 지운다.
+        Node child = null;
+
+        for (Node current : path) {
+            current.top = null;
+
+            if (child != null && child.termIds == null && child.children.isEmpty()) {
+                current.children.remove(child.label.charAt(0));
+            }
+
+            child = current;
+        }
+    }
+
+    /**
+     * 점수가 바뀐 term 의 키 경로 캐시를 지운다.
+     */
+    void invalidate(String key) {
+        Node node = root;
+        int index = 0;
+        node.top = null;
+
+        while (index < key.length()) {
+            Node child = node.children.get(key.charAt(index));
+
+            if (child == null || !key.startsWith(child.label, index)) {
+                return;
+            }
+
+            node = child;
+            node.top = null;
+            index += child.label.length();
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 키의 term 중 order 순으로 최대 size 개
+     */
+    List<Integer> search(String prefix, int size, Comparator<Integer> order) {
+        Node node = locate(prefix);
+
+        if (node == null) {
+            return new ArrayList<>();
+        }
+
+        int[] top = node.top;
+
+        if (top == null) {
+            top = collectTop(node, order);
+            node.top = top;
+        }
+
+        List<Integer> result = new ArrayList<>();
+
+        for (int i = 0; i < top.length && i < size; i++) {
+            result.add(top[i]);
+        }
+
+        return result;
+    }
+
+    private Node locate(String prefix) {
+        Node node = root;
+        int index = 0;
+
+        while (index < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(index));
+
+            if (child == null) {
+                return null;
+            }
+
+            String rest = prefix.substring(index);
+
+            if (child.label.startsWith(rest)) { // prefix 가 간선 중간에서 끝난다.
+                return child;
+            }
+
+            if (!rest.startsWith(child.label)) {
+                return null;
+            }
+
+            node = child;
+            index += child.label.length();
+        }
+
+        return node;
+    }
+
+    private int[] collectTop(Node node, Comparator<Integer> order) {
+        Set<Integer> termIds = new HashSet<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+
+            if (current.termIds != null) {
+                termIds.addAll(current.termIds);
+            }
+
+            for (Node child : current.children.values()) {
+                stack.push(child);
+            }
+        }
+
+        PriorityQueue<Integer> heap = new PriorityQueue<>(CACHE_SIZE + 1, order.reversed());
+
+        for (Integer termId : termIds) {
+            heap.add(termId);
+
+            if (heap.size() > CACHE_SIZE) {
+                heap.poll();
+            }
+        }
+
+        List<Integer> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+
+        int[] top = new int[sorted.size()];
+
+        for (int i = 0; i < top.length; i++) {
+            top[i] = sorted.get(i);
+        }
+
+        return top;
+    }
+
+    private int commonPrefix(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+
+        return i;
+    }
+}
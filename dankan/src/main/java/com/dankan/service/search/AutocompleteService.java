@@ -0,0 +1,15 @@
+package com.dankan.service.search;
+
+import com.dankan.domain.Room;
+import com.dankan.domain.RoomReview;
+import com.dankan.dto.response.search.AddressSuggestResponseDto;
+
+import java.util.List;
+
+public interface AutocompleteService {
+    List<AddressSuggestResponseDto> suggestAddress(String keyword, Integer size);
+    void addRoom(Room room);
+    void removeRoom(Room room);
+    void addReview(RoomReview roomReview);
+    void removeReview(RoomReview roomReview);
+}
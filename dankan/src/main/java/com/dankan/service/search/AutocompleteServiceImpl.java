@@ -0,0 +1,272 @@
+package com.dankan.service.search;
+
+import com.dankan.domain.Room;
+import com.dankan.domain.RoomReview;
+import com.dankan.domain.embedded.RoomAddress;
+import com.dankan.dto.response.search.AddressSuggestResponseDto;
+import com.dankan.repository.ReviewRepository;
+import com.dankan.repository.RoomRepository;
+import com.dankan.util.HangulUtil;
+import com.dankan.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 주소, 건물명, 지역(도 시 구 동) 자동완성
+ * 각 단어 위치부터 시작하는 접미어와 그 초성을 트라이 키로 넣어 "봉천", "ㅂㅊ" 처럼 중간 단어로도 찾는다.
+ * 매물 수 + 후기 수 순으로 정렬한다.
+ */
+@Slf4j
+public class AutocompleteServiceImpl implements AutocompleteService {
+    private static final int CHUNK_SIZE = 500;
+    private static final int DEFAULT_SIZE = 10;
+
+    static final String ADDRESS = "ADDRESS";
+    static final String BUILDING = "BUILDING";
+    static final String REGION = "REGION";
+
+    private static class Term {
+        private final int id;
+        private final String keyword;
+        private final String type;
+        private final List<String> keys;
+        private int listingCount;
+        private int reviewCount;
+
+        private Term(int id, String keyword, String type, List<String> keys) {
+            this.id = id;
+            this.keyword = keyword;
+            this.type = type;
+            this.keys = keys;
+        }
+
+        private int getScore() {
+            return listingCount + reviewCount;
+        }
+    }
+
+    private final RoomRepository roomRepository;
+    private final ReviewRepository reviewRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Comparator<Integer> order = (a, b) -> compare(a, b);
+
+    private AddressTrie trie = new AddressTrie();
+    private Map<String, Term> termMap = new HashMap<>();
+    private List<Term> terms = new ArrayList<>();
+
+    public AutocompleteServiceImpl(RoomRepository roomRepository, ReviewRepository reviewRepository) {
+        this.roomRepository = roomRepository;
+        this.reviewRepository = reviewRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+
+        try {
+            trie = new AddressTrie();
+            termMap = new HashMap<>();
+            terms = new ArrayList<>();
+
+            Long lastRoomId = Long.MIN_VALUE;
+
+            while (true) {
+                List<Room> roomList = roomRepository.findTradeableChunk(lastRoomId, CHUNK_SIZE);
+
+                if (roomList.isEmpty()) {
+                    break;
+                }
+
+                for (Room room : roomList) {
+                    updateRoom(room, 1);
+                }
+
+                lastRoomId = roomList.get(roomList.size() - 1).getRoomId();
+            }
+
+            Long lastReviewId = Long.MIN_VALUE;
+
+            while (true) {
+                List<RoomReview> reviewList = reviewRepository.findActiveChunk(lastReviewId, CHUNK_SIZE);
+
+                if (reviewList.isEmpty()) {
+                    break;
+                }
+
+                for (RoomReview roomReview : reviewList) {
+                    updateTerm(roomReview.getAddress(), ADDRESS, 0, 1);
+                }
+
+                lastReviewId = reviewList.get(reviewList.size() - 1).getReviewId();
+            }
+
+            log.info("address autocomplete rebuilt : {} terms, {}ms", termMap.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("address autocomplete rebuild failed", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<AddressSuggestResponseDto> suggestAddress(String keyword, Integer size) {
+        List<AddressSuggestResponseDto> responseDtoList = new ArrayList<>();
+        String prefix = normalize(keyword == null ? "" : keyword);
+        int limit = Math.min(size == null ? DEFAULT_SIZE : size, AddressTrie.CACHE_SIZE);
+
+        if (prefix.isEmpty()) {
+            return responseDtoList;
+        }
+
+        // 초성이 섞여 있으면 검색어 전체를 초성으로 바꿔 초성 키에서 찾는다.
+        if (HangulUtil.hasChosung(prefix)) {
+            prefix = HangulUtil.toChosung(prefix);
+        }
+
+        lock.readLock().lock();
+
+        try {
+            for (Integer termId : trie.search(prefix, limit, order)) {
+                Term term = terms.get(termId);
+                responseDtoList.add(AddressSuggestResponseDto.of(term.keyword, term.type, term.listingCount, term.reviewCount));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return responseDtoList;
+    }
+
+    @Override
+    public void addRoom(Room room) {
+        TransactionUtil.afterCommit(() -> write(() -> updateRoom(room, 1)));
+    }
+
+    @Override
+    public void removeRoom(Room room) {
+        TransactionUtil.afterCommit(() -> write(() -> updateRoom(room, -1)));
+    }
+
+    @Override
+    public void addReview(RoomReview roomReview) {
+        TransactionUtil.afterCommit(() -> write(() -> updateTerm(roomReview.getAddress(), ADDRESS, 0, 1)));
+    }
+
+    @Override
+    public void removeReview(RoomReview roomReview) {
+        TransactionUtil.afterCommit(() -> write(() -> updateTerm(roomReview.getAddress(), ADDRESS, 0, -1)));
+    }
+
+    private void write(Runnable runnable) {
+        lock.writeLock().lock();
+
+        try {
+            runnable.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void updateRoom(Room room, int delta) {
+        RoomAddress roomAddress = room.getRoomAddress();
+
+        updateTerm(roomAddress.getAddress(), ADDRESS, delta, 0);
+        updateTerm(roomAddress.getBuildingName(), BUILDING, delta, 0);
+        // 시, 구가 없는 주소는 빈 단계를 건너뛴다.
+        String region = String.join(" ", roomAddress.getDoo(), roomAddress.getSi(), roomAddress.getGu(), roomAddress.getDong())
+                .trim().replaceAll("\\s+", " ");
+
+        updateTerm(region, REGION, delta, 0);
+    }
+
+    private void updateTerm(String keyword, String type, int listingDelta, int reviewDelta) {
+        if (keyword == null || keyword.isBlank()) {
+            return;
+        }
+
+        keyword = keyword.trim();
+        String termKey = type + ":" + keyword;
+        Term term = termMap.get(termKey);
+
+        if (term == null) {
+            if (listingDelta < 0 || reviewDelta < 0) {
+                return;
+            }
+
+            // 트라이에서 빠진 term 도 termMap 에 남겨 두고 다시 들어오면 같은 id 를 쓴다.
+            term = new Term(terms.size(), keyword, type, getKeys(keyword));
+            terms.add(term);
+            termMap.put(termKey, term);
+        }
+
+        boolean wasIndexed = term.getScore() > 0;
+
+        term.listingCount = Math.max(0, term.listingCount + listingDelta);
+        term.reviewCount = Math.max(0, term.reviewCount + reviewDelta);
+
+        if (!wasIndexed && term.getScore() > 0) {
+            for (String key : term.keys) {
+                trie.insert(key, term.id);
+            }
+
+            return;
+        }
+
+        if (wasIndexed && term.getScore() == 0) { // 매물, 후기가 모두 없어진 term 은 트라이에서 뺀다.
+            for (String key : term.keys) {
+                trie.remove(key, term.id);
+            }
+
+            return;
+        }
+
+        for (String key : term.keys) {
+            trie.invalidate(key);
+        }
+    }
+
+    // 단어 위치마다 접미어 키와 초성 키를 만든다.
+    private List<String> getKeys(String keyword) {
+        Set<String> keys = new LinkedHashSet<>();
+        String[] words = keyword.split("\\s+");
+
+        for (int i = 0; i < words.length; i++) {
+            String suffix = normalize(String.join("", Arrays.copyOfRange(words, i, words.length)));
+
+            if (suffix.isEmpty()) {
+                continue;
+            }
+
+            keys.add(suffix);
+            keys.add(HangulUtil.toChosung(suffix));
+        }
+
+        return new ArrayList<>(keys);
+    }
+
+    private String normalize(String text) {
+        return text.replaceAll("\\s+", "").toLowerCase();
+    }
+
+    // 점수 내림차순, 같으면 짧은 키워드 먼저
+    private int compare(Integer a, Integer b) {
+        Term termA = terms.get(a);
+        Term termB = terms.get(b);
+        int result = Integer.compare(termB.getScore(), termA.getScore());
+
+        if (result != 0) {
+            return result;
+        }
+
+        result = Integer.compare(termA.keyword.length(), termB.keyword.length());
+
+        return result != 0 ? result : termA.keyword.compareTo(termB.keyword);
+    }
+}
@@ -0,0 +1,61 @@
+package com.dankan.service.user;
+
+import com.dankan.repository.UserRepository;
+import com.dankan.util.NearCache;
+import com.dankan.vo.UserProfile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * user id -> 작성자 정보(닉네임, 프로필 이미지) 캐시
+ * 한 페이지의 작성자를 한 번에 채우고, 닉네임, 프로필 이미지 변경 시 커밋 후 무효화한다.
+ */
+public class UserProfileCache {
+    private final UserRepository userRepository;
+    private final NearCache<UserProfile> cache;
+
+    public UserProfileCache(StringRedisTemplate stringRedisTemplate,
+                            UserRepository userRepository,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = NearCache.<UserProfile>builder()
+                .name("user.profile.cache")
+                .keyPrefix("user:profile:")
+                .channel("user:profile:invalidate")
+                .codec(NearCache.jsonCodec(new ObjectMapper(), UserProfile.class))
+                .ttl(Duration.ofHours(3))
+                .maxSize(10_000)
+                .localTtlMillis(60_000L)
+                .stringRedisTemplate(stringRedisTemplate)
+                .redisMessageListenerContainer(redisMessageListenerContainer)
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+
+    /**
+     * user id -> 작성자 정보. 없는 사용자는 빠진다.
+     */
+    public Map<Long, UserProfile> findProfiles(Collection<Long> userIds) {
+        return cache.getAll(userIds, this::loadProfiles);
+    }
+
+    public void evict(Long userId) {
+        cache.evict(userId);
+    }
+
+    private Map<Long, UserProfile> loadProfiles(List<Long> userIds) {
+        Map<Long, UserProfile> profileMap = new HashMap<>();
+
+        for (UserProfile profile : userRepository.findProfiles(userIds)) {
+            profileMap.put(profile.getUserId(), profile);
+        }
+
+        return profileMap;
+    }
+}
@@ -30,11 +30,14 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final TokenRepository tokenRepository;
     private final DateLogRepository dateLogRepository;
+    private final UserProfileCache userProfileCache;
 
-    public UserServiceImpl(UserRepository userRepository, TokenRepository tokenRepository, final DateLogRepository dateLogRepository) {
+    public UserServiceImpl(UserRepository userRepository, TokenRepository tokenRepository, final DateLogRepository dateLogRepository
+            , final UserProfileCache userProfileCache) {
         this.userRepository = userRepository;
         this.tokenRepository = tokenRepository;
         this.dateLogRepository = dateLogRepository;
+        this.userProfileCache = userProfileCache;
     }
 
     @Override
@@ -66,6 +69,7 @@ public class UserServiceImpl implements UserService {
             user.setNickname(name);
 
             userRepository.save(user);
+            userProfileCache.evict(user.getUserId());
 
             /**
              * TODO: spring boot event로 변경
@@ -84,6 +88,7 @@ public class UserServiceImpl implements UserService {
         user.setProfileImg(imgUrl);
 
         userRepository.save(user);
+        userProfileCache.evict(user.getUserId());
 
         /**
          * TODO: spring boot event로 변경
@@ -210,6 +215,7 @@ public class UserServiceImpl implements UserService {
         );
         user.setNickname("알 수 없음");
         userRepository.save(user);
+        userProfileCache.evict(user.getUserId());
 
         return userRepository.findName(id).orElseThrow();
     }
@@ -222,6 +228,7 @@ public class UserServiceImpl implements UserService {
         );
         user.setNickname("알 수 없음");
         userRepository.save(user);
+        userProfileCache.evict(user.getUserId());
 
         return userRepository.findName(nickname).orElseThrow();
     }
@@ -0,0 +1,74 @@
+package com.dankan.util;
+
+import com.dankan.enum_converter.RegionLevelEnum;
+import com.dankan.vo.AddressParts;
+
+import java.util.Arrays;
+
+/**
+ * 주소 문자열을 도 / 시 / 구 / 동 / 나머지(건물명)으로 나눈다.
+ * 첫 단어는 도(특별시, 광역시)이고, 이후 단어는 접미어로 단계를 정한다.
+ * 단계가 앞 단어보다 뒤로 가지 않으면 거기서부터를 건물명으로 본다. (세종시, 군 단위, 도로명 주소처럼 단어 수가 달라도 동작)
+ */
+public class AddressParser {
+    private AddressParser() {
+    }
+
+    /**
+     * 주소 비교용 키. 앞뒤 공백을 없애고 연속 공백을 하나로 줄인다.
+     */
+    public static String toKey(String address) {
+        return address == null ? "" : address.trim().replaceAll("\\s+", " ");
+    }
+
+    public static AddressParts parse(String address) {
+        String[] words = address == null ? new String[0] : address.trim().split("\\s+");
+        String[] parts = {"", "", "", ""};
+
+        if (words.length == 0 || words[0].isEmpty()) {
+            return new AddressParts("", "", "", "", "");
+        }
+
+        parts[0] = words[0];
+
+        int lastLevel = 0;
+        int index = 1;
+
+        for (; index < words.length; index++) {
+            RegionLevelEnum level = getLevel(words[index]);
+
+            if (level == null || level.ordinal() <= lastLevel) {
+                break;
+            }
+
+            parts[level.ordinal()] = words[index];
+            lastLevel = level.ordinal();
+        }
+
+        String buildingName = String.join(" ", Arrays.copyOfRange(words, index, words.length));
+
+        return new AddressParts(parts[0], parts[1], parts[2], parts[3], buildingName);
+    }
+
+    private static RegionLevelEnum getLevel(String word) {
+        if (word.length() < 2) {
+            return null;
+        }
+
+        switch (word.charAt(word.length() - 1)) {
+            case '시':
+            case '군':
+                return RegionLevelEnum.SI;
+            case '구':
+                return RegionLevelEnum.GU;
+            case '동':
+            case '읍':
+            case '면':
+            case '가':
+            case '리':
+                return RegionLevelEnum.DONG;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.dankan.util;
+
+import com.dankan.enum_converter.BitMaskType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * BitMaskType enum 의 이름, 코드 문자열과 비트마스크 변환
+ */
+public class BitMaskUtil {
+    private BitMaskUtil() {
+    }
+
+    /**
+     * 공백으로 구분된 이름 목록 -> 비트마스크 ex) OptionTypeEnum 의 "에어컨 냉장고" -> 0b11
+     */
+    public static <E extends Enum<E> & BitMaskType> long toMask(Class<E> type, String inputTypes,
+                                                                Function<String, ? extends RuntimeException> invalid) {
+        long mask = 0L;
+
+        for (String inputType : inputTypes.split(" ")) {
+            if (inputType.isBlank()) {
+                continue;
+            }
+
+            mask |= findByName(type, inputType, invalid).getMask();
+        }
+
+        return mask;
+    }
+
+    /**
+     * options 테이블에 저장된 코드 문자열 -> 비트마스크 ex) OptionTypeEnum 의 "01-1" (에어컨, 냉장고, 싱크대) -> 0b10000000011
+     */
+    public static <E extends Enum<E> & BitMaskType> long toMaskByValues(Class<E> type, String inputValues,
+                                                                        Function<String, ? extends RuntimeException> invalid) {
+        long mask = 0L;
+
+        for (String inputValue : splitValues(inputValues)) {
+            mask |= findByValue(type, inputValue, invalid).getMask();
+        }
+
+        return mask;
+    }
+
+    public static boolean hasAll(long mask, long required) {
+        return (mask & required) == required;
+    }
+
+    /**
+     * 코드 문자열을 한 글자씩 나눈다. 음수 코드("-1")는 부호와 함께 하나로 본다.
+     */
+    public static List<String> splitValues(String inputValues) {
+        List<String> values = new ArrayList<>();
+
+        for (int i = 0; i < inputValues.length(); i++) {
+            String value = String.valueOf(inputValues.charAt(i));
+
+            if (value.equals("-") && i + 1 < inputValues.length()) {
+                value += inputValues.charAt(++i);
+            }
+
+            values.add(value);
+        }
+
+        return values;
+    }
+
+    private static <E extends Enum<E> & BitMaskType> E findByName(Class<E> type, String inputType,
+                                                                  Function<String, ? extends RuntimeException> invalid) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equals(inputType)) {
+                return constant;
+            }
+        }
+
+        throw invalid.apply(inputType);
+    }
+
+    private static <E extends Enum<E> & BitMaskType> E findByValue(Class<E> type, String inputValue,
+                                                                   Function<String, ? extends RuntimeException> invalid) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.getValue().equals(inputValue)) {
+                return constant;
+            }
+        }
+
+        throw invalid.apply(inputValue);
+    }
+}
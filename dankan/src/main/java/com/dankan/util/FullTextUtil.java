@@ -0,0 +1,50 @@
+package com.dankan.util;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색어 변환
+ * ngram_token_size(기본 2) 보다 짧은 검색어는 인덱스로 찾을 수 없으므로 LIKE 로 조회한다.
+ */
+public class FullTextUtil {
+    public static final int NGRAM_TOKEN_SIZE = 2;
+
+    // boolean mode 연산자
+    private static final String OPERATORS = "[+\\-<>()~*\"@]";
+
+    private FullTextUtil() {
+    }
+
+    public static boolean isSearchable(String keyword) {
+        return keyword != null && clean(keyword).replace(" ", "").length() >= NGRAM_TOKEN_SIZE;
+    }
+
+    /**
+     * 검색어를 boolean mode 구문 검색("...")으로 바꾼다. ngram 이 이어져야 하므로 부분 문자열 검색과 같다.
+     */
+    public static String toPhrase(String keyword) {
+        return "\"" + clean(keyword) + "\"";
+    }
+
+    /**
+     * DB 밖(메모리 인덱스)에서 쓰는 같은 조건. 두 글자 이상이면 연산자와 공백을 정리한 뒤 구문 검색처럼 부분 문자열로,
+     * 짧으면 LIKE 처럼 그대로 비교한다. 기준은 MySQL 의 결과이고, 이 비교는 그 정규화를 따른다.
+     */
+    public static boolean matches(String text, String keyword) {
+        if (keyword == null) {
+            return true;
+        }
+
+        if (text == null) {
+            return false;
+        }
+
+        if (!isSearchable(keyword)) {
+            return text.contains(keyword);
+        }
+
+        return clean(text).toLowerCase().contains(clean(keyword).toLowerCase());
+    }
+
+    private static String clean(String keyword) {
+        return keyword.replaceAll(OPERATORS, " ").trim().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,137 @@
+package com.dankan.util;
+
+import com.dankan.vo.GeoBounds;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위경도 geohash 인코딩, 영역을 덮는 geohash 셀 계산, 거리 계산
+ */
+public class GeoUtil {
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS = 6_371_000.0;
+
+    // room.geohash 컬럼 길이 (약 150m x 150m)
+    public static final int GEOHASH_LENGTH = 7;
+
+    private GeoUtil() {
+    }
+
+    public static String encode(double latitude, double longitude, int length) {
+        return toBase32(encodeBits(latitude, longitude, length * 5), length);
+    }
+
+    /**
+     * 경도, 위도 순으로 번갈아 bits 개의 비트를 만든다. (geohash 와 같은 순서)
+     */
+    public static long encodeBits(double latitude, double longitude, int bits) {
+        double minLatitude = -90.0, maxLatitude = 90.0;
+        double minLongitude = -180.0, maxLongitude = 180.0;
+        long hash = 0L;
+
+        for (int i = 0; i < bits; i++) {
+            hash <<= 1;
+
+            if (i % 2 == 0) {
+                double mid = (minLongitude + maxLongitude) / 2;
+
+                if (longitude >= mid) {
+                    hash |= 1;
+                    minLongitude = mid;
+                } else {
+                    maxLongitude = mid;
+                }
+            } else {
+                double mid = (minLatitude + maxLatitude) / 2;
+
+                if (latitude >= mid) {
+                    hash |= 1;
+                    minLatitude = mid;
+                } else {
+                    maxLatitude = mid;
+                }
+            }
+        }
+
+        return hash;
+    }
+
+    /**
+     * 영역을 덮는 bits 정밀도의 셀 목록. 셀 수가 maxCells 를 넘으면 null
+     */
+    public static List<Long> coverBits(GeoBounds bounds, int bits, int maxCells) {
+        double cellWidth = 360.0 / (1L << ((bits + 1) / 2));
+        double cellHeight = 180.0 / (1L << (bits / 2));
+
+        long columns = (long) Math.floor((bounds.getMaxLongitude() + 180.0) / cellWidth)
+                - (long) Math.floor((bounds.getMinLongitude() + 180.0) / cellWidth) + 1;
+        long rows = (long) Math.floor((bounds.getMaxLatitude() + 90.0) / cellHeight)
+                - (long) Math.floor((bounds.getMinLatitude() + 90.0) / cellHeight) + 1;
+
+        if (columns * rows > maxCells) {
+            return null;
+        }
+
+        List<Long> cells = new ArrayList<>();
+        double startLatitude = Math.floor((bounds.getMinLatitude() + 90.0) / cellHeight) * cellHeight - 90.0;
+        double startLongitude = Math.floor((bounds.getMinLongitude() + 180.0) / cellWidth) * cellWidth - 180.0;
+
+        // 셀 중심점으로 인코딩해서 경계값 오차를 피한다.
+        for (long row = 0; row < rows; row++) {
+            double latitude = Math.min(startLatitude + (row + 0.5) * cellHeight, 90.0 - cellHeight / 2);
+
+            for (long column = 0; column < columns; column++) {
+                double longitude = Math.min(startLongitude + (column + 0.5) * cellWidth, 180.0 - cellWidth / 2);
+                cells.add(encodeBits(latitude, longitude, bits));
+            }
+        }
+
+        return cells;
+    }
+
+    /**
+     * 영역을 maxCells 개 이하로 덮을 수 있는 가장 긴 geohash prefix 목록
+     */
+    public static List<String> cover(GeoBounds bounds, int maxLength, int maxCells) {
+        for (int length = maxLength; length > 0; length--) {
+            List<Long> cells = coverBits(bounds, length * 5, maxCells);
+
+            if (cells != null) {
+                List<String> prefixes = new ArrayList<>();
+
+                for (Long cell : cells) {
+                    prefixes.add(toBase32(cell, length));
+                }
+
+                return prefixes;
+            }
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * 두 지점 사이의 거리 (m, haversine)
+     */
+    public static double distance(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLatitude = Math.toRadians(latitude2 - latitude1);
+        double dLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+
+        return 2 * EARTH_RADIUS * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private static String toBase32(long hash, int length) {
+        char[] chars = new char[length];
+
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = BASE32.charAt((int) (hash & 31));
+            hash >>>= 5;
+        }
+
+        return new String(chars);
+    }
+}
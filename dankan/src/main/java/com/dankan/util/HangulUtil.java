@@ -0,0 +1,45 @@
+package com.dankan.util;
+
+/**
+ * 한글 초성 변환
+ */
+public class HangulUtil {
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char SYLLABLE_START = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 완성형 한글은 초성으로 바꾸고 나머지 문자는 그대로 둔다. ("봉천동" -> "ㅂㅊㄷ")
+     */
+    public static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+
+        for (char c : text.toCharArray()) {
+            if (c >= SYLLABLE_START && c <= SYLLABLE_END) {
+                builder.append(CHOSUNG[(c - SYLLABLE_START) / SYLLABLES_PER_CHOSUNG]);
+            } else {
+                builder.append(c);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    // 자음(ㄱ ~ ㅎ)이 하나라도 있으면 초성 검색어로 본다.
+    public static boolean hasChosung(String text) {
+        for (char c : text.toCharArray()) {
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,322 @@
+package com.dankan.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Long 키 near cache. 로컬 LRU(짧은 TTL) -> Redis(MGET) -> loader(DB) 순으로 한 번에 채운다.
+ * 무효화는 커밋 후 Redis 키를 잠깐 빈 값(tombstone)으로 바꾸고 pub/sub 으로 다른 서버의 로컬 캐시를 버린다.
+ * keyPrefix 가 없으면 Redis 에는 값을 두지 않고 로컬 캐시와 무효화 알림만 쓴다.
+ */
+@Slf4j
+public class NearCache<V> implements MessageListener {
+    private static final String TOMBSTONE = "";
+    private static final Duration TOMBSTONE_TTL = Duration.ofSeconds(5);
+
+    /**
+     * Redis 에 넣을 문자열 변환. 빈 문자열은 tombstone 이므로 쓰지 않는다.
+     */
+    public interface Codec<V> {
+        String encode(V value) throws IOException;
+
+        V decode(String value) throws IOException;
+    }
+
+    public static final Codec<String> STRING_CODEC = new Codec<String>() {
+        @Override
+        public String encode(String value) {
+            return value;
+        }
+
+        @Override
+        public String decode(String value) {
+            return value;
+        }
+    };
+
+    public static <V> Codec<V> jsonCodec(ObjectMapper objectMapper, Class<V> type) {
+        return new Codec<V>() {
+            @Override
+            public String encode(V value) throws IOException {
+                return objectMapper.writeValueAsString(value);
+            }
+
+            @Override
+            public V decode(String value) throws IOException {
+                return objectMapper.readValue(value, type);
+            }
+        };
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private final String name;
+    private final String keyPrefix;
+    private final String channel;
+    private final Codec<V> codec;
+    private final Duration ttl;
+    private final long localTtlMillis;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final String instanceId = UUID.randomUUID().toString();
+    // 키별 무효화 횟수. 읽는 동안 그 키가 무효화되었으면 로컬 캐시에 넣지 않는다.
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    private final Map<Long, Entry<V>> entries;
+
+    @Builder
+    private NearCache(String name,
+                      String keyPrefix,
+                      String channel,
+                      Codec<V> codec,
+                      Duration ttl,
+                      int maxSize,
+                      long localTtlMillis,
+                      StringRedisTemplate stringRedisTemplate,
+                      RedisMessageListenerContainer redisMessageListenerContainer,
+                      MeterRegistry meterRegistry) {
+        this.name = name;
+        this.keyPrefix = keyPrefix;
+        this.channel = channel;
+        this.codec = codec;
+        this.ttl = ttl;
+        this.localTtlMillis = localTtlMillis;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.hitCounter = meterRegistry.counter(name, "result", "hit");
+        this.missCounter = meterRegistry.counter(name, "result", "miss");
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<Long, Entry<V>>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    public long getVersion(Long key) {
+        return versions.getOrDefault(key, 0L);
+    }
+
+    /**
+     * 캐시된 값, 없으면 null. 돌려준 객체는 공유되므로 고치지 않는다.
+     */
+    public V get(Long key) {
+        return getAll(Collections.singletonList(key), null).get(key);
+    }
+
+    /**
+     * key -> 값. 캐시에 없는 키는 loader 로 한 번에 읽어 채우고, loader 가 돌려주지 않은 키는 빠진다.
+     * loader 가 null 이면 캐시에 있는 값만 돌려준다.
+     */
+    public Map<Long, V> getAll(Collection<Long> keys, Function<List<Long>, Map<Long, V>> loader) {
+        Map<Long, V> valueMap = new HashMap<>();
+        Set<Long> uniqueKeys = new LinkedHashSet<>(keys);
+        Map<Long, Long> loadedVersions = new HashMap<>();
+        long now = System.currentTimeMillis();
+        List<Long> localMisses = new ArrayList<>();
+
+        for (Long key : uniqueKeys) {
+            Entry<V> entry = entries.get(key);
+
+            if (entry != null && now - entry.loadedAt <= localTtlMillis) {
+                valueMap.put(key, entry.value);
+            } else {
+                localMisses.add(key);
+                loadedVersions.put(key, getVersion(key));
+            }
+        }
+
+        if (localMisses.isEmpty()) {
+            hitCounter.increment(uniqueKeys.size());
+            return valueMap;
+        }
+
+        List<Long> misses = new ArrayList<>();
+        Set<Long> tombstones = new HashSet<>();
+
+        if (keyPrefix == null) {
+            misses = localMisses;
+        } else {
+            try {
+                List<String> redisKeys = new ArrayList<>();
+
+                for (Long key : localMisses) {
+                    redisKeys.add(keyPrefix + key);
+                }
+
+                List<String> values = stringRedisTemplate.opsForValue().multiGet(redisKeys);
+
+                for (int i = 0; i < localMisses.size(); i++) {
+                    Long key = localMisses.get(i);
+                    String value = values == null ? null : values.get(i);
+
+                    if (value == null || TOMBSTONE.equals(value)) {
+                        misses.add(key);
+
+                        if (TOMBSTONE.equals(value)) {
+                            tombstones.add(key);
+                        }
+                    } else {
+                        V decoded = codec.decode(value);
+                        valueMap.put(key, decoded);
+                        putLocal(key, decoded, loadedVersions.get(key));
+                    }
+                }
+            } catch (DataAccessException | IOException e) {
+                log.warn("{} read failed : {}", name, e.getMessage());
+                misses = localMisses;
+                tombstones.clear();
+            }
+        }
+
+        hitCounter.increment(uniqueKeys.size() - misses.size());
+        missCounter.increment(misses.size());
+
+        if (misses.isEmpty() || loader == null) {
+            return valueMap;
+        }
+
+        Map<Long, V> loadedMap = new HashMap<>(loader.apply(misses));
+        valueMap.putAll(loadedMap);
+
+        for (Map.Entry<Long, V> loaded : loadedMap.entrySet()) {
+            putLocal(loaded.getKey(), loaded.getValue(), loadedVersions.get(loaded.getKey()));
+        }
+
+        loadedMap.keySet().removeAll(tombstones);
+        putRedis(loadedMap);
+
+        return valueMap;
+    }
+
+    /**
+     * 캐시 밖에서 만든 값을 넣는다. loadedVersion 이후 무효화가 있었으면 로컬에 넣지 않고,
+     * tombstone 이 있으면 Redis 에도 넣지 않는다.
+     */
+    public void put(Long key, V value, long loadedVersion) {
+        putLocal(key, value, loadedVersion);
+        putRedis(Collections.singletonMap(key, value));
+    }
+
+    /**
+     * 이 서버의 항목은 바로 고치고 다른 서버에는 무효화를 알린다. Redis 에 둔 값은 tombstone 으로 바꾼다.
+     */
+    public void update(Long key, UnaryOperator<V> updater) {
+        synchronized (entries) {
+            versions.merge(key, 1L, Long::sum);
+            Entry<V> entry = entries.get(key);
+
+            if (entry != null) {
+                entries.put(key, new Entry<>(updater.apply(entry.value), entry.loadedAt));
+            }
+        }
+
+        publish(key);
+    }
+
+    public void evict(Long key) {
+        // 롤백되면 지울 필요가 없고, 커밋 전에 지우면 변경 전 값이 다시 들어갈 수 있다.
+        TransactionUtil.afterCommit(() -> {
+            evictLocal(key);
+            publish(key);
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+
+        // 보낸 서버는 이미 로컬 캐시를 고쳤다.
+        if (body.length != 2 || instanceId.equals(body[0])) {
+            return;
+        }
+
+        evictLocal(Long.parseLong(body[1]));
+    }
+
+    private void publish(Long key) {
+        try {
+            if (keyPrefix != null) {
+                stringRedisTemplate.opsForValue().set(keyPrefix + key, TOMBSTONE, TOMBSTONE_TTL);
+            }
+
+            stringRedisTemplate.convertAndSend(channel, instanceId + ":" + key);
+        } catch (DataAccessException e) {
+            log.warn("{} invalidation publish failed : {}", name, e.getMessage());
+        }
+    }
+
+    // tombstone 을 덮어쓰지 않도록 SET NX 로 넣는다.
+    private void putRedis(Map<Long, V> valueMap) {
+        if (keyPrefix == null || valueMap.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, String> encodedMap = new HashMap<>();
+
+            for (Map.Entry<Long, V> value : valueMap.entrySet()) {
+                encodedMap.put(keyPrefix + value.getKey(), codec.encode(value.getValue()));
+            }
+
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+                for (Map.Entry<String, String> value : encodedMap.entrySet()) {
+                    stringConnection.set(value.getKey(), value.getValue(),
+                            Expiration.from(ttl), RedisStringCommands.SetOption.SET_IF_ABSENT);
+                }
+
+                return null;
+            });
+        } catch (DataAccessException | IOException e) {
+            log.warn("{} write failed : {}", name, e.getMessage());
+        }
+    }
+
+    private void putLocal(Long key, V value, long loadedVersion) {
+        synchronized (entries) {
+            if (getVersion(key) == loadedVersion) {
+                entries.put(key, new Entry<>(value, System.currentTimeMillis()));
+            }
+        }
+    }
+
+    private void evictLocal(Long key) {
+        synchronized (entries) {
+            versions.merge(key, 1L, Long::sum);
+            entries.remove(key);
+        }
+    }
+}
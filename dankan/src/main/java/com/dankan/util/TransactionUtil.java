@@ -0,0 +1,27 @@
+package com.dankan.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 인덱스, 캐시 등 DB 밖의 상태를 커밋 뒤에 반영할 때 사용
+ */
+public class TransactionUtil {
+    private TransactionUtil() {
+    }
+
+    // 트랜잭션 밖에서 호출하면 바로 실행한다.
+    public static void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
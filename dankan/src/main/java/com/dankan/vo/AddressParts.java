@@ -0,0 +1,17 @@
+package com.dankan.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주소를 행정구역 단계별로 나눈 결과. 없는 단계는 빈 문자열
+ */
+@Getter
+@AllArgsConstructor
+public class AddressParts {
+    private final String doo;
+    private final String si;
+    private final String gu;
+    private final String dong;
+    private final String buildingName;
+}
@@ -0,0 +1,120 @@
+package com.dankan.vo;
+
+import com.dankan.exception.field.InvalidFieldException;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.beans.PropertyDescriptor;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 응답 필드 선택 (fields=postId,price,imgUrl)
+ * 지정하지 않으면 전체 필드이고, 지정하면 서비스는 요청되지 않은 필드용 조회와 변환을 건너뛴다.
+ * 응답에서는 apply 로 null 로 비우거나(null 필드를 내보내지 않는 DTO), toJson 의 필터로 뺀다. (@JsonFilter DTO)
+ * 지정하지 않은 요청의 응답 모양은 바뀌지 않는다.
+ */
+public class FieldSet {
+    public static final String FILTER_ID = "fieldSet";
+
+    private static final FieldSet ALL = new FieldSet(null, null);
+
+    private final Set<String> fields;
+    private final Class<?> type;
+
+    private FieldSet(Set<String> fields, Class<?> type) {
+        this.fields = fields;
+        this.type = type;
+    }
+
+    public static FieldSet all() {
+        return ALL;
+    }
+
+    /**
+     * 쉼표로 구분한 필드 이름. type 의 프로퍼티가 아니면 InvalidFieldException
+     */
+    public static FieldSet parse(String fields, Class<?> type) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> fieldSet = new LinkedHashSet<>();
+
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+
+            if (name.isEmpty()) {
+                continue;
+            }
+
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, name);
+
+            if (descriptor == null || descriptor.getReadMethod() == null || "class".equals(name)) {
+                throw new InvalidFieldException(name);
+            }
+
+            // 대소문자가 달라도 같은 프로퍼티로 찾아지므로 프로퍼티 이름으로 맞춘다.
+            fieldSet.add(descriptor.getName());
+        }
+
+        return fieldSet.isEmpty() ? ALL : new FieldSet(Collections.unmodifiableSet(fieldSet), type);
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean contains(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    public boolean containsAny(String... names) {
+        for (String name : names) {
+            if (contains(name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @JsonFilter(FILTER_ID) 가 붙은 응답에서 요청되지 않은 필드를 빼고 내보낸다. 전체 필드면 모두 내보낸다.
+     */
+    public MappingJacksonValue toJson(Object body) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider().addFilter(FILTER_ID, fields == null
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+
+        return value;
+    }
+
+    /**
+     * 요청되지 않은 필드를 null 로 비운다. 전체 필드면 그대로 돌려준다.
+     */
+    public <T> T apply(T dto) {
+        if (fields == null || dto == null) {
+            return dto;
+        }
+
+        BeanWrapper wrapper = new BeanWrapperImpl(dto);
+
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+            String name = descriptor.getName();
+
+            if (!fields.contains(name) && wrapper.isWritableProperty(name)
+                    && !descriptor.getPropertyType().isPrimitive()) {
+                wrapper.setPropertyValue(name, null);
+            }
+        }
+
+        return dto;
+    }
+}
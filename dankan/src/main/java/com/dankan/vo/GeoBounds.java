@@ -0,0 +1,64 @@
+package com.dankan.vo;
+
+import com.dankan.exception.geo.InvalidGeoBoundsException;
+import com.dankan.util.GeoUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지도 검색 영역. 화면 영역(사각형) 또는 중심점과 반경(m)
+ * 반경 검색은 외접 사각형으로 후보를 좁힌 뒤 거리로 다시 거른다.
+ */
+@Getter
+@AllArgsConstructor
+public class GeoBounds {
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double MAX_RADIUS = 10_000.0;
+    private static final double MAX_SPAN = 0.5;
+
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    private final Double centerLatitude;
+    private final Double centerLongitude;
+    private final Double radius;
+
+    public static GeoBounds circle(Double latitude, Double longitude, Double radius) {
+        if (latitude == null || longitude == null || radius == null
+                || radius <= 0 || radius > MAX_RADIUS || Math.abs(latitude) > 85.0 || Math.abs(longitude) > 180.0) {
+            throw new InvalidGeoBoundsException(latitude + "," + longitude + " r=" + radius);
+        }
+
+        double dLatitude = radius / METERS_PER_DEGREE;
+        double dLongitude = radius / (METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude)));
+
+        return new GeoBounds(latitude - dLatitude, latitude + dLatitude,
+                Math.max(-180.0, longitude - dLongitude), Math.min(180.0, longitude + dLongitude),
+                latitude, longitude, radius);
+    }
+
+    public static GeoBounds box(Double minLatitude, Double maxLatitude, Double minLongitude, Double maxLongitude) {
+        if (minLatitude == null || maxLatitude == null || minLongitude == null || maxLongitude == null
+                || minLatitude > maxLatitude || minLongitude > maxLongitude
+                || maxLatitude - minLatitude > MAX_SPAN || maxLongitude - minLongitude > MAX_SPAN
+                || minLatitude < -90.0 || maxLatitude > 90.0 || minLongitude < -180.0 || maxLongitude > 180.0) {
+            throw new InvalidGeoBoundsException(minLatitude + "," + minLongitude + " ~ " + maxLatitude + "," + maxLongitude);
+        }
+
+        return new GeoBounds(minLatitude, maxLatitude, minLongitude, maxLongitude, null, null, null);
+    }
+
+    public boolean isCircle() {
+        return radius != null;
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        if (latitude < minLatitude || latitude > maxLatitude || longitude < minLongitude || longitude > maxLongitude) {
+            return false;
+        }
+
+        return !isCircle() || GeoUtil.distance(centerLatitude, centerLongitude, latitude, longitude) <= radius;
+    }
+}
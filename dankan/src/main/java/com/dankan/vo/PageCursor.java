@@ -0,0 +1,67 @@
+package com.dankan.vo;
+
+import com.dankan.exception.page.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 목록 조회용 커서 (createdAt, id) 와 선택적인 정렬 키(가격, 찜 여부 등)
+ * 클라이언트에는 base64 문자열로만 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+    private static final LocalDateTime MAX_DATE_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String DELIMITER = "|";
+
+    private final Long sortKey;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    // 첫 페이지: 모든 행보다 뒤에 있는 커서
+    public static PageCursor first() {
+        return new PageCursor(null, MAX_DATE_TIME, Long.MAX_VALUE);
+    }
+
+    public static PageCursor of(LocalDateTime createdAt, Long id) {
+        return new PageCursor(null, createdAt, id);
+    }
+
+    public static PageCursor of(Long sortKey, LocalDateTime createdAt, Long id) {
+        return new PageCursor(sortKey, createdAt, id);
+    }
+
+    public boolean isFirst() {
+        return sortKey == null && id == Long.MAX_VALUE;
+    }
+
+    public String encode() {
+        String raw = (sortKey == null ? "" : sortKey) + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 3) {
+                throw new InvalidCursorException(cursor);
+            }
+
+            Long sortKey = parts[0].isEmpty() ? null : Long.parseLong(parts[0]);
+
+            return new PageCursor(sortKey, LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.dankan.vo;
+
+import com.dankan.exception.page.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 별점순 주소 목록 커서 (평균 별점 * 1000, 후기 수, 주소)
+ * 평균, 후기 수는 내림차순, 주소는 오름차순으로 이어서 읽는다. 클라이언트에는 base64 문자열로만 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class RatingCursor {
+    private static final String DELIMITER = "|";
+
+    private final Long avgRateMilli;
+    private final Long reviewCount;
+    private final String address;
+
+    // 첫 페이지: 모든 행보다 앞에 있는 커서
+    public static RatingCursor first() {
+        return new RatingCursor(Long.MAX_VALUE, Long.MAX_VALUE, "");
+    }
+
+    public static RatingCursor of(Long avgRateMilli, Long reviewCount, String address) {
+        return new RatingCursor(avgRateMilli, reviewCount, address);
+    }
+
+    public String encode() {
+        String raw = avgRateMilli + DELIMITER + reviewCount + DELIMITER + address;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RatingCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+
+            return new RatingCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
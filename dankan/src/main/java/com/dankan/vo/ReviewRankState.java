@@ -0,0 +1,16 @@
+package com.dankan.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주소별 후기 집계 중 동별 분포를 옮길 때 필요한 값
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewRankState {
+    private final Long reviewCount;
+    private final Long avgRateMilli;
+    private final Long dongCode;
+    private final Long rateBucket;
+}
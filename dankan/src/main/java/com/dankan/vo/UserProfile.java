@@ -0,0 +1,24 @@
+package com.dankan.vo;
+
+import com.dankan.domain.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 목록에 붙이는 작성자 정보. 권한(authorities)까지 읽는 User 엔티티 대신 쓴다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserProfile {
+    private Long userId;
+    private String nickname;
+    private String profileImg;
+
+    public static UserProfile of(User user) {
+        return new UserProfile(user.getUserId(), user.getNickname(), user.getProfileImg());
+    }
+}
@@ -0,0 +1,2 @@
+-- 매물 필터의 옵션 조건(code_key, value)을 options 테이블 인덱스로 처리한다.
+CREATE INDEX idx_options_code_key_value_room_id ON options (code_key, value, room_id);
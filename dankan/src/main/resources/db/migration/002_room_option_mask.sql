@@ -0,0 +1,5 @@
+-- 옵션 비트마스크 컬럼. 기존 데이터는 관리자 API(/admin/backfill/room-option-mask)로 채운다.
+ALTER TABLE room
+    ADD COLUMN option_mask int NOT NULL DEFAULT 0,
+    ADD COLUMN management_mask int NOT NULL DEFAULT 0,
+    ADD COLUMN etc_option_mask int NOT NULL DEFAULT 0;
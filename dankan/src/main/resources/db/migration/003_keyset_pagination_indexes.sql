@@ -0,0 +1,7 @@
+-- 목록 API 커서(keyset) 페이지네이션용 인덱스. (조건 컬럼, 정렬 컬럼) 순서로 만든다.
+CREATE INDEX idx_post_user_id_created_at ON post (user_id, created_at);
+CREATE INDEX idx_post_heart_user_id_created_at ON post_heart (user_id, created_at);
+CREATE INDEX idx_recent_watch_post_user_id_updated_at ON recent_watch_post (user_id, updated_at);
+CREATE INDEX idx_room_univ_is_tradeable_created_at ON room (univ, is_tradeable, created_at);
+CREATE INDEX idx_review_address_created_at ON review (address, created_at);
+CREATE INDEX idx_review_deleted_at_created_at ON review (deleted_at, created_at);
@@ -0,0 +1,4 @@
+-- 지도 검색용 geohash 컬럼. 기존 데이터는 관리자 API(/admin/backfill/room-geohash)로 채운다.
+ALTER TABLE room
+    ADD COLUMN geohash varchar(7) NULL;
+CREATE INDEX idx_room_univ_geohash ON room (univ, geohash);
@@ -0,0 +1,3 @@
+-- 주소 부분 검색용 FULLTEXT(ngram) 인덱스. 검색어는 ngram_token_size(기본 2) 이상이어야 한다.
+ALTER TABLE room ADD FULLTEXT INDEX ft_room_address (address) WITH PARSER ngram;
+ALTER TABLE review ADD FULLTEXT INDEX ft_review_address (address) WITH PARSER ngram;
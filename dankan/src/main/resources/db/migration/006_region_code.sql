@@ -0,0 +1,24 @@
+-- 행정구역 사전과 room, review 의 행정구역 코드 컬럼. 기존 데이터는 관리자 API(/admin/backfill/region-code)로 채운다.
+CREATE TABLE region (
+    region_id    int         NOT NULL AUTO_INCREMENT,
+    parent_id    int         NOT NULL,
+    region_level tinyint     NOT NULL,
+    name         varchar(32) NOT NULL,
+    PRIMARY KEY (region_id),
+    UNIQUE KEY uk_region_parent_level_name (parent_id, region_level, name)
+);
+
+ALTER TABLE room
+    ADD COLUMN doo_code int NULL,
+    ADD COLUMN si_code int NULL,
+    ADD COLUMN gu_code int NULL,
+    ADD COLUMN dong_code int NULL;
+CREATE INDEX idx_room_univ_gu_code ON room (univ, gu_code);
+CREATE INDEX idx_room_univ_dong_code ON room (univ, dong_code);
+
+ALTER TABLE review
+    ADD COLUMN doo_code int NULL,
+    ADD COLUMN si_code int NULL,
+    ADD COLUMN gu_code int NULL,
+    ADD COLUMN dong_code int NULL;
+CREATE INDEX idx_review_dong_code_created_at ON review (dong_code, created_at);
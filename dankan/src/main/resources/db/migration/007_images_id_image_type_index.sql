@@ -0,0 +1,2 @@
+-- 대표 이미지, 이미지 종류별 조회 (id, image_type) 인덱스
+CREATE INDEX idx_images_id_image_type ON images (id, image_type);
@@ -0,0 +1,24 @@
+-- 목록 조회용 읽기 모델. 거래 가능한 매물의 살아있는 게시물 하나당 한 행이다.
+-- 기존 데이터는 관리자 API(/admin/backfill/post-listing-view)로 채운다.
+CREATE TABLE post_listing_view (
+    post_id         int          NOT NULL,
+    room_id         bigint       NOT NULL,
+    user_id         bigint       NOT NULL,
+    univ            varchar(16)  NOT NULL,
+    deal_type       varchar(16)  NOT NULL,
+    price_type      varchar(16)  NOT NULL,
+    structure       varchar(16)  NOT NULL,
+    price           int          NOT NULL,
+    deposit         int          NOT NULL,
+    address         varchar(100) NOT NULL,
+    floor           int          NOT NULL,
+    room_size       double       NOT NULL,
+    real_room_size  double       NOT NULL,
+    img_url         varchar(255) NULL,
+    post_created_at datetime(6)  NOT NULL,
+    room_created_at datetime(6)  NOT NULL,
+    PRIMARY KEY (post_id),
+    UNIQUE KEY uk_post_listing_view_room_id (room_id),
+    KEY idx_post_listing_view_room_created_at (room_created_at)
+);
+ALTER TABLE post_listing_view ADD FULLTEXT INDEX ft_post_listing_view_address (address) WITH PARSER ngram;
@@ -0,0 +1,12 @@
+-- 주소별 후기 집계 (개수, 항목별 별점 합). 기존 데이터는 관리자 API(/admin/backfill/review-aggregate)로 채운다.
+CREATE TABLE review_aggregate (
+    address           varchar(100) NOT NULL,
+    review_count      int          NOT NULL,
+    total_rate_sum    double       NOT NULL,
+    clean_rate_sum    bigint       NOT NULL,
+    noise_rate_sum    bigint       NOT NULL,
+    access_rate_sum   bigint       NOT NULL,
+    host_rate_sum     bigint       NOT NULL,
+    facility_rate_sum bigint       NOT NULL,
+    PRIMARY KEY (address)
+);
@@ -0,0 +1,8 @@
+-- 별점순 주소 목록용 정렬 키와 행정구역 범위 컬럼. 추가 후 관리자 API(/admin/backfill/review-aggregate)로 다시 채운다.
+ALTER TABLE review_aggregate
+    ADD COLUMN avg_rate_milli int NOT NULL DEFAULT 0,
+    ADD COLUMN gu_code int NULL,
+    ADD COLUMN dong_code int NULL;
+CREATE INDEX idx_review_aggregate_rank ON review_aggregate (avg_rate_milli DESC, review_count DESC, address);
+CREATE INDEX idx_review_aggregate_gu_code_rank ON review_aggregate (gu_code, avg_rate_milli DESC, review_count DESC, address);
+CREATE INDEX idx_review_aggregate_dong_code_rank ON review_aggregate (dong_code, avg_rate_milli DESC, review_count DESC, address);
@@ -0,0 +1,9 @@
+-- 주소 키 -> 대표 매물, 대표 이미지. 같은 주소의 첫 매물을 대표로 쓴다.
+-- 기존 데이터는 관리자 API(/admin/backfill/address-room)로 채운다.
+CREATE TABLE address_room (
+    address_key varchar(100) NOT NULL,
+    room_id     bigint       NOT NULL,
+    img_url     varchar(255) NULL,
+    PRIMARY KEY (address_key),
+    KEY idx_address_room_room_id (room_id)
+);
@@ -0,0 +1,21 @@
+-- 세부 별점 분포(주소, 동 범위)와 동별 평균 별점 분포. 추가 후 관리자 API(/admin/backfill/review-aggregate)로 다시 채운다.
+CREATE TABLE review_histogram (
+    scope_type varchar(8)   NOT NULL,
+    scope_key  varchar(100) NOT NULL,
+    item       varchar(16)  NOT NULL,
+    count_1    int          NOT NULL DEFAULT 0,
+    count_2    int          NOT NULL DEFAULT 0,
+    count_3    int          NOT NULL DEFAULT 0,
+    count_4    int          NOT NULL DEFAULT 0,
+    count_5    int          NOT NULL DEFAULT 0,
+    PRIMARY KEY (scope_type, scope_key, item)
+);
+
+CREATE TABLE review_rank_bucket (
+    dong_code     int NOT NULL,
+    rate_bucket   int NOT NULL,
+    address_count int NOT NULL DEFAULT 0,
+    PRIMARY KEY (dong_code, rate_bucket)
+);
+
+ALTER TABLE review_aggregate ADD COLUMN rate_bucket int NULL;
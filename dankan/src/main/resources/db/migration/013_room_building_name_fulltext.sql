@@ -0,0 +1,2 @@
+-- 건물명 부분 검색용 FULLTEXT(ngram) 인덱스. 후기 건물명 검색은 이 인덱스로 매물 주소를 찾아 후기를 조회한다.
+ALTER TABLE room ADD FULLTEXT INDEX ft_room_building_name (building_name) WITH PARSER ngram;
@@ -0,0 +1,57 @@
+package com.dankan.service.review;
+
+import com.dankan.domain.ReviewRankBucket;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class ReviewStatsUpdaterTest {
+    private static final Long DONG_CODE = 1121510700L;
+
+    @Test
+    void countsBelowAndHalfOfSameBucket() {
+        // 30 칸 2곳, 40 칸 4곳(자신 포함), 45 칸 4곳 -> (2 + 4 / 2) / 10
+        List<ReviewRankBucket> rankBucketList = Arrays.asList(bucket(30L, 2L), bucket(40L, 4L), bucket(45L, 4L));
+
+        then(ReviewStatsUpdater.percentileRank(40L, rankBucketList)).isEqualTo(40.0);
+        then(ReviewStatsUpdater.countAddresses(rankBucketList)).isEqualTo(10L);
+    }
+
+    @Test
+    void onlyAddressInDongIsFiftyPercent() {
+        then(ReviewStatsUpdater.percentileRank(35L, Collections.singletonList(bucket(35L, 1L)))).isEqualTo(50.0);
+    }
+
+    @Test
+    void lowestAndHighestBuckets() {
+        List<ReviewRankBucket> rankBucketList = Arrays.asList(bucket(10L, 1L), bucket(30L, 98L), bucket(50L, 1L));
+
+        then(ReviewStatsUpdater.percentileRank(10L, rankBucketList)).isEqualTo(0.5);
+        then(ReviewStatsUpdater.percentileRank(50L, rankBucketList)).isEqualTo(99.5);
+    }
+
+    @Test
+    void roundsToOneDecimal() {
+        // (1 + 1 / 2) / 3 = 50%, (0 + 1 / 2) / 3 = 16.666..%
+        List<ReviewRankBucket> rankBucketList = Arrays.asList(bucket(20L, 1L), bucket(30L, 1L), bucket(40L, 1L));
+
+        then(ReviewStatsUpdater.percentileRank(30L, rankBucketList)).isEqualTo(50.0);
+        then(ReviewStatsUpdater.percentileRank(20L, rankBucketList)).isEqualTo(16.7);
+    }
+
+    @Test
+    void emptyDongOrNoBucketIsNull() {
+        then(ReviewStatsUpdater.percentileRank(40L, Collections.emptyList())).isNull();
+        then(ReviewStatsUpdater.percentileRank(40L, Collections.singletonList(bucket(40L, 0L)))).isNull();
+        then(ReviewStatsUpdater.percentileRank(null, Collections.singletonList(bucket(40L, 1L)))).isNull();
+        then(ReviewStatsUpdater.countAddresses(Collections.emptyList())).isZero();
+    }
+
+    private static ReviewRankBucket bucket(Long rateBucket, Long addressCount) {
+        return new ReviewRankBucket(DONG_CODE, rateBucket, addressCount);
+    }
+}
@@ -0,0 +1,124 @@
+package com.dankan.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class AddressTrieTest {
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+    @Test
+    void searchByPrefix() {
+        AddressTrie trie = new AddressTrie();
+        trie.insert("봉천동", 1);
+        trie.insert("봉천로", 2);
+        trie.insert("신림동", 3);
+
+        then(trie.search("봉", 10, ORDER)).containsExactly(1, 2);
+        then(trie.search("봉천동", 10, ORDER)).containsExactly(1);
+        then(trie.search("신", 10, ORDER)).containsExactly(3);
+        then(trie.search("", 10, ORDER)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void prefixEndingInsideEdge() {
+        AddressTrie trie = new AddressTrie();
+        trie.insert("봉천동", 1);
+
+        then(trie.search("봉천", 10, ORDER)).containsExactly(1);
+        then(trie.search("봉신", 10, ORDER)).isEmpty();
+        then(trie.search("봉천동1", 10, ORDER)).isEmpty();
+    }
+
+    @Test
+    void splitEdgeKeepsBothKeys() {
+        AddressTrie trie = new AddressTrie();
+        trie.insert("봉천동", 1);
+        trie.insert("봉", 2);
+
+        then(trie.search("봉", 10, ORDER)).containsExactly(1, 2);
+        then(trie.search("봉천", 10, ORDER)).containsExactly(1);
+    }
+
+    @Test
+    void sameKeyHoldsSeveralTerms() {
+        AddressTrie trie = new AddressTrie();
+        trie.insert("봉천동", 2);
+        trie.insert("봉천동", 1);
+
+        then(trie.search("봉천동", 10, ORDER)).containsExactly(1, 2);
+    }
+
+    @Test
+    void limitToSizeAndCacheSize() {
+        AddressTrie trie = new AddressTrie();
+
+        for (int i = 0; i < AddressTrie.CACHE_SIZE + 5; i++) {
+            trie.insert("관악구" + i, i);
+        }
+
+        then(trie.search("관", 3, ORDER)).containsExactly(0, 1, 2);
+        then(trie.search("관", 100, ORDER)).hasSize(AddressTrie.CACHE_SIZE);
+    }
+
+    @Test
+    void insertInvalidatesCachedTop() {
+        AddressTrie trie = new AddressTrie();
+        trie.insert("봉천동", 5);
+
+        then(trie.search("봉", 10, ORDER)).containsExactly(5);
+
+        trie.insert("봉천로", 1);
+
+        then(trie.search("봉", 10, ORDER)).containsExactly(1, 5);
+    }
+
+    @Test
+    void remove() {
+        AddressTrie trie = new AddressTrie();
+        trie.insert("봉천동", 1);
+        trie.insert("봉천로", 2);
+
+        then(trie.search("봉", 10, ORDER)).containsExactly(1, 2);
+
+        trie.remove("봉천동", 1);
+
+        then(trie.search("봉", 10, ORDER)).containsExactly(2);
+        then(trie.search("봉천동", 10, ORDER)).isEmpty();
+    }
+
+    @Test
+    void removeMissingKeyIsNoop() {
+        AddressTrie trie = new AddressTrie();
+        trie.insert("봉천동", 1);
+
+        trie.remove("신림동", 1);
+        trie.remove("봉천", 1);
+        trie.remove("봉천동", 2);
+
+        then(trie.search("봉", 10, ORDER)).containsExactly(1);
+    }
+
+    @Test
+    void invalidateReordersAfterScoreChange() {
+        Map<Integer, Integer> scores = new HashMap<>();
+        scores.put(1, 10);
+        scores.put(2, 5);
+        Comparator<Integer> byScore = Comparator.comparing(scores::get);
+
+        AddressTrie trie = new AddressTrie();
+        trie.insert("봉천동", 1);
+        trie.insert("봉천로", 2);
+
+        then(trie.search("봉", 10, byScore)).containsExactly(2, 1);
+
+        scores.put(1, 1);
+        trie.invalidate("봉천동");
+
+        then(trie.search("봉", 10, byScore)).containsExactly(1, 2);
+    }
+}
@@ -0,0 +1,96 @@
+package com.dankan.util;
+
+import com.dankan.vo.AddressParts;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class AddressParserTest {
+
+    @Test
+    void parseJibunAddress() {
+        AddressParts parts = AddressParser.parse("서울특별시 관악구 봉천동 123-4 행복빌라");
+
+        then(parts.getDoo()).isEqualTo("서울특별시");
+        then(parts.getSi()).isEmpty();
+        then(parts.getGu()).isEqualTo("관악구");
+        then(parts.getDong()).isEqualTo("봉천동");
+        then(parts.getBuildingName()).isEqualTo("123-4 행복빌라");
+    }
+
+    @Test
+    void parseAllLevels() {
+        AddressParts parts = AddressParser.parse("경기도 수원시 영통구 매탄동 1");
+
+        then(parts.getDoo()).isEqualTo("경기도");
+        then(parts.getSi()).isEqualTo("수원시");
+        then(parts.getGu()).isEqualTo("영통구");
+        then(parts.getDong()).isEqualTo("매탄동");
+        then(parts.getBuildingName()).isEqualTo("1");
+    }
+
+    @Test
+    void parseWithoutGu() {
+        AddressParts parts = AddressParser.parse("세종특별자치시 조치원읍 세종로 2639");
+
+        then(parts.getDoo()).isEqualTo("세종특별자치시");
+        then(parts.getGu()).isEmpty();
+        then(parts.getDong()).isEqualTo("조치원읍");
+        then(parts.getBuildingName()).isEqualTo("세종로 2639");
+    }
+
+    @Test
+    void roadNameStartsBuildingName() {
+        AddressParts parts = AddressParser.parse("서울특별시 관악구 관악로 1");
+
+        then(parts.getGu()).isEqualTo("관악구");
+        then(parts.getDong()).isEmpty();
+        then(parts.getBuildingName()).isEqualTo("관악로 1");
+    }
+
+    @Test
+    void levelGoingBackwardStartsBuildingName() {
+        AddressParts parts = AddressParser.parse("서울특별시 봉천동 관악구 빌라");
+
+        then(parts.getDong()).isEqualTo("봉천동");
+        then(parts.getGu()).isEmpty();
+        then(parts.getBuildingName()).isEqualTo("관악구 빌라");
+    }
+
+    @Test
+    void singleCharacterWordIsNotRegion() {
+        AddressParts parts = AddressParser.parse("서울특별시 관악구 가 1");
+
+        then(parts.getGu()).isEqualTo("관악구");
+        then(parts.getBuildingName()).isEqualTo("가 1");
+    }
+
+    @Test
+    void collapseWhitespace() {
+        AddressParts parts = AddressParser.parse("  서울특별시   관악구\t봉천동  ");
+
+        then(parts.getDoo()).isEqualTo("서울특별시");
+        then(parts.getGu()).isEqualTo("관악구");
+        then(parts.getDong()).isEqualTo("봉천동");
+        then(parts.getBuildingName()).isEmpty();
+    }
+
+    @Test
+    void parseNullOrBlank() {
+        for (String address : new String[]{null, "", "   "}) {
+            AddressParts parts = AddressParser.parse(address);
+
+            then(parts.getDoo()).isEmpty();
+            then(parts.getSi()).isEmpty();
+            then(parts.getGu()).isEmpty();
+            then(parts.getDong()).isEmpty();
+            then(parts.getBuildingName()).isEmpty();
+        }
+    }
+
+    @Test
+    void toKey() {
+        then(AddressParser.toKey("  서울특별시  관악구 \t봉천동 ")).isEqualTo("서울특별시 관악구 봉천동");
+        then(AddressParser.toKey(null)).isEmpty();
+    }
+}
@@ -0,0 +1,45 @@
+package com.dankan.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class FullTextUtilTest {
+    private static final String ADDRESS = "서울특별시 광진구 화양동  1-1";
+
+    @Test
+    void searchableNeedsTwoCharactersWithoutOperators() {
+        then(FullTextUtil.isSearchable(null)).isFalse();
+        then(FullTextUtil.isSearchable("화")).isFalse();
+        then(FullTextUtil.isSearchable(" + 화 ")).isFalse();
+        then(FullTextUtil.isSearchable("화 양")).isTrue();
+    }
+
+    @Test
+    void toPhraseCleansOperatorsAndWhitespace() {
+        then(FullTextUtil.toPhrase("  광진구   \"화양동\"+ ")).isEqualTo("\"광진구 화양동\"");
+    }
+
+    @Test
+    void matchesNormalizesLikePhrase() {
+        then(FullTextUtil.matches(ADDRESS, "광진구 화양동")).isTrue();
+        then(FullTextUtil.matches(ADDRESS, " 광진구   화양동 ")).isTrue();
+        then(FullTextUtil.matches(ADDRESS, "화양동 1")).isTrue();
+        then(FullTextUtil.matches(ADDRESS, "+광진구")).isTrue();
+        then(FullTextUtil.matches(ADDRESS, "광진구화양동")).isFalse();
+        then(FullTextUtil.matches(ADDRESS, "성동구")).isFalse();
+    }
+
+    @Test
+    void shortKeywordIsPlainSubstring() {
+        then(FullTextUtil.matches(ADDRESS, "화")).isTrue();
+        then(FullTextUtil.matches(ADDRESS, "-")).isTrue();
+        then(FullTextUtil.matches(ADDRESS, "강")).isFalse();
+    }
+
+    @Test
+    void nullKeywordMatchesEverything() {
+        then(FullTextUtil.matches(ADDRESS, null)).isTrue();
+        then(FullTextUtil.matches(null, "광진구")).isFalse();
+    }
+}
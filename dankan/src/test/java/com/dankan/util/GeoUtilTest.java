@@ -0,0 +1,78 @@
+package com.dankan.util;
+
+import com.dankan.vo.GeoBounds;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoUtilTest {
+
+    @Test
+    void encodeKnownGeohash() {
+        then(GeoUtil.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        then(GeoUtil.encode(0.0, 0.0, 5)).isEqualTo("s0000");
+    }
+
+    @Test
+    void shorterHashIsPrefix() {
+        String hash = GeoUtil.encode(37.4812, 126.9527, 12);
+
+        then(GeoUtil.encode(37.4812, 126.9527, GeoUtil.GEOHASH_LENGTH)).isEqualTo(hash.substring(0, GeoUtil.GEOHASH_LENGTH));
+    }
+
+    @Test
+    void encodeBitsMatchesBase32() {
+        long bits = GeoUtil.encodeBits(37.4812, 126.9527, 35);
+
+        then(Long.toBinaryString(bits).length()).isLessThanOrEqualTo(35);
+        then(GeoUtil.encodeBits(37.4812, 126.9527, 30)).isEqualTo(bits >>> 5);
+    }
+
+    @Test
+    void encodeBoundaries() {
+        then(GeoUtil.encode(-90.0, -180.0, 5)).isEqualTo("00000");
+        then(GeoUtil.encode(90.0, 180.0, 5)).isEqualTo("zzzzz");
+    }
+
+    @Test
+    void coverBitsContainsInnerPoint() {
+        GeoBounds bounds = GeoBounds.box(37.47, 37.49, 126.94, 126.96);
+        List<Long> cells = GeoUtil.coverBits(bounds, 30, 64);
+
+        then(cells).isNotNull();
+        then(cells).contains(GeoUtil.encodeBits(37.4812, 126.9527, 30));
+        then(cells).contains(GeoUtil.encodeBits(37.47, 126.94, 30));
+        then(cells).contains(GeoUtil.encodeBits(37.49, 126.96, 30));
+    }
+
+    @Test
+    void coverBitsReturnsNullOverMaxCells() {
+        GeoBounds bounds = GeoBounds.box(37.3, 37.7, 126.7, 127.1);
+
+        then(GeoUtil.coverBits(bounds, 35, 64)).isNull();
+    }
+
+    @Test
+    void coverFallsBackToShorterPrefix() {
+        GeoBounds bounds = GeoBounds.circle(37.4812, 126.9527, 1_000.0);
+        List<String> prefixes = GeoUtil.cover(bounds, GeoUtil.GEOHASH_LENGTH, 16);
+
+        then(prefixes).isNotEmpty().hasSizeLessThanOrEqualTo(16);
+        then(prefixes.get(0).length()).isLessThan(GeoUtil.GEOHASH_LENGTH);
+
+        String hash = GeoUtil.encode(37.4812, 126.9527, GeoUtil.GEOHASH_LENGTH);
+
+        then(prefixes).anyMatch(hash::startsWith);
+    }
+
+    @Test
+    void distance() {
+        then(GeoUtil.distance(37.4812, 126.9527, 37.4812, 126.9527)).isEqualTo(0.0);
+        // 위도 1도 = 2 * pi * R / 360
+        then(GeoUtil.distance(37.0, 127.0, 38.0, 127.0)).isCloseTo(111_194.9, within(1.0));
+        then(GeoUtil.distance(37.0, 127.0, 38.0, 127.0)).isEqualTo(GeoUtil.distance(38.0, 127.0, 37.0, 127.0));
+    }
+}
@@ -0,0 +1,37 @@
+package com.dankan.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class HangulUtilTest {
+
+    @Test
+    void toChosung() {
+        then(HangulUtil.toChosung("봉천동")).isEqualTo("ㅂㅊㄷ");
+        then(HangulUtil.toChosung("쌍문동")).isEqualTo("ㅆㅁㄷ");
+    }
+
+    @Test
+    void keepNonSyllables() {
+        then(HangulUtil.toChosung("신림1동 A-12 ㄱ")).isEqualTo("ㅅㄹ1ㄷ A-12 ㄱ");
+        then(HangulUtil.toChosung("")).isEmpty();
+    }
+
+    @Test
+    void syllableBoundaries() {
+        then(HangulUtil.toChosung("가")).isEqualTo("ㄱ");
+        then(HangulUtil.toChosung("힣")).isEqualTo("ㅎ");
+        // 완성형 범위 바로 앞뒤 문자는 그대로 둔다.
+        then(HangulUtil.toChosung("꯿힤")).isEqualTo("꯿힤");
+    }
+
+    @Test
+    void hasChosung() {
+        then(HangulUtil.hasChosung("ㅂㅊ")).isTrue();
+        then(HangulUtil.hasChosung("봉ㅊ")).isTrue();
+        then(HangulUtil.hasChosung("봉천")).isFalse();
+        then(HangulUtil.hasChosung("abc")).isFalse();
+        then(HangulUtil.hasChosung("")).isFalse();
+    }
+}
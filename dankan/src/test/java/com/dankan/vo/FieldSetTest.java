@@ -0,0 +1,126 @@
+package com.dankan.vo;
+
+import com.dankan.exception.field.InvalidFieldException;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class FieldSetTest {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SampleDto {
+        private Long postId;
+        private Long price;
+        private String imgUrl;
+        private int floor;
+    }
+
+    @JsonFilter(FieldSet.FILTER_ID)
+    public static class FilteredDto extends SampleDto {
+        public FilteredDto(Long postId, Long price, String imgUrl, int floor) {
+            super(postId, price, imgUrl, floor);
+        }
+    }
+
+    @Test
+    void nullOrBlankIsAll() {
+        for (String fields : new String[]{null, "", "  ", ",", " , ,"}) {
+            FieldSet fieldSet = FieldSet.parse(fields, SampleDto.class);
+
+            then(fieldSet.isAll()).isTrue();
+            then(fieldSet.contains("anything")).isTrue();
+        }
+    }
+
+    @Test
+    void parseTrimsAndSkipsEmptyNames() {
+        FieldSet fieldSet = FieldSet.parse(" postId , ,price,", SampleDto.class);
+
+        then(fieldSet.isAll()).isFalse();
+        then(fieldSet.contains("postId")).isTrue();
+        then(fieldSet.contains("price")).isTrue();
+        then(fieldSet.contains("imgUrl")).isFalse();
+        then(fieldSet.containsAny("imgUrl", "price")).isTrue();
+        then(fieldSet.containsAny("imgUrl", "floor")).isFalse();
+    }
+
+    @Test
+    void unknownFieldIsRejected() {
+        thenThrownBy(() -> FieldSet.parse("postId,unknown", SampleDto.class))
+                .isInstanceOf(InvalidFieldException.class);
+    }
+
+    @Test
+    void capitalizedNameIsNormalized() {
+        FieldSet fieldSet = FieldSet.parse("PostId", SampleDto.class);
+        SampleDto dto = fieldSet.apply(new SampleDto(1L, 1000L, "url", 3));
+
+        then(fieldSet.contains("postId")).isTrue();
+        then(dto.getPostId()).isEqualTo(1L);
+        then(dto.getPrice()).isNull();
+    }
+
+    @Test
+    void classPropertyIsRejected() {
+        thenThrownBy(() -> FieldSet.parse("class", SampleDto.class))
+                .isInstanceOf(InvalidFieldException.class);
+    }
+
+    @Test
+    void applyClearsUnrequestedFields() {
+        SampleDto dto = FieldSet.parse("postId,imgUrl", SampleDto.class)
+                .apply(new SampleDto(1L, 1000L, "url", 3));
+
+        then(dto.getPostId()).isEqualTo(1L);
+        then(dto.getImgUrl()).isEqualTo("url");
+        then(dto.getPrice()).isNull();
+        // 원시 타입은 null 로 비울 수 없으므로 그대로 둔다.
+        then(dto.getFloor()).isEqualTo(3);
+    }
+
+    @Test
+    void applyAllKeepsEveryField() {
+        SampleDto dto = new SampleDto(1L, 1000L, "url", 3);
+
+        then(FieldSet.all().apply(dto)).isSameAs(dto);
+        then(dto.getPrice()).isEqualTo(1000L);
+        then(dto.getImgUrl()).isEqualTo("url");
+    }
+
+    @Test
+    void applyNullDto() {
+        then(FieldSet.parse("postId", SampleDto.class).apply((SampleDto) null)).isNull();
+    }
+
+    @Test
+    void toJsonKeepsOnlyRequestedFields() throws JsonProcessingException {
+        FilteredDto dto = new FilteredDto(1L, null, "url", 3);
+
+        then(write(FieldSet.parse("postId,price", FilteredDto.class).toJson(dto)))
+                .isEqualTo("{\"postId\":1,\"price\":null}");
+    }
+
+    @Test
+    void toJsonAllKeepsNullFields() throws JsonProcessingException {
+        FilteredDto dto = new FilteredDto(1L, null, null, 3);
+
+        then(write(FieldSet.all().toJson(dto)))
+                .contains("\"price\":null", "\"imgUrl\":null", "\"floor\":3");
+    }
+
+    private static String write(MappingJacksonValue value) throws JsonProcessingException {
+        return new ObjectMapper().writer(value.getFilters()).writeValueAsString(value.getValue());
+    }
+}
@@ -0,0 +1,77 @@
+package com.dankan.vo;
+
+import com.dankan.exception.page.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class PageCursorTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 5, 1, 12, 30, 15);
+
+    @Test
+    void roundTripWithoutSortKey() {
+        PageCursor cursor = PageCursor.decode(PageCursor.of(CREATED_AT, 42L).encode());
+
+        then(cursor.getSortKey()).isNull();
+        then(cursor.getCreatedAt()).isEqualTo(CREATED_AT);
+        then(cursor.getId()).isEqualTo(42L);
+        then(cursor.isFirst()).isFalse();
+    }
+
+    @Test
+    void roundTripWithSortKey() {
+        PageCursor cursor = PageCursor.decode(PageCursor.of(-5L, CREATED_AT, 7L).encode());
+
+        then(cursor.getSortKey()).isEqualTo(-5L);
+        then(cursor.getCreatedAt()).isEqualTo(CREATED_AT);
+        then(cursor.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void roundTripKeepsNanos() {
+        LocalDateTime createdAt = CREATED_AT.withNano(123_456_000);
+
+        then(PageCursor.decode(PageCursor.of(createdAt, 1L).encode()).getCreatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = PageCursor.of(Long.MAX_VALUE, CREATED_AT, Long.MAX_VALUE - 1).encode();
+
+        then(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void nullOrBlankIsFirstPage() {
+        then(PageCursor.decode(null).isFirst()).isTrue();
+        then(PageCursor.decode("").isFirst()).isTrue();
+        then(PageCursor.decode("  ").isFirst()).isTrue();
+    }
+
+    @Test
+    void firstPageRoundTrip() {
+        PageCursor first = PageCursor.first();
+
+        then(PageCursor.decode(first.encode()).isFirst()).isTrue();
+        then(PageCursor.of(1L, first.getCreatedAt(), first.getId()).isFirst()).isFalse();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        thenThrownBy(() -> PageCursor.decode("!!not-base64!!")).isInstanceOf(InvalidCursorException.class);
+        thenThrownBy(() -> PageCursor.decode(encode("abc"))).isInstanceOf(InvalidCursorException.class);
+        thenThrownBy(() -> PageCursor.decode(encode("|" + CREATED_AT))).isInstanceOf(InvalidCursorException.class);
+        thenThrownBy(() -> PageCursor.decode(encode("x|" + CREATED_AT + "|1"))).isInstanceOf(InvalidCursorException.class);
+        thenThrownBy(() -> PageCursor.decode(encode("|2023-13-01T00:00|1"))).isInstanceOf(InvalidCursorException.class);
+        thenThrownBy(() -> PageCursor.decode(encode("|" + CREATED_AT + "|1|2"))).isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
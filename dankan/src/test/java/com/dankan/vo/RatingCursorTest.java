@@ -0,0 +1,65 @@
+package com.dankan.vo;
+
+import com.dankan.exception.page.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class RatingCursorTest {
+
+    @Test
+    void roundTrip() {
+        RatingCursor cursor = RatingCursor.decode(RatingCursor.of(4500L, 12L, "서울특별시 광진구 화양동 1-1").encode());
+
+        then(cursor.getAvgRateMilli()).isEqualTo(4500L);
+        then(cursor.getReviewCount()).isEqualTo(12L);
+        then(cursor.getAddress()).isEqualTo("서울특별시 광진구 화양동 1-1");
+    }
+
+    @Test
+    void addressMayContainDelimiter() {
+        RatingCursor cursor = RatingCursor.decode(RatingCursor.of(1000L, 1L, "a|b|c").encode());
+
+        then(cursor.getAddress()).isEqualTo("a|b|c");
+    }
+
+    @Test
+    void emptyAddressRoundTrip() {
+        then(RatingCursor.decode(RatingCursor.of(0L, 0L, "").encode()).getAddress()).isEmpty();
+    }
+
+    @Test
+    void nullOrBlankIsFirstPage() {
+        RatingCursor first = RatingCursor.decode(null);
+
+        then(first.getAvgRateMilli()).isEqualTo(Long.MAX_VALUE);
+        then(first.getReviewCount()).isEqualTo(Long.MAX_VALUE);
+        then(first.getAddress()).isEmpty();
+        then(RatingCursor.decode(" ").getAvgRateMilli()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void firstPageRoundTrip() {
+        RatingCursor first = RatingCursor.decode(RatingCursor.first().encode());
+
+        then(first.getAvgRateMilli()).isEqualTo(Long.MAX_VALUE);
+        then(first.getReviewCount()).isEqualTo(Long.MAX_VALUE);
+        then(first.getAddress()).isEmpty();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        thenThrownBy(() -> RatingCursor.decode("%%%")).isInstanceOf(InvalidCursorException.class);
+        thenThrownBy(() -> RatingCursor.decode(encode("4500|12"))).isInstanceOf(InvalidCursorException.class);
+        thenThrownBy(() -> RatingCursor.decode(encode("4.5|12|addr"))).isInstanceOf(InvalidCursorException.class);
+        thenThrownBy(() -> RatingCursor.decode(encode("|12|addr"))).isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}